@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.common.util;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A fixed-size sliding window over primitive <code>double</code> values, backed by a ring buffer.
+ *
+ * <p>Once the window is full, adding a value evicts the oldest value. The window maintains the running sum of its
+ * values, such that the mean of the window can be obtained in constant time without boxing or allocating.
+ */
+public final class SlidingWindow {
+    private final double[] values;
+    private int head;
+    private int size;
+    private double sum;
+
+    /**
+     * Construct a {@link SlidingWindow} instance.
+     *
+     * @param capacity The maximum number of values in the window.
+     */
+    public SlidingWindow(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+
+        this.values = new double[capacity];
+    }
+
+    /**
+     * Add a value to the window, evicting the oldest value if the window is full.
+     *
+     * @param value The value to add.
+     */
+    public void add(double value) {
+        final double[] values = this.values;
+
+        if (size == values.length) {
+            sum -= values[head];
+            values[head] = value;
+            head = head + 1 == values.length ? 0 : head + 1;
+        } else {
+            int index = head + size;
+            values[index >= values.length ? index - values.length : index] = value;
+            size++;
+        }
+
+        sum += value;
+    }
+
+    /**
+     * Return the value at the specified position in the window, where 0 is the oldest value.
+     */
+    public double get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for window of size " + size);
+        }
+
+        int i = head + index;
+        return values[i >= values.length ? i - values.length : i];
+    }
+
+    /**
+     * Return the oldest value in the window.
+     *
+     * @throws NoSuchElementException if the window is empty.
+     */
+    public double getFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException("Window is empty");
+        }
+        return values[head];
+    }
+
+    /**
+     * Return the most recently added value in the window.
+     *
+     * @throws NoSuchElementException if the window is empty.
+     */
+    public double getLast() {
+        if (size == 0) {
+            throw new NoSuchElementException("Window is empty");
+        }
+        return get(size - 1);
+    }
+
+    /**
+     * Return the sum of the values in the window.
+     */
+    public double getSum() {
+        return sum;
+    }
+
+    /**
+     * Return the mean of the values in the window, or {@link Double#NaN} if the window is empty.
+     */
+    public double getMean() {
+        return sum / size;
+    }
+
+    /**
+     * Return the number of values in the window.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Return the maximum number of values in the window.
+     */
+    public int getCapacity() {
+        return values.length;
+    }
+
+    /**
+     * Determine whether the window contains no values.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Determine whether the window contains the maximum number of values.
+     */
+    public boolean isFull() {
+        return size == values.length;
+    }
+
+    /**
+     * Remove all values from the window.
+     */
+    public void clear() {
+        head = 0;
+        size = 0;
+        sum = 0.0;
+    }
+
+    @Override
+    public String toString() {
+        double[] copy = new double[size];
+        for (int i = 0; i < size; i++) {
+            copy[i] = get(i);
+        }
+        return "SlidingWindow" + Arrays.toString(copy);
+    }
+}
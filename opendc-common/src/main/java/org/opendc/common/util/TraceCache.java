@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.common.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * A memory-bounded cache for immutable data loaded from trace files.
+ *
+ * <p>Entries are keyed by the canonical path and the last modification time of the file, such that a trace that is
+ * changed on disk is loaded again. The cache keeps strong references to the loaded values and evicts the least
+ * recently used entries once the estimated size of all entries exceeds the configured capacity. Values stored in the
+ * cache are shared between all users, so they must not be modified.
+ *
+ * @param <V> The type of the values in the cache.
+ */
+public final class TraceCache<V> {
+    private final long capacity;
+    private final ToLongFunction<V> weigher;
+    private final LinkedHashMap<Key, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long size;
+
+    /**
+     * Construct a {@link TraceCache} instance.
+     *
+     * @param capacity The maximum estimated size of all values in the cache (in bytes).
+     * @param weigher A function to estimate the size of a value (in bytes).
+     */
+    public TraceCache(long capacity, ToLongFunction<V> weigher) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must be non-negative");
+        }
+
+        this.capacity = capacity;
+        this.weigher = weigher;
+    }
+
+    /**
+     * Obtain the value for the specified file from the cache or load it using the specified loader.
+     *
+     * <p>Values that are larger than the capacity of the cache are returned, but not cached.
+     *
+     * @param file The trace file to obtain the value for.
+     * @param loader The function to load the value if it is not present in the cache.
+     * @return The (possibly cached) value for the file.
+     */
+    public V get(File file, Function<File, V> loader) {
+        final Key key = Key.of(file);
+
+        synchronized (this) {
+            final Entry<V> entry = entries.get(key);
+            if (entry != null) {
+                return entry.value;
+            }
+        }
+
+        // Load the value outside the lock, so that other traces can be loaded concurrently
+        final V value = Objects.requireNonNull(loader.apply(file));
+        final long weight = Math.max(0, weigher.applyAsLong(value));
+
+        if (weight > capacity) {
+            return value;
+        }
+
+        synchronized (this) {
+            final Entry<V> existing = entries.get(key);
+            if (existing != null) {
+                return existing.value;
+            }
+
+            entries.put(key, new Entry<>(value, weight));
+            size += weight;
+            evict();
+        }
+
+        return value;
+    }
+
+    /**
+     * Return the estimated size of all values in the cache (in bytes).
+     */
+    public synchronized long size() {
+        return size;
+    }
+
+    /**
+     * Return the number of values in the cache.
+     */
+    public synchronized int count() {
+        return entries.size();
+    }
+
+    /**
+     * Remove all values from the cache.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        size = 0;
+    }
+
+    /**
+     * Evict the least recently used entries until the size of the cache no longer exceeds its capacity.
+     */
+    private void evict() {
+        final Iterator<Map.Entry<Key, Entry<V>>> iterator = entries.entrySet().iterator();
+
+        while (size > capacity && iterator.hasNext()) {
+            size -= iterator.next().getValue().weight;
+            iterator.remove();
+        }
+    }
+
+    /**
+     * A value stored in the cache together with its estimated size.
+     */
+    private record Entry<V>(V value, long weight) {}
+
+    /**
+     * The key of a cached trace file.
+     */
+    private record Key(String path, long lastModified) {
+        static Key of(File file) {
+            try {
+                return new Key(file.getCanonicalPath(), file.lastModified());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.common.util;
+
+/**
+ * A group of consecutive trace fragments whose usage is being coalesced into a single fragment.
+ *
+ * <p>A usage value fits into the group if, after adding it, the spread between the lowest and highest usage of the
+ * group is at most the tolerance times the largest absolute usage of the group. Since the rule bounds the spread of
+ * the whole group rather than the distance to its running average, a group cannot drift away from the fragments it
+ * started with, and the outcome does not depend on the order of the fragments within the group. With a tolerance of
+ * <code>0</code>, only fragments with identical usage are merged.
+ *
+ * <p>The merged fragment uses the duration-weighted average usage of the group, which preserves the total work.
+ */
+public final class UsageCoalescer {
+    private final double tolerance;
+
+    private boolean empty = true;
+    private long duration;
+    private double work;
+    private double min;
+    private double max;
+
+    /**
+     * Construct a {@link UsageCoalescer} instance.
+     *
+     * @param tolerance The maximum spread of the usage within a group, relative to the largest absolute usage.
+     */
+    public UsageCoalescer(double tolerance) {
+        if (tolerance < 0.0) {
+            throw new IllegalArgumentException("Coalesce tolerance must be non-negative");
+        }
+
+        this.tolerance = tolerance;
+    }
+
+    /**
+     * Determine whether a fragment with the specified usage can be merged into the group. An empty group accepts any
+     * usage.
+     */
+    public boolean fits(double usage) {
+        if (empty || usage == min && usage == max) {
+            return true;
+        }
+
+        double newMin = Math.min(min, usage);
+        double newMax = Math.max(max, usage);
+        return newMax - newMin <= tolerance * Math.max(Math.abs(newMin), Math.abs(newMax));
+    }
+
+    /**
+     * Add a fragment to the group.
+     *
+     * @param duration The duration of the fragment.
+     * @param usage The usage of the fragment.
+     */
+    public void add(long duration, double usage) {
+        if (empty) {
+            this.min = usage;
+            this.max = usage;
+            this.empty = false;
+        } else {
+            this.min = Math.min(this.min, usage);
+            this.max = Math.max(this.max, usage);
+        }
+
+        this.duration += duration;
+        this.work += usage * duration;
+    }
+
+    /**
+     * Remove all fragments from the group.
+     */
+    public void reset() {
+        this.empty = true;
+        this.duration = 0;
+        this.work = 0.0;
+        this.min = 0.0;
+        this.max = 0.0;
+    }
+
+    /**
+     * Determine whether the group does not contain any fragments.
+     */
+    public boolean isEmpty() {
+        return empty;
+    }
+
+    /**
+     * Return the total duration of the fragments in the group.
+     */
+    public long getDuration() {
+        return duration;
+    }
+
+    /**
+     * Return the usage of the merged fragment, which is the duration-weighted average usage of the group, or the
+     * highest usage if the group has no duration.
+     */
+    public double getUsage() {
+        return duration > 0 ? work / duration : max;
+    }
+
+    /**
+     * Return the largest deviation between the usage of a fragment in the group and the merged usage, relative to
+     * the highest usage of the group.
+     */
+    public double getError() {
+        if (max <= 0.0) {
+            return 0.0;
+        }
+
+        double usage = getUsage();
+        return Math.max(max - usage, usage - min) / max;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.common.util
+
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+
+/**
+ * Test suite for the [SlidingWindow] class.
+ */
+class SlidingWindowTest {
+    @Test
+    fun testInvalidCapacity() {
+        assertThrows<IllegalArgumentException> { SlidingWindow(0) }
+    }
+
+    @Test
+    fun testEmpty() {
+        val window = SlidingWindow(3)
+
+        assertTrue(window.isEmpty())
+        assertEquals(0, window.size())
+        assertThrows<NoSuchElementException> { window.last }
+    }
+
+    @Test
+    fun testPartiallyFilled() {
+        val window = SlidingWindow(3)
+        window.add(1.0)
+        window.add(2.0)
+
+        assertFalse(window.isFull())
+        assertEquals(2, window.size())
+        assertEquals(1.0, window.first)
+        assertEquals(2.0, window.last)
+        assertEquals(1.5, window.mean)
+    }
+
+    @Test
+    fun testEviction() {
+        val window = SlidingWindow(3)
+        for (value in 1..5) {
+            window.add(value.toDouble())
+        }
+
+        assertTrue(window.isFull())
+        assertEquals(3, window.size())
+        assertEquals(3.0, window[0])
+        assertEquals(4.0, window[1])
+        assertEquals(5.0, window[2])
+        assertEquals(12.0, window.sum)
+        assertEquals(4.0, window.mean)
+    }
+
+    @Test
+    fun testClear() {
+        val window = SlidingWindow(2)
+        window.add(1.0)
+        window.add(2.0)
+        window.add(3.0)
+        window.clear()
+        window.add(4.0)
+
+        assertEquals(1, window.size())
+        assertEquals(4.0, window.first)
+        assertEquals(4.0, window.mean)
+    }
+}
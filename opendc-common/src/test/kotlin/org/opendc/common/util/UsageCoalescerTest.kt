@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.common.util
+
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+
+/**
+ * Test suite for the [UsageCoalescer] class.
+ */
+class UsageCoalescerTest {
+    @Test
+    fun testInvalidTolerance() {
+        assertThrows<IllegalArgumentException> { UsageCoalescer(-0.1) }
+    }
+
+    @Test
+    fun testEmpty() {
+        val coalescer = UsageCoalescer(0.0)
+
+        assertTrue(coalescer.isEmpty())
+        assertTrue(coalescer.fits(1000.0))
+    }
+
+    @Test
+    fun testZeroTolerance() {
+        val coalescer = UsageCoalescer(0.0)
+        coalescer.add(1000, 500.0)
+
+        assertTrue(coalescer.fits(500.0))
+        assertFalse(coalescer.fits(500.1))
+    }
+
+    @Test
+    fun testPreservesWork() {
+        val coalescer = UsageCoalescer(0.1)
+        coalescer.add(1000, 1000.0)
+        coalescer.add(3000, 1040.0)
+
+        assertEquals(4000L, coalescer.getDuration())
+        assertEquals(1030.0, coalescer.getUsage(), 1e-9)
+        assertEquals(30.0 / 1040.0, coalescer.getError(), 1e-9)
+    }
+
+    /**
+     * A slowly rising usage should not be merged into a single fragment, even though every step is within the
+     * tolerance of the average of the group so far.
+     */
+    @Test
+    fun testNoDrift() {
+        val coalescer = UsageCoalescer(0.015)
+        coalescer.add(1000, 100.0)
+
+        assertTrue(coalescer.fits(101.0))
+        coalescer.add(1000, 101.0)
+
+        assertFalse(coalescer.fits(102.0))
+    }
+
+    @Test
+    fun testReset() {
+        val coalescer = UsageCoalescer(0.0)
+        coalescer.add(1000, 500.0)
+        coalescer.reset()
+
+        assertTrue(coalescer.isEmpty())
+        assertEquals(0L, coalescer.getDuration())
+        assertTrue(coalescer.fits(100.0))
+    }
+}
@@ -22,49 +22,42 @@
 
 package org.opendc.compute.carbon
 
+import org.opendc.common.util.TraceCache
 import org.opendc.simulator.compute.power.CarbonFragment
+import org.opendc.simulator.compute.power.CarbonTrace
 import org.opendc.trace.Trace
 import org.opendc.trace.conv.CARBON_INTENSITY
 import org.opendc.trace.conv.CARBON_TIMESTAMP
 import org.opendc.trace.conv.TABLE_CARBON
 import java.io.File
-import java.lang.ref.SoftReference
-import java.time.Instant
-import java.util.concurrent.ConcurrentHashMap
 
 /**
- * A helper class for loading compute workload traces into memory.
+ * A helper class for loading carbon traces into memory.
  *
+ * Loaded traces are stored in a [TraceCache] that is shared by all instances, so a carbon trace used by multiple
+ * power sources or multiple runs is only read once.
  */
 public class CarbonTraceLoader {
     /**
-     * The cache of workloads.
+     * Read the carbon trace into primitive arrays.
      */
-    private val cache = ConcurrentHashMap<String, SoftReference<List<CarbonFragment>>>()
-
-    private val builder = CarbonFragmentNewBuilder()
-
-    /**
-     * Read the metadata into a workload.
-     */
-    private fun parseCarbon(trace: Trace): List<CarbonFragment> {
+    private fun parseCarbon(trace: Trace): CarbonTrace {
         val reader = checkNotNull(trace.getTable(TABLE_CARBON)).newReader()
 
         val startTimeCol = reader.resolve(CARBON_TIMESTAMP)
         val carbonIntensityCol = reader.resolve(CARBON_INTENSITY)
 
+        val builder = CarbonTraceBuilder()
+
         try {
             while (reader.nextRow()) {
                 val startTime = reader.getInstant(startTimeCol)!!
                 val carbonIntensity = reader.getDouble(carbonIntensityCol)
 
-                builder.add(startTime, carbonIntensity)
+                builder.add(startTime.toEpochMilli(), carbonIntensity)
             }
 
-            // Make sure the virtual machines are ordered by start time
-            builder.fixReportTimes()
-
-            return builder.fragments
+            return builder.build()
         } catch (e: Exception) {
             e.printStackTrace()
             throw e
@@ -77,9 +70,14 @@ public class CarbonTraceLoader {
      * Load the Carbon Trace at the given path.
      */
     public fun get(pathToFile: File): List<CarbonFragment> {
-        val trace = Trace.open(pathToFile, "carbon")
+        return getTrace(pathToFile).toFragments()
+    }
 
-        return parseCarbon(trace)
+    /**
+     * Load the Carbon Trace at the given path as a [CarbonTrace], which may be shared with other users of the trace.
+     */
+    public fun getTrace(pathToFile: File): CarbonTrace {
+        return cache.get(pathToFile) { parseCarbon(Trace.open(it, "carbon")) }
     }
 
     /**
@@ -89,14 +87,27 @@ public class CarbonTraceLoader {
         cache.clear()
     }
 
-    /**
-     * A builder for a VM trace.
-     */
-    private class CarbonFragmentNewBuilder {
+    public companion object {
         /**
-         * The total load of the trace.
+         * The maximum size of the cache in bytes, which can be configured using the `opendc.carbon.cache.size`
+         * system property.
          */
-        val fragments: MutableList<CarbonFragment> = mutableListOf()
+        private val CACHE_SIZE = System.getProperty("opendc.carbon.cache.size")?.toLongOrNull() ?: (64L shl 20)
+
+        /**
+         * The cache of carbon traces shared by all loaders.
+         */
+        private val cache = TraceCache<CarbonTrace>(CACHE_SIZE) { it.estimatedSize }
+    }
+
+    /**
+     * A builder for a [CarbonTrace].
+     */
+    private class CarbonTraceBuilder {
+        private var startTimes = LongArray(256)
+        private var carbonIntensities = DoubleArray(256)
+        private var size = 0
+        private var isSorted = true
 
         /**
          * Add a fragment to the trace.
@@ -105,28 +116,34 @@ public class CarbonTraceLoader {
          * @param carbonIntensity The carbon intensity during this fragment
          */
         fun add(
-            startTime: Instant,
+            startTime: Long,
             carbonIntensity: Double,
         ) {
-            fragments.add(
-                CarbonFragment(
-                    startTime.toEpochMilli(),
-                    Long.MAX_VALUE,
-                    carbonIntensity,
-                ),
-            )
-        }
+            if (size == startTimes.size) {
+                startTimes = startTimes.copyOf(size * 2)
+                carbonIntensities = carbonIntensities.copyOf(size * 2)
+            }
+
+            if (size > 0 && startTime < startTimes[size - 1]) {
+                isSorted = false
+            }
 
-        fun fixReportTimes() {
-            fragments.sortBy { it.startTime }
+            startTimes[size] = startTime
+            carbonIntensities[size] = carbonIntensity
+            size++
+        }
 
-            // For each report, set the end time to the start time of the next report
-            for (i in 0..fragments.size - 2) {
-                fragments[i].endTime = fragments[i + 1].startTime
+        fun build(): CarbonTrace {
+            if (isSorted) {
+                return CarbonTrace(startTimes.copyOf(size), carbonIntensities.copyOf(size))
             }
 
-            // Set the start time of each report to the minimum value
-            fragments[0].startTime = Long.MIN_VALUE
+            // Make sure the fragments are ordered by start time
+            val order = (0 until size).sortedBy { startTimes[it] }
+            return CarbonTrace(
+                LongArray(size) { startTimes[order[it]] },
+                DoubleArray(size) { carbonIntensities[order[it]] },
+            )
         }
     }
 }
@@ -25,6 +25,7 @@
 package org.opendc.compute.carbon
 
 import org.opendc.simulator.compute.power.CarbonFragment
+import org.opendc.simulator.compute.power.CarbonTrace
 import java.io.File
 import javax.management.InvalidAttributeValueException
 
@@ -49,3 +50,25 @@ public fun getCarbonFragments(file: File): List<CarbonFragment> {
 
     return CarbonTraceLoader().get(file)
 }
+
+/**
+ * Load the carbon trace at the given path, or return `null` if no path is given.
+ */
+public fun getCarbonTrace(pathToFile: String?): CarbonTrace? {
+    if (pathToFile == null) {
+        return null
+    }
+
+    return getCarbonTrace(File(pathToFile))
+}
+
+/**
+ * Load the carbon trace at the given path. The returned [CarbonTrace] is shared with other users of the same trace.
+ */
+public fun getCarbonTrace(file: File): CarbonTrace {
+    if (!file.exists()) {
+        throw InvalidAttributeValueException("The carbon trace cannot be found")
+    }
+
+    return CarbonTraceLoader().getTrace(file)
+}
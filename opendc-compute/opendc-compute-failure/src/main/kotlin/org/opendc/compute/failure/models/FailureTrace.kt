@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.compute.failure.models
+
+import org.opendc.common.util.TraceCache
+import org.opendc.trace.Trace
+import org.opendc.trace.conv.FAILURE_DURATION
+import org.opendc.trace.conv.FAILURE_INTENSITY
+import org.opendc.trace.conv.FAILURE_INTERVAL
+import org.opendc.trace.conv.TABLE_FAILURES
+import java.io.File
+
+/**
+ * An immutable sequence of [Failure]s stored as primitive arrays.
+ *
+ * Since a [FailureTrace] cannot be modified, a single instance is shared by all failure models that use the same
+ * trace file. Use [load] to obtain the (cached) trace for a file.
+ */
+public class FailureTrace private constructor(
+    private val intervals: LongArray,
+    private val durations: LongArray,
+    private val intensities: DoubleArray,
+) {
+    /**
+     * The number of failures in the trace.
+     */
+    public val size: Int
+        get() = intervals.size
+
+    /**
+     * Return the time between the failure at [index] and the previous failure in ms.
+     */
+    public fun getInterval(index: Int): Long = intervals[index]
+
+    /**
+     * Return the duration of the failure at [index] in ms.
+     */
+    public fun getDuration(index: Int): Long = durations[index]
+
+    /**
+     * Return the ratio of hosts affected by the failure at [index].
+     */
+    public fun getIntensity(index: Int): Double = intensities[index]
+
+    /**
+     * Return the failure at [index] as a [Failure] object.
+     */
+    public operator fun get(index: Int): Failure = Failure(intervals[index], durations[index], intensities[index])
+
+    public companion object {
+        /**
+         * The maximum size of the cache in bytes, which can be configured using the `opendc.failure.cache.size`
+         * system property.
+         */
+        private val CACHE_SIZE = System.getProperty("opendc.failure.cache.size")?.toLongOrNull() ?: (64L shl 20)
+
+        /**
+         * The cache of failure traces shared by all failure models.
+         */
+        private val cache = TraceCache<FailureTrace>(CACHE_SIZE) { 24L * it.size + 64 }
+
+        /**
+         * Load the failure trace at the given path, reusing a previously loaded instance if possible.
+         */
+        public fun load(file: File): FailureTrace = cache.get(file) { parse(Trace.open(it, "failure")) }
+
+        /**
+         * Clear the cache of failure traces.
+         */
+        public fun reset() {
+            cache.clear()
+        }
+
+        /**
+         * Read the failures of the [trace] into primitive arrays.
+         */
+        private fun parse(trace: Trace): FailureTrace {
+            val reader = checkNotNull(trace.getTable(TABLE_FAILURES)).newReader()
+
+            val failureStartTimeCol = reader.resolve(FAILURE_INTERVAL)
+            val failureDurationCol = reader.resolve(FAILURE_DURATION)
+            val failureIntensityCol = reader.resolve(FAILURE_INTENSITY)
+
+            var intervals = LongArray(64)
+            var durations = LongArray(64)
+            var intensities = DoubleArray(64)
+            var size = 0
+
+            try {
+                while (reader.nextRow()) {
+                    val failureStartTime = reader.getLong(failureStartTimeCol)
+                    val failureDuration = reader.getLong(failureDurationCol)
+                    val failureIntensity = reader.getDouble(failureIntensityCol)
+
+                    require(failureStartTime >= 0) { "A failure cannot start at a negative time" }
+                    require(failureDuration >= 0) { "A failure can not have a duration of 0 or less" }
+                    require(failureIntensity > 0.0 && failureIntensity <= 1.0) {
+                        "The intensity of a failure has to be in the range (0.0, 1.0]"
+                    }
+
+                    if (size == intervals.size) {
+                        intervals = intervals.copyOf(size * 2)
+                        durations = durations.copyOf(size * 2)
+                        intensities = intensities.copyOf(size * 2)
+                    }
+
+                    intervals[size] = failureStartTime
+                    durations[size] = failureDuration
+                    intensities[size] = failureIntensity
+                    size++
+                }
+
+                return FailureTrace(intervals.copyOf(size), durations.copyOf(size), intensities.copyOf(size))
+            } catch (e: Exception) {
+                e.printStackTrace()
+                throw e
+            } finally {
+                reader.close()
+            }
+        }
+    }
+}
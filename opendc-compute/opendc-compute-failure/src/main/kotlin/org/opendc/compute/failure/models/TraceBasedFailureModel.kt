@@ -24,11 +24,6 @@ package org.opendc.compute.failure.models
 
 import kotlinx.coroutines.delay
 import org.opendc.compute.simulator.service.ComputeService
-import org.opendc.trace.Trace
-import org.opendc.trace.conv.FAILURE_DURATION
-import org.opendc.trace.conv.FAILURE_INTENSITY
-import org.opendc.trace.conv.FAILURE_INTERVAL
-import org.opendc.trace.conv.TABLE_FAILURES
 import java.io.File
 import java.time.InstantSource
 import java.util.random.RandomGenerator
@@ -57,7 +52,7 @@ public data class Failure(
 
 /**
  * A [FailureModel] based on a provided parquet file
- * The file provides a list of [Failure] objects
+ * The file provides a list of [Failure] objects, which is loaded once and shared as a [FailureTrace]
  *
  *
  * @param context
@@ -75,55 +70,26 @@ public class TraceBasedFailureModel(
     startPoint: Double,
     private val repeat: Boolean = true,
 ) : FailureModel(context, clock, service, random) {
-    private val failureList = loadTrace(pathToTrace, startPoint)
-
-    override suspend fun runInjector() {
-        do {
-            for (failure in failureList) {
-                delay(failure.failureInterval)
-
-                val victims = victimSelector.select(hosts, failure.failureIntensity)
-
-                fault.apply(victims, failure.failureDuration)
-            }
-        } while (repeat)
-    }
+    private val trace = FailureTrace.load(File(pathToTrace))
 
     /**
-     * Load a list [Failure] objects from the provided [pathToFile]
-     *
-     * @param pathToFile
+     * The index of the failure to start with, which allows the trace to be shared without rotating it.
      */
-    private fun loadTrace(
-        pathToFile: String,
-        startPoint: Double,
-    ): List<Failure> {
-        val trace = Trace.open(File(pathToFile), "failure")
+    private val startIndex = (trace.size * startPoint).toInt()
 
-        val reader = checkNotNull(trace.getTable(TABLE_FAILURES)).newReader()
+    override suspend fun runInjector() {
+        val size = trace.size
 
-        val failureStartTimeCol = reader.resolve(FAILURE_INTERVAL)
-        val failureDurationCol = reader.resolve(FAILURE_DURATION)
-        val failureIntensityCol = reader.resolve(FAILURE_INTENSITY)
+        do {
+            for (i in 0 until size) {
+                val index = (startIndex + i) % size
 
-        val entries = mutableListOf<Failure>()
+                delay(trace.getInterval(index))
 
-        try {
-            while (reader.nextRow()) {
-                val failureStartTime = reader.getLong(failureStartTimeCol)
-                val failureDuration = reader.getLong(failureDurationCol)
-                val failureIntensity = reader.getDouble(failureIntensityCol)
+                val victims = victimSelector.select(hosts, trace.getIntensity(index))
 
-                entries.add(Failure(failureStartTime, failureDuration, failureIntensity))
+                fault.apply(victims, trace.getDuration(index))
             }
-
-            val startIndex: Int = (entries.size * startPoint).toInt()
-            return entries.subList(startIndex, entries.size) + entries.subList(0, startIndex)
-        } catch (e: Exception) {
-            e.printStackTrace()
-            throw e
-        } finally {
-            reader.close()
-        }
+        } while (repeat && size > 0)
     }
 }
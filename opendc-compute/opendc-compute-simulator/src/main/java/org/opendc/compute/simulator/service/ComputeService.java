@@ -63,6 +63,11 @@ import org.slf4j.LoggerFactory;
 public final class ComputeService implements AutoCloseable, CarbonReceiver {
     private static final Logger LOGGER = LoggerFactory.getLogger(ComputeService.class);
 
+    /**
+     * The {@link Dispatcher} used to schedule events in the simulation.
+     */
+    private final Dispatcher dispatcher;
+
     /**
      * The {@link InstantSource} representing the clock tracking the (simulation) time.
      */
@@ -130,6 +135,11 @@ public final class ComputeService implements AutoCloseable, CarbonReceiver {
 
     private ComputeMetricReader metricReader;
 
+    /**
+     * A flag to indicate that a batch of tasks is being submitted, during which scheduling cycles are deferred.
+     */
+    private boolean isSubmittingBatch;
+
     /**
      * A [HostListener] used to track the active tasks.
      */
@@ -210,6 +220,7 @@ public final class ComputeService implements AutoCloseable, CarbonReceiver {
         }
     };
 
+    private int nextHostId = 0; // The dense identifier assigned to the next host
     private int maxCores = 0;
     private long maxMemory = 0L;
     private long attemptsSuccess = 0L;
@@ -225,6 +236,7 @@ public final class ComputeService implements AutoCloseable, CarbonReceiver {
      * Construct a {@link ComputeService} instance.
      */
     public ComputeService(Dispatcher dispatcher, ComputeScheduler scheduler, Duration quantum, int maxNumFailures) {
+        this.dispatcher = dispatcher;
         this.clock = dispatcher.getTimeSource();
         this.scheduler = scheduler;
         this.pacer = new Pacer(dispatcher, quantum.toMillis(), (time) -> doSchedule());
@@ -278,6 +290,10 @@ public final class ComputeService implements AutoCloseable, CarbonReceiver {
         HostView hv = new HostView(host);
         HostModel model = host.getModel();
 
+        if (host.getId() < 0) {
+            host.setId(nextHostId++);
+        }
+
         maxCores = Math.max(maxCores, model.coreCount());
         maxMemory = Math.max(maxMemory, model.memoryCapacity());
         hostToView.put(host, hv);
@@ -348,6 +364,10 @@ public final class ComputeService implements AutoCloseable, CarbonReceiver {
         return Collections.unmodifiableSet(hostToView.keySet());
     }
 
+    public Dispatcher getDispatcher() {
+        return this.dispatcher;
+    }
+
     public InstantSource getClock() {
         return this.clock;
     }
@@ -505,8 +525,8 @@ public final class ComputeService implements AutoCloseable, CarbonReceiver {
      * Indicate that a new scheduling cycle is needed due to a change to the service's state.
      */
     private void requestSchedulingCycle() {
-        // Bail out in case the queue is empty.
-        if (taskQueue.isEmpty()) {
+        // Bail out in case the queue is empty or a batch of tasks is still being enqueued.
+        if (isSubmittingBatch || taskQueue.isEmpty()) {
             return;
         }
 
@@ -649,6 +669,38 @@ public final class ComputeService implements AutoCloseable, CarbonReceiver {
 
             checkOpen();
 
+            register(task);
+
+            task.start();
+
+            return task;
+        }
+
+        /**
+         * Submit a batch of tasks that arrive at the same time.
+         * <p>
+         * The tasks are enqueued together and only a single scheduling cycle is requested for the whole batch,
+         * instead of one per task.
+         */
+        public void newTasks(@NotNull List<ServiceTask> tasks) {
+            checkOpen();
+
+            final ComputeService service = this.service;
+            service.isSubmittingBatch = true;
+
+            try {
+                for (ServiceTask task : tasks) {
+                    register(task);
+                    task.start();
+                }
+            } finally {
+                service.isSubmittingBatch = false;
+            }
+
+            service.requestSchedulingCycle();
+        }
+
+        private void register(ServiceTask task) {
             final ComputeService service = this.service;
 
             task.setService(service);
@@ -656,10 +708,6 @@ public final class ComputeService implements AutoCloseable, CarbonReceiver {
             service.taskById.put(task.getId(), task);
 
             service.tasksTotal++;
-
-            task.start();
-
-            return task;
         }
 
         @Nullable
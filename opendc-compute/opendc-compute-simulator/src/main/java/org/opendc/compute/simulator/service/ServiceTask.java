@@ -23,9 +23,9 @@
 package org.opendc.compute.simulator.service;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
-import java.util.Set;
 import org.jetbrains.annotations.NotNull;
 import org.opendc.compute.api.TaskState;
 import org.opendc.compute.simulator.TaskWatcher;
@@ -43,8 +43,19 @@ public class ServiceTask {
 
     private ComputeService service;
     private final int id;
-    private final ArrayList<Integer> parents;
-    private final Set<Integer> children;
+    private static final int[] NO_RELATIONS = new int[0];
+
+    /**
+     * The parents of this task. The first {@link #pendingParents} entries are the parents that have not completed yet.
+     */
+    private final int[] parents;
+
+    private int pendingParents;
+
+    /**
+     * The children of this task. This array is never modified and may be shared between copies of the task.
+     */
+    private final int[] children;
 
     private final String name;
     private final boolean deferrable;
@@ -93,11 +104,17 @@ public class ServiceTask {
         return id;
     }
 
-    public ArrayList<Integer> getParents() {
-        return parents;
+    /**
+     * Return the identifiers of the parents of this task that have not completed yet.
+     */
+    public int[] getParents() {
+        return Arrays.copyOf(parents, pendingParents);
     }
 
-    public Set<Integer> getChildren() {
+    /**
+     * Return the identifiers of the children of this task. The returned array must not be modified.
+     */
+    public int[] getChildren() {
         return children;
     }
 
@@ -281,8 +298,8 @@ public class ServiceTask {
             Workload workload,
             boolean deferrable,
             long deadline,
-            ArrayList<Integer> parents,
-            Set<Integer> children) {
+            int[] parents,
+            int[] children) {
         this.id = id;
         this.name = name;
         this.submittedAt = submissionTime;
@@ -301,11 +318,19 @@ public class ServiceTask {
         this.deferrable = deferrable;
         this.deadline = deadline;
 
-        this.parents = parents;
-        this.children = children;
+        this.parents = parents == null ? NO_RELATIONS : parents;
+        this.pendingParents = this.parents.length;
+        this.children = children == null ? NO_RELATIONS : children;
     }
 
     public ServiceTask copy() {
+        return copy(this.workload);
+    }
+
+    /**
+     * Create a copy of this task in its initial state that executes the specified workload.
+     */
+    public ServiceTask copy(Workload workload) {
         return new ServiceTask(
                 this.id,
                 this.name,
@@ -318,11 +343,11 @@ public class ServiceTask {
                 this.gpuCoreCount,
                 this.gpuCapacity,
                 0,
-                this.workload,
+                workload,
                 this.deferrable,
                 this.deadline,
-                this.parents == null ? null : new ArrayList<>(this.parents),
-                this.children == null ? null : Set.copyOf(this.children));
+                this.getParents(),
+                this.children);
     }
 
     public void start() {
@@ -402,38 +427,36 @@ public class ServiceTask {
         }
     }
 
-    public void removeFromParents(List<Integer> completedTasks) {
-        if (this.parents == null) {
-            return;
-        }
-
+    public void removeFromParents(int[] completedTasks) {
         for (int task : completedTasks) {
             this.removeFromParents(task);
         }
     }
 
+    /**
+     * Mark the parent with the specified identifier as completed.
+     * The completed parent is swapped behind the pending parents, so no elements need to be shifted.
+     */
     public void removeFromParents(int completedTask) {
-        if (this.parents == null) {
-            return;
+        final int[] parents = this.parents;
+        final int pending = this.pendingParents;
+
+        for (int i = 0; i < pending; i++) {
+            if (parents[i] == completedTask) {
+                parents[i] = parents[pending - 1];
+                parents[pending - 1] = completedTask;
+                this.pendingParents = pending - 1;
+                return;
+            }
         }
-
-        this.parents.remove(Integer.valueOf(completedTask));
     }
 
     public boolean hasChildren() {
-        if (children == null) {
-            return false;
-        }
-
-        return !children.isEmpty();
+        return children.length > 0;
     }
 
     public boolean hasParents() {
-        if (parents == null) {
-            return false;
-        }
-
-        return !parents.isEmpty();
+        return pendingParents > 0;
     }
 
     public long getSchedulingDelay() {
@@ -66,6 +66,12 @@ public class SimHost(
     private val expectedLifetime: Double,
     private val powerDistributor: FlowDistributor,
 ) : AutoCloseable {
+    /**
+     * The dense identifier of the host within its compute service, which is assigned when the host is added to the
+     * service, or -1 if the host has not been added to a service.
+     */
+    public var id: Int = -1
+
     /**
      * The event listeners registered with this host.
      */
@@ -80,11 +86,17 @@ public class SimHost(
     private var hostState: HostState = HostState.DOWN
         set(value) {
             if (value != field) {
+                lastChange = clock.millis()
                 hostListeners.forEach { it.onStateChanged(this, value) }
             }
             field = value
         }
 
+    /**
+     * The timestamp at which the state or the guests of the host last changed.
+     */
+    private var lastChange = Long.MIN_VALUE
+
     private val gpuHostModels: List<GpuHostModel>? =
         machineModel.gpuModels?.map { gpumodel ->
             return@map GpuHostModel(
@@ -275,6 +287,7 @@ public class SimHost(
             )
 
         guests.add(newGuest)
+        lastChange = clock.millis()
         newGuest.start()
 
         taskToGuestMap.computeIfAbsent(task) { newGuest }
@@ -299,6 +312,7 @@ public class SimHost(
 
         taskToGuestMap.remove(task)
         guests.remove(guest)
+        lastChange = clock.millis()
         task.host = null
     }
 
@@ -310,6 +324,17 @@ public class SimHost(
         hostListeners.remove(listener)
     }
 
+    /**
+     * Determine whether the host and its machine have been in steady state since the specified timestamp, such
+     * that all of its metrics changed linearly since then. Only the flows of this host (its PSU, CPU, GPUs and
+     * distributors) are considered, so activity on other hosts does not prevent fast-forwarding this host.
+     *
+     * @param time The timestamp (in milliseconds) since which the host should be unchanged.
+     */
+    public fun isSteadySince(time: Long): Boolean {
+        return lastChange < time && simMachine?.isSteadySince(time) ?: true
+    }
+
     public fun getSystemStats(): HostSystemStats {
         val now = clock.millis()
         val duration = now - lastReport
@@ -425,7 +450,7 @@ public class SimHost(
     /**
      * Helper function to track the uptime of a machine.
      */
-    private fun updateUptime() {
+    internal fun updateUptime() {
         val now = clock.millis()
         val duration = now - lastReport
         lastReport = now
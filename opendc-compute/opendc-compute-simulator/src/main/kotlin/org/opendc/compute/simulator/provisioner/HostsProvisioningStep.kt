@@ -23,17 +23,19 @@
 package org.opendc.compute.simulator.provisioner
 
 import org.opendc.common.ResourceType
-import org.opendc.compute.carbon.getCarbonFragments
+import org.opendc.compute.carbon.getCarbonTrace
 import org.opendc.compute.simulator.host.SimHost
 import org.opendc.compute.simulator.service.ComputeService
 import org.opendc.compute.topology.specs.ClusterSpec
 import org.opendc.compute.topology.specs.HostSpec
 import org.opendc.compute.topology.specs.createSimBatteryPolicy
 import org.opendc.simulator.compute.power.CarbonModel
+import org.opendc.simulator.compute.power.SimPowerDistributionUnit
 import org.opendc.simulator.compute.power.SimPowerSource
 import org.opendc.simulator.compute.power.batteries.BatteryAggregator
 import org.opendc.simulator.compute.power.batteries.SimBattery
 import org.opendc.simulator.engine.engine.FlowEngine
+import org.opendc.simulator.engine.graph.FlowDistributor
 import org.opendc.simulator.engine.graph.FlowEdge
 import org.opendc.simulator.engine.graph.distributionPolicies.FlowDistributorFactory
 import org.opendc.simulator.engine.graph.distributionPolicies.FlowDistributorFactory.DistributionPolicy
@@ -72,16 +74,16 @@ public class HostsProvisioningStep internal constructor(
                 FlowDistributorFactory.getFlowDistributor(
                     engine,
                     DistributionPolicy.MAX_MIN_FAIRNESS,
-                    cluster.hostSpecs.size,
+                    countTopLevelConsumers(cluster),
                     1,
                 )
 
-            val carbonFragments = getCarbonFragments(cluster.powerSource.carbonTracePath)
+            val carbonTrace = getCarbonTrace(cluster.powerSource.carbonTracePath)
 
             var carbonModel: CarbonModel? = null
             // Create Carbon Model
-            if (carbonFragments != null) {
-                carbonModel = CarbonModel(engine, carbonFragments, startTime)
+            if (carbonTrace != null) {
+                carbonModel = CarbonModel(engine, carbonTrace, startTime)
                 carbonModel.addReceiver(simPowerSource)
                 ctx.registry.register(serviceDomain, CarbonModel::class.java, carbonModel)
             }
@@ -131,8 +133,11 @@ public class HostsProvisioningStep internal constructor(
                 FlowEdge(powerDistributor, simPowerSource, ResourceType.POWER)
             }
 
+            // Create the intermediate power distribution units (if any) below the cluster distributor
+            val (hostDistributors, hostsPerDistributor) = createPowerDistribution(engine, cluster, powerDistributor)
+
             // Create hosts, they are connected to the powerMux when SimMachine is created
-            for (hostSpec in cluster.hostSpecs) {
+            for ((i, hostSpec) in cluster.hostSpecs.withIndex()) {
                 val simHost =
                     SimHost(
                         hostSpec.name,
@@ -145,7 +150,7 @@ public class HostsProvisioningStep internal constructor(
                         hostSpec.gpuPowerModel,
                         hostSpec.embodiedCarbon,
                         hostSpec.expectedLifetime,
-                        powerDistributor,
+                        hostDistributors[i / hostsPerDistributor],
                     )
 
                 require(simHosts.add(simHost)) { "Host with name ${hostSpec.name} already exists" }
@@ -163,4 +168,60 @@ public class HostsProvisioningStep internal constructor(
             }
         }
     }
+
+    /**
+     * Determine the number of consumers of the distributor connected to the power source of the [cluster], which is
+     * the number of units on the highest power distribution level, or the number of hosts if there are no levels.
+     */
+    private fun countTopLevelConsumers(cluster: ClusterSpec): Int {
+        var count = cluster.hostSpecs.size
+
+        for (level in cluster.powerDistribution) {
+            count = (count + level.fanOut - 1) / level.fanOut
+        }
+
+        return maxOf(count, 1)
+    }
+
+    /**
+     * Create the power distribution units of the [cluster] below the [root] distributor.
+     *
+     * The units are created level by level starting at the power source, where unit `i` of a level is connected to
+     * unit `i / fanOut` of the level above. Host `i` is connected in the same way to the units of the lowest level.
+     *
+     * @return The distributors of the lowest level and the number of hosts connected to each of them.
+     */
+    private fun createPowerDistribution(
+        engine: FlowEngine,
+        cluster: ClusterSpec,
+        root: FlowDistributor,
+    ): Pair<List<FlowDistributor>, Int> {
+        val levels = cluster.powerDistribution
+
+        // The number of entities on each level, where level 0 consists of the hosts
+        val counts = IntArray(levels.size + 1)
+        counts[0] = cluster.hostSpecs.size
+        for ((k, level) in levels.withIndex()) {
+            counts[k + 1] = (counts[k] + level.fanOut - 1) / level.fanOut
+        }
+
+        var parents = listOf(root)
+        var childrenPerParent = Int.MAX_VALUE
+
+        for (k in levels.indices.reversed()) {
+            val level = levels[k]
+            val currentParents = parents
+            val currentChildrenPerParent = childrenPerParent
+
+            parents =
+                List(counts[k + 1]) { i ->
+                    val unit = SimPowerDistributionUnit(engine, "${cluster.name}-${level.name}-$i", level.fanOut, level.maxPower)
+                    FlowEdge(unit, currentParents[i / currentChildrenPerParent])
+                    unit
+                }
+            childrenPerParent = level.fanOut
+        }
+
+        return Pair(parents, childrenPerParent)
+    }
 }
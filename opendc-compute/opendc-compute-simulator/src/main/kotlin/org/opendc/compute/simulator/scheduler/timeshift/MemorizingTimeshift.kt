@@ -22,6 +22,7 @@
 
 package org.opendc.compute.simulator.scheduler.timeshift
 
+import org.opendc.common.util.SlidingWindow
 import org.opendc.compute.simulator.scheduler.ComputeScheduler
 import org.opendc.compute.simulator.scheduler.SchedulingRequest
 import org.opendc.compute.simulator.scheduler.SchedulingResult
@@ -31,7 +32,6 @@ import org.opendc.compute.simulator.service.HostView
 import org.opendc.compute.simulator.service.ServiceTask
 import org.opendc.simulator.compute.power.CarbonModel
 import java.time.InstantSource
-import java.util.LinkedList
 
 public class MemorizingTimeshift(
     private val filters: List<HostFilter>,
@@ -49,8 +49,7 @@ public class MemorizingTimeshift(
     private var minAvailableHost = 0
     private var numHosts = 0
 
-    override val pastCarbonIntensities: LinkedList<Double> = LinkedList<Double>()
-    override var carbonRunningSum: Double = 0.0
+    override val pastCarbonIntensities: SlidingWindow = SlidingWindow(windowSize)
     override var shortLowCarbon: Boolean = false // Low carbon regime for short tasks (< 2 hours)
     override var longLowCarbon: Boolean = false // Low carbon regime for long tasks (>= hours)
     override var carbonMod: CarbonModel? = null
@@ -25,11 +25,11 @@ package org.opendc.compute.simulator.scheduler.timeshift
 import kotlinx.coroutines.CoroutineScope
 import kotlinx.coroutines.Job
 import kotlinx.coroutines.launch
+import org.opendc.common.util.SlidingWindow
 import org.opendc.compute.simulator.service.ComputeService
 import org.opendc.simulator.compute.power.CarbonModel
 import org.opendc.simulator.compute.power.CarbonReceiver
 import java.time.InstantSource
-import java.util.LinkedList
 import kotlin.coroutines.CoroutineContext
 import kotlin.math.roundToInt
 
@@ -43,8 +43,7 @@ public class TaskStopper(
 ) : CarbonReceiver {
     private val scope: CoroutineScope = CoroutineScope(context + Job())
 
-    private val pastCarbonIntensities = LinkedList<Double>()
-    private var carbonRunningSum = 0.0
+    private val pastCarbonIntensities = SlidingWindow(windowSize)
     private var isHighCarbon = false
     private var carbonModel: CarbonModel? = null
 
@@ -78,11 +77,13 @@ public class TaskStopper(
         if (!forecast) {
             isHighCarbon = noForecastUpdateCarbonIntensity(newCarbonIntensity)
         } else {
+            // The forecast is a private copy, so it can be sorted in place
             val forecast = carbonModel!!.getForecast(forecastSize)
+            forecast.sort()
 
             val localForecastSize = forecast.size
             val quantileIndex = (localForecastSize * forecastThreshold).roundToInt()
-            val thresholdCarbonIntensity = forecast.sorted()[quantileIndex]
+            val thresholdCarbonIntensity = forecast[quantileIndex]
 
             isHighCarbon = newCarbonIntensity > thresholdCarbonIntensity
         }
@@ -95,13 +96,9 @@ public class TaskStopper(
     }
 
     private fun noForecastUpdateCarbonIntensity(newCarbonIntensity: Double): Boolean {
-        this.pastCarbonIntensities.addLast(newCarbonIntensity)
-        this.carbonRunningSum += newCarbonIntensity
-        if (this.pastCarbonIntensities.size > this.windowSize) {
-            this.carbonRunningSum -= this.pastCarbonIntensities.removeFirst()
-        }
+        this.pastCarbonIntensities.add(newCarbonIntensity)
 
-        val thresholdCarbonIntensity = this.carbonRunningSum / this.pastCarbonIntensities.size
+        val thresholdCarbonIntensity = this.pastCarbonIntensities.mean
 
         isHighCarbon = (newCarbonIntensity > thresholdCarbonIntensity)
         return isHighCarbon
@@ -22,6 +22,7 @@
 
 package org.opendc.compute.simulator.scheduler.timeshift
 
+import org.opendc.common.util.SlidingWindow
 import org.opendc.compute.simulator.scheduler.ComputeScheduler
 import org.opendc.compute.simulator.scheduler.SchedulingRequest
 import org.opendc.compute.simulator.scheduler.SchedulingResult
@@ -32,7 +33,6 @@ import org.opendc.compute.simulator.service.HostView
 import org.opendc.compute.simulator.service.ServiceTask
 import org.opendc.simulator.compute.power.CarbonModel
 import java.time.InstantSource
-import java.util.LinkedList
 import java.util.SplittableRandom
 import java.util.random.RandomGenerator
 import kotlin.math.min
@@ -58,8 +58,7 @@ public class TimeshiftScheduler(
         require(subsetSize >= 1) { "Subset size must be one or greater" }
     }
 
-    override val pastCarbonIntensities: LinkedList<Double> = LinkedList<Double>()
-    override var carbonRunningSum: Double = 0.0
+    override val pastCarbonIntensities: SlidingWindow = SlidingWindow(windowSize)
     override var shortLowCarbon: Boolean = false // Low carbon regime for short tasks (< 2 hours)
     override var longLowCarbon: Boolean = false // Low carbon regime for long tasks (>= hours)
     override var carbonMod: CarbonModel? = null
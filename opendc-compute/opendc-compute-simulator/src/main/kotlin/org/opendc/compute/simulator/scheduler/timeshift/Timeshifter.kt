@@ -22,10 +22,10 @@
 
 package org.opendc.compute.simulator.scheduler.timeshift
 
+import org.opendc.common.util.SlidingWindow
 import org.opendc.simulator.compute.power.CarbonModel
 import org.opendc.simulator.compute.power.CarbonReceiver
 import java.time.InstantSource
-import java.util.LinkedList
 import kotlin.math.roundToInt
 
 public interface Timeshifter : CarbonReceiver {
@@ -36,8 +36,7 @@ public interface Timeshifter : CarbonReceiver {
     public val longForecastThreshold: Double
     public val forecastSize: Int
 
-    public val pastCarbonIntensities: LinkedList<Double>
-    public var carbonRunningSum: Double
+    public val pastCarbonIntensities: SlidingWindow
     public var shortLowCarbon: Boolean // Low carbon regime for short tasks (< 2 hours)
     public var longLowCarbon: Boolean // Low carbon regime for long tasks (>= hours)
     public var carbonMod: CarbonModel?
@@ -52,13 +51,15 @@ public interface Timeshifter : CarbonReceiver {
             return
         }
 
+        // The forecast is a private copy, so it can be sorted in place
         val forecast = carbonMod!!.getForecast(forecastSize)
+        forecast.sort()
         val localForecastSize = forecast.size
 
         val shortQuantileIndex = (localForecastSize * shortForecastThreshold).roundToInt()
-        val shortCarbonIntensity = forecast.sorted()[shortQuantileIndex]
+        val shortCarbonIntensity = forecast[shortQuantileIndex]
         val longQuantileIndex = (localForecastSize * longForecastThreshold).roundToInt()
-        val longCarbonIntensity = forecast.sorted()[longQuantileIndex]
+        val longCarbonIntensity = forecast[longQuantileIndex]
 
         shortLowCarbon = newCarbonIntensity < shortCarbonIntensity
         longLowCarbon = newCarbonIntensity < longCarbonIntensity
@@ -73,15 +74,11 @@ public interface Timeshifter : CarbonReceiver {
             if (this.pastCarbonIntensities.isEmpty()) {
                 0.0
             } else {
-                this.pastCarbonIntensities.last()
+                this.pastCarbonIntensities.last
             }
-        this.pastCarbonIntensities.addLast(newCarbonIntensity)
-        this.carbonRunningSum += newCarbonIntensity
-        if (this.pastCarbonIntensities.size > this.windowSize) {
-            this.carbonRunningSum -= this.pastCarbonIntensities.removeFirst()
-        }
+        this.pastCarbonIntensities.add(newCarbonIntensity)
 
-        val thresholdCarbonIntensity = this.carbonRunningSum / this.pastCarbonIntensities.size
+        val thresholdCarbonIntensity = this.pastCarbonIntensities.mean
 
         shortLowCarbon = (newCarbonIntensity < thresholdCarbonIntensity) &&
             (newCarbonIntensity > previousCarbonIntensity)
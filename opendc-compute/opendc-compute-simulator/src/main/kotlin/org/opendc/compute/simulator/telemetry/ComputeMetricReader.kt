@@ -33,7 +33,9 @@ import org.opendc.compute.simulator.host.SimHost
 import org.opendc.compute.simulator.service.ComputeService
 import org.opendc.compute.simulator.service.ServiceTask
 import org.opendc.compute.simulator.telemetry.table.battery.BatteryTableReaderImpl
+import org.opendc.compute.simulator.telemetry.table.host.HostTableReader
 import org.opendc.compute.simulator.telemetry.table.host.HostTableReaderImpl
+import org.opendc.compute.simulator.telemetry.table.powerSource.PowerSourceTableReader
 import org.opendc.compute.simulator.telemetry.table.powerSource.PowerSourceTableReaderImpl
 import org.opendc.compute.simulator.telemetry.table.service.ServiceTableReaderImpl
 import org.opendc.compute.simulator.telemetry.table.task.TaskTableReaderImpl
@@ -49,6 +51,9 @@ import java.time.Duration
  * @param service The [ComputeService] to monitor.
  * @param monitor The monitor to export the metrics to.
  * @param exportInterval The export interval.
+ * @param fastForward A flag to indicate that hosts and power sources in steady state are not sampled. Their records
+ * are extrapolated from the previous export interval and their counters are advanced in bulk once they change again.
+ * Defaults to the `opendc.telemetry.fastForward` system property.
  */
 public class ComputeMetricReader(
     dispatcher: Dispatcher,
@@ -65,6 +70,7 @@ public class ComputeMetricReader(
             OutputFiles.SERVICE to true,
         ),
     private val printFrequency: Int? = null,
+    private val fastForward: Boolean = java.lang.Boolean.getBoolean("opendc.telemetry.fastForward"),
 ) : AutoCloseable {
     private val logger = KotlinLogging.logger {}
     private val scope = CoroutineScope(dispatcher.asCoroutineDispatcher())
@@ -101,6 +107,28 @@ public class ComputeMetricReader(
      */
     private val batteryTableReaders = mutableMapOf<SimBattery, BatteryTableReaderImpl>()
 
+    /**
+     * The records of the previous export interval, used to extrapolate the records of hosts in steady state.
+     */
+    private val previousHostRecords = mutableMapOf<SimHost, HostTableReader>()
+
+    /**
+     * The records of the previous export interval, used to extrapolate the records of power sources in steady state.
+     */
+    private val previousPowerSourceRecords = mutableMapOf<SimPowerSource, PowerSourceTableReader>()
+
+    /**
+     * The timestamps of the previous two exports, in milliseconds.
+     */
+    private var lastExport = Long.MIN_VALUE
+    private var secondToLastExport = Long.MIN_VALUE
+
+    /**
+     * The number of records that were extrapolated instead of sampled.
+     */
+    public var fastForwardedRecords: Long = 0
+        private set
+
     /**
      * The background job that is responsible for collecting the metrics every cycle.
      */
@@ -124,6 +152,17 @@ public class ComputeMetricReader(
         loggCounter++
         try {
             val now = this.clock.instant()
+            val nowMs = now.toEpochMilli()
+
+            // Records can only be extrapolated if the previous interval was equally long, and nothing changed since
+            // the start of the previous interval
+            val canFastForward =
+                fastForward &&
+                    secondToLastExport != Long.MIN_VALUE &&
+                    nowMs - lastExport == lastExport - secondToLastExport
+            val steadySince = secondToLastExport
+            secondToLastExport = lastExport
+            lastExport = nowMs
 
             if (toMonitor[OutputFiles.HOST] == true) {
                 for (host in this.service.hosts) {
@@ -134,8 +173,20 @@ public class ComputeMetricReader(
                                 startTime,
                             )
                         }
-                    reader.record(now)
-                    this.monitor.record(reader.copy())
+
+                    val previous = this.previousHostRecords[host]
+                    if (canFastForward && previous != null && host.isSteadySince(steadySince)) {
+                        reader.recordSteady(now, previous)
+                        fastForwardedRecords++
+                    } else {
+                        reader.record(now)
+                    }
+
+                    val record = reader.copy()
+                    if (fastForward) {
+                        this.previousHostRecords[host] = record
+                    }
+                    this.monitor.record(record)
                     reader.reset()
                 }
             }
@@ -172,8 +223,19 @@ public class ComputeMetricReader(
                             )
                         }
 
-                    reader.record(now)
-                    this.monitor.record(reader.copy())
+                    val previous = this.previousPowerSourceRecords[simPowerSource]
+                    if (canFastForward && previous != null && simPowerSource.isSteadySince(steadySince)) {
+                        reader.recordSteady(now, previous)
+                        fastForwardedRecords++
+                    } else {
+                        reader.record(now)
+                    }
+
+                    val record = reader.copy()
+                    if (fastForward) {
+                        this.previousPowerSourceRecords[simPowerSource] = record
+                    }
+                    this.monitor.record(record)
                     reader.reset()
                 }
             }
@@ -24,6 +24,8 @@ package org.opendc.compute.simulator.telemetry.table.host
 
 /**
  * Information about a host exposed to the telemetry service.
+ *
+ * @property id The dense identifier of the host within its compute service, or -1 if unknown.
  */
 public data class HostInfo(
     val name: String,
@@ -32,4 +34,5 @@ public data class HostInfo(
     val coreCount: Int,
     val coreSpeed: Double,
     val memCapacity: Long,
+    val id: Int = -1,
 )
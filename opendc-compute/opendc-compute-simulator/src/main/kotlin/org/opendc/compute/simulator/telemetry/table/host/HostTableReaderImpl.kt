@@ -86,6 +86,7 @@ public class HostTableReaderImpl(
             host.getModel().coreCount,
             host.getModel().cpuCapacity,
             host.getModel().memoryCapacity,
+            host.id,
         )
 
     override val timestamp: Instant
@@ -275,6 +276,65 @@ public class HostTableReaderImpl(
         _bootTime = hostSysStats.bootTime + startTime
     }
 
+    /**
+     * Record the next cycle by repeating the [previous] cycle, without sampling the host.
+     *
+     * This is only valid when the host has been in steady state during both cycles and both cycles are equally long,
+     * in which case all counters advanced by the same amount. The counters of the host itself are advanced in bulk
+     * on the next call to [record].
+     *
+     * @param now The timestamp of the cycle.
+     * @param previous The record of the previous cycle of this host.
+     */
+    public fun recordSteady(
+        now: Instant,
+        previous: HostTableReader,
+    ) {
+        val cpuActiveTime = previousCpuActiveTime
+        val cpuIdleTime = previousCpuIdleTime
+        val cpuStealTime = previousCpuStealTime
+        val cpuLostTime = previousCpuLostTime
+        val gpuActiveTimes = previousGpuActiveTimes
+        val gpuIdleTimes = previousGpuIdleTimes
+        val gpuStealTimes = previousGpuStealTimes
+        val gpuLostTimes = previousGpuLostTimes
+        val energyUsage = previousEnergyUsage
+        val uptime = previousUptime
+        val downtime = previousDowntime
+
+        // Keep the uptime and embodied carbon bookkeeping of the host aligned with the export cycles
+        host.updateUptime()
+
+        setValues(previous)
+
+        _timestamp = now
+        _timestampAbsolute = now + startTime
+
+        // The values of the previous cycle are the increments, so add the totals of the previous cycle again
+        _cpuActiveTime += cpuActiveTime
+        _cpuIdleTime += cpuIdleTime
+        _cpuStealTime += cpuStealTime
+        _cpuLostTime += cpuLostTime
+        _gpuActiveTimes = addTotals(_gpuActiveTimes, gpuActiveTimes)
+        _gpuIdleTimes = addTotals(_gpuIdleTimes, gpuIdleTimes)
+        _gpuStealTimes = addTotals(_gpuStealTimes, gpuStealTimes)
+        _gpuLostTimes = addTotals(_gpuLostTimes, gpuLostTimes)
+        _energyUsage += energyUsage
+        _uptime += uptime
+        _downtime += downtime
+    }
+
+    private fun addTotals(
+        increments: ArrayList<Long>,
+        totals: ArrayList<Long>,
+    ): ArrayList<Long> {
+        val result = ArrayList<Long>(increments.size)
+        for (i in increments.indices) {
+            result.add(increments[i] + (totals.getOrNull(i) ?: 0L))
+        }
+        return result
+    }
+
     /**
      * Finish the aggregation for this cycle.
      */
@@ -108,6 +108,31 @@ public class PowerSourceTableReaderImpl(
         _carbonEmission = powerSource.carbonEmission
     }
 
+    /**
+     * Record the next cycle by repeating the [previous] cycle, without sampling the power source.
+     *
+     * This is only valid when the power source has been in steady state during both cycles and both cycles are
+     * equally long. The counters of the power source itself are advanced in bulk on the next call to [record].
+     *
+     * @param now The timestamp of the cycle.
+     * @param previous The record of the previous cycle of this power source.
+     */
+    public fun recordSteady(
+        now: Instant,
+        previous: PowerSourceTableReader,
+    ) {
+        val energyUsage = previousEnergyUsage
+        val carbonEmission = previousCarbonEmission
+
+        setValues(previous)
+
+        _timestamp = now
+        _timestampAbsolute = now + startTime
+
+        _energyUsage += energyUsage
+        _carbonEmission += carbonEmission
+    }
+
     /**
      * Finish the aggregation for this cycle.
      */
@@ -246,6 +246,7 @@ public class TaskTableReaderImpl(
                         newHost.getModel().coreCount,
                         newHost.getModel().cpuCapacity,
                         newHost.getModel().memoryCapacity,
+                        newHost.id,
                     )
             }
         }
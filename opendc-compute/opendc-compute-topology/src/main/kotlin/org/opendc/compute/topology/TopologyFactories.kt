@@ -29,6 +29,7 @@ import org.opendc.compute.topology.specs.ClusterJSONSpec
 import org.opendc.compute.topology.specs.ClusterSpec
 import org.opendc.compute.topology.specs.HostJSONSpec
 import org.opendc.compute.topology.specs.HostSpec
+import org.opendc.compute.topology.specs.PowerDistributionSpec
 import org.opendc.compute.topology.specs.PowerSourceSpec
 import org.opendc.compute.topology.specs.TopologySpec
 import org.opendc.compute.topology.specs.toDistributionPolicy
@@ -150,7 +151,16 @@ private fun ClusterJSONSpec.toClusterSpec(): ClusterSpec {
             )
     }
 
-    return ClusterSpec(clusterName, hostSpecs, powerSourceSpec, batterySpec)
+    val powerDistributionSpecs =
+        powerDistribution.map { level ->
+            PowerDistributionSpec(
+                level.name,
+                level.fanOut,
+                level.maxPower?.toWatts() ?: Double.POSITIVE_INFINITY,
+            )
+        }
+
+    return ClusterSpec(clusterName, hostSpecs, powerSourceSpec, batterySpec, powerDistributionSpecs)
 }
 
 /**
@@ -204,6 +214,7 @@ private fun HostJSONSpec.toHostSpec(clusterName: String): HostSpec {
             cpuPowerModel.calibrationFactor,
             cpuPowerModel.asymUtil,
             cpuPowerModel.dvfs,
+            cpuPowerModel.tabulated,
         )
 
     val gpuPowerModel =
@@ -218,6 +229,7 @@ private fun HostJSONSpec.toHostSpec(clusterName: String): HostSpec {
                 gpuPowerModel.calibrationFactor,
                 gpuPowerModel.asymUtil,
                 gpuPowerModel.dvfs,
+                gpuPowerModel.tabulated,
             )
         }
 
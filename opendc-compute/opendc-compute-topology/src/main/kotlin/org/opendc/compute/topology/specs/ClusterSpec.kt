@@ -22,9 +22,16 @@
 
 package org.opendc.compute.topology.specs
 
+/**
+ * Definition of a compute cluster.
+ *
+ * @property powerDistribution The levels of power distribution units between the hosts and the power source, ordered
+ * from the level closest to the hosts to the level closest to the power source.
+ */
 public data class ClusterSpec(
     val name: String,
     val hostSpecs: List<HostSpec>,
     val powerSource: PowerSourceSpec,
     val battery: BatteryJSONSpec? = null,
+    val powerDistribution: List<PowerDistributionSpec> = emptyList(),
 )
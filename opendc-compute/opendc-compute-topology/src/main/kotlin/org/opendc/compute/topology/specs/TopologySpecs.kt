@@ -54,6 +54,9 @@ public data class TopologySpec(
  *
  * @param name The name of the cluster.
  * @param hosts List of the different hosts (nodes) available in this cluster
+ * @param powerDistribution The levels of power distribution units (e.g., racks and PDUs) between the hosts and the
+ * power source, ordered from the level closest to the hosts upwards. When empty, all hosts are connected directly to
+ * the power source.
  */
 @Serializable
 public data class ClusterJSONSpec(
@@ -62,6 +65,7 @@ public data class ClusterJSONSpec(
     val hosts: List<HostJSONSpec>,
     val powerSource: PowerSourceJSONSpec = PowerSourceJSONSpec.DFLT,
     val battery: BatteryJSONSpec? = null,
+    val powerDistribution: List<PowerDistributionJSONSpec> = emptyList(),
 )
 
 /**
@@ -150,6 +154,7 @@ public data class PowerModelSpec(
     val calibrationFactor: Double = 1.0,
     val asymUtil: Double = 0.0,
     val dvfs: Boolean = true,
+    val tabulated: Boolean = false,
 ) {
     init {
         require(maxPower >= idlePower) { "The max power of a power model can not be less than the idle power" }
@@ -179,6 +184,7 @@ public sealed interface DistributionPolicySpec {
 public data class BestEffortDistributionPolicySpec(
     override val type: DistributionPolicy = DistributionPolicy.BEST_EFFORT,
     val updateIntervalLength: Long = 1000L,
+    val timeAveraged: Boolean = false,
 ) : DistributionPolicySpec
 
 @Serializable
@@ -205,6 +211,7 @@ public fun DistributionPolicySpec.toDistributionPolicy(): DistributionPolicy {
         is BestEffortDistributionPolicySpec ->
             DistributionPolicy.BEST_EFFORT.apply {
                 setProperty("updateIntervalLength", updateIntervalLength)
+                setProperty("timeAveraged", timeAveraged)
             }
         is EqualShareDistributionPolicySpec -> DistributionPolicy.EQUAL_SHARE
         is FixedShareDistributionPolicySpec ->
@@ -281,6 +288,24 @@ public data class PowerSourceJSONSpec(
     }
 }
 
+/**
+ * Definition of a level of power distribution units used for JSON input.
+ *
+ * @property name The name of the units on this level
+ * @property fanOut The number of hosts (or units of the level below) connected to each unit
+ * @property maxPower The maximum power that can be drawn through each unit
+ */
+@Serializable
+public data class PowerDistributionJSONSpec(
+    val name: String = "PDU",
+    val fanOut: Int,
+    val maxPower: Power? = null,
+) {
+    init {
+        require(fanOut > 0) { "The fan-out of a power distribution unit must be positive" }
+    }
+}
+
 /**
  * Definition of a battery used for JSON input.
  *
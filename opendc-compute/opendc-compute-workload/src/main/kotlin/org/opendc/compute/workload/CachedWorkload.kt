@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.compute.workload
+
+import org.opendc.compute.simulator.service.ServiceTask
+import org.opendc.trace.util.TaskLoadSampler
+
+/**
+ * A workload trace that has been parsed into memory once, from which samples can be drawn repeatedly.
+ *
+ * The parsed tasks serve as templates and are never simulated themselves. Every sample consists of fresh copies of
+ * the selected tasks, which share the immutable fragments of their templates, so drawing a sample is cheap compared to
+ * reading the trace. For the same fraction and seed, a sample contains the same tasks as [WorkloadLoader.sampleByLoad].
+ *
+ * @param loader The loader that parsed the trace, which determines how the tasks are rescheduled.
+ * @param tasks The template tasks of the trace, ordered by submission time.
+ * @param ids The sorted identifiers of all tasks in the trace.
+ * @param loads The load of every task in [ids].
+ * @param traceStart The first submission time of all tasks in the trace.
+ */
+public class CachedWorkload internal constructor(
+    private val loader: WorkloadLoader,
+    private val tasks: List<ServiceTask>,
+    private val ids: IntArray,
+    private val loads: DoubleArray,
+    private val traceStart: Long,
+) {
+    /**
+     * The number of tasks in the trace.
+     */
+    public val size: Int
+        get() = tasks.size
+
+    /**
+     * Sample tasks from the trace until a [fraction] of its load is selected.
+     *
+     * @param fraction The fraction of the total load to select.
+     * @param seed The seed that determines which tasks are selected.
+     * @return Fresh copies of the selected tasks, ordered by submission time.
+     */
+    public fun sampleByLoad(
+        fraction: Double,
+        seed: Long = 0L,
+    ): List<ServiceTask> {
+        if (fraction <= 0.0) {
+            throw Error("The fraction of tasks to load cannot be 0.0 or lower")
+        }
+
+        if (fraction >= 1.0) {
+            val workload = tasks.map { it.copy(it.workload.copy()) }
+            loader.reScheduleTasks(workload)
+            return workload
+        }
+
+        val selected = TaskLoadSampler(fraction, seed).select(ids, loads)
+        val workload = tasks.filter { selected.binarySearch(it.id) >= 0 }.map { it.copy(it.workload.copy()) }
+
+        if (workload.isNotEmpty()) {
+            loader.reScheduleTasks(workload, traceStart)
+        }
+
+        return workload
+    }
+}
@@ -46,6 +46,7 @@ import org.opendc.trace.conv.TASK_MEM_CAPACITY
 import org.opendc.trace.conv.TASK_NAME
 import org.opendc.trace.conv.TASK_PARENTS
 import org.opendc.trace.conv.TASK_SUBMISSION_TIME
+import org.opendc.trace.util.TaskLoadSampler
 import java.io.File
 import java.lang.ref.SoftReference
 import java.time.Duration
@@ -64,6 +65,7 @@ public class ComputeWorkloadLoader(
     private val checkpointIntervalScaling: Double = 1.0,
     private val scalingPolicy: ScalingPolicy = NoDelayScaling(),
     private val deferAll: Boolean = false,
+    private val coalesceTolerance: Double? = null,
 ) : WorkloadLoader(subMissionTime) {
     /**
      * The logger for this instance.
@@ -77,8 +79,13 @@ public class ComputeWorkloadLoader(
 
     /**
      * Read the fragments into memory.
+     *
+     * @param selection A sorted array of the tasks whose fragments should be read or `null` to read all fragments.
      */
-    private fun parseFragments(trace: Trace): Map<Int, Builder> {
+    private fun parseFragments(
+        trace: Trace,
+        selection: IntArray? = null,
+    ): Map<Int, Builder> {
         val reader = checkNotNull(trace.getTable(TABLE_FRAGMENTS)).newReader()
 
         val idCol = reader.resolve(TASK_ID)
@@ -88,9 +95,24 @@ public class ComputeWorkloadLoader(
 
         val fragments = mutableMapOf<Int, Builder>()
 
+        var lastId = Int.MIN_VALUE
+        var isSelected = true
+
         return try {
             while (reader.nextRow()) {
                 val id = reader.getInt(idCol)
+
+                if (selection != null) {
+                    if (id != lastId) {
+                        lastId = id
+                        isSelected = selection.binarySearch(id) >= 0
+                    }
+
+                    if (!isSelected) {
+                        continue
+                    }
+                }
+
                 val durationMs = reader.getDuration(durationCol)!!
                 val cpuUsage = reader.getDouble(usageCol)
                 val gpuUsage =
@@ -107,7 +129,9 @@ public class ComputeWorkloadLoader(
                 val builder =
                     fragments.computeIfAbsent(
                         id,
-                    ) { Builder(checkpointInterval, checkpointDuration, checkpointIntervalScaling, scalingPolicy, id) }
+                    ) {
+                        Builder(checkpointInterval, checkpointDuration, checkpointIntervalScaling, scalingPolicy, id, coalesceTolerance)
+                    }
                 builder.add(durationMs, cpuUsage, gpuUsage, gpuMemory)
             }
 
@@ -119,10 +143,14 @@ public class ComputeWorkloadLoader(
 
     /**
      * Read the metadata into a workload.
+     *
+     * @param rescheduleFromTraceStart A flag to indicate that the tasks should be rescheduled relative to the first
+     * submission time of all tasks in the trace, including those without fragments.
      */
     private fun parseTasks(
         trace: Trace,
         fragments: Map<Int, Builder>,
+        rescheduleFromTraceStart: Boolean = false,
     ): List<ServiceTask> {
         val reader = checkNotNull(trace.getTable(TABLE_TASKS)).newReader()
 
@@ -142,16 +170,21 @@ public class ComputeWorkloadLoader(
 
         val entries = mutableListOf<ServiceTask>()
 
+        var fragmentsIn = 0L
+        var fragmentsOut = 0L
+        var traceStart = Long.MAX_VALUE
+
         return try {
             while (reader.nextRow()) {
                 val id = reader.getInt(idCol)
-                var name = reader.getString(idName)
+                val submissionTime = reader.getInstant(submissionTimeCol)!!.toEpochMilli()
+                traceStart = minOf(traceStart, submissionTime)
 
                 if (!fragments.containsKey(id)) {
                     continue
                 }
 
-                val submissionTime = reader.getInstant(submissionTimeCol)!!.toEpochMilli()
+                var name = reader.getString(idName)
                 val duration = reader.getLong(durationCol)
                 val cpuCoreCount = reader.getInt(cpuCountCol)
                 val cpuCapacity = reader.getDouble(cpuCapacityCol)
@@ -168,20 +201,9 @@ public class ComputeWorkloadLoader(
                 val gpuCoreCount = reader.getInt(gpuCoreCountCol) // Default to 0 if not present
                 val gpuMemory = 0L // currently not implemented
 
-                var parents = reader.getSet(parentsCol, Int::class.java) // No dependencies in the trace
-                var children = reader.getSet(childrenCol, Int::class.java) // No dependencies in the trace
-
-                var parentsOutput: ArrayList<Int>? = null
-
-                if (parents?.isEmpty() == true) {
-                    parentsOutput = null
-                } else {
-                    parentsOutput = ArrayList(parents!!)
-                }
-
-                if (children?.isEmpty() == true) {
-                    children = null
-                }
+                // The parents are copied, since the task tracks its completed parents in place
+                val parents = reader.getIntArray(parentsCol)?.takeIf { it.isNotEmpty() }?.copyOf()
+                val children = reader.getIntArray(childrenCol)?.takeIf { it.isNotEmpty() }
 
                 var deferrable = reader.getBoolean(deferrableCol)
                 var deadline = reader.getLong(deadlineCol)
@@ -192,6 +214,18 @@ public class ComputeWorkloadLoader(
 
                 val builder = fragments.getValue(id) // Get all fragments related to this VM
                 val totalLoad = builder.totalLoad
+                val workload = builder.build()
+
+                if (coalesceTolerance != null) {
+                    val added = builder.addedFragments
+                    val kept = workload.fragments.size
+                    fragmentsIn += added
+                    fragmentsOut += kept
+                    logger.debug {
+                        "Coalesced fragments of task $id from $added to $kept " +
+                            "(speed-up ${"%.2f".format(added.toDouble() / kept)}x, max error ${"%.4f".format(builder.maxCoalescingError)})"
+                    }
+                }
 
                 entries.add(
                     ServiceTask(
@@ -206,10 +240,10 @@ public class ComputeWorkloadLoader(
                         gpuCoreCount,
                         gpuCapacity,
                         gpuMemory,
-                        builder.build(),
+                        workload,
                         deferrable,
                         deadline,
-                        parentsOutput,
+                        parents,
                         children,
                     ),
                 )
@@ -218,6 +252,17 @@ public class ComputeWorkloadLoader(
             // Make sure the virtual machines are ordered by start time
             entries.sortBy { it.submittedAt }
 
+            if (rescheduleFromTraceStart && entries.isNotEmpty()) {
+                reScheduleTasks(entries, traceStart)
+            }
+
+            if (coalesceTolerance != null && fragmentsOut > 0) {
+                logger.info {
+                    "Coalesced $fragmentsIn fragments into $fragmentsOut with tolerance $coalesceTolerance " +
+                        "(speed-up ${"%.2f".format(fragmentsIn.toDouble() / fragmentsOut)}x)"
+                }
+            }
+
             entries
         } catch (e: Exception) {
             e.printStackTrace()
@@ -238,6 +283,56 @@ public class ComputeWorkloadLoader(
         return vms
     }
 
+    /**
+     * Sample the trace at the specified [pathToFile] without materializing the tasks that are not selected.
+     *
+     * The tasks are selected based on their total load, which is determined by streaming over the fragments of the
+     * trace. Afterwards, only the fragments of the selected tasks are read into memory.
+     */
+    override fun loadSample(
+        fraction: Double,
+        seed: Long,
+    ): List<ServiceTask> {
+        val trace = Trace.open(pathToFile, "workload")
+        val selection = TaskLoadSampler(fraction, seed).select(trace)
+        val fragments = parseFragments(trace, selection)
+
+        return parseTasks(trace, fragments, rescheduleFromTraceStart = true)
+    }
+
+    /**
+     * Load the trace at the specified [pathToFile] into a [CachedWorkload], from which samples can be drawn repeatedly
+     * without reading the trace again.
+     */
+    public fun loadCached(): CachedWorkload {
+        val trace = Trace.open(pathToFile, "workload")
+        val ids = TaskLoadSampler.readTaskIds(trace)
+        val loads = TaskLoadSampler.readTaskLoads(trace, ids)
+        val tasks = parseTasks(trace, parseFragments(trace))
+
+        return CachedWorkload(this, tasks, ids, loads, readTraceStart(trace))
+    }
+
+    /**
+     * Read the first submission time of all tasks in the trace, including those without fragments.
+     */
+    private fun readTraceStart(trace: Trace): Long {
+        val reader = checkNotNull(trace.getTable(TABLE_TASKS)).newReader()
+        val submissionTimeCol = reader.resolve(TASK_SUBMISSION_TIME)
+
+        var traceStart = Long.MAX_VALUE
+
+        return try {
+            while (reader.nextRow()) {
+                traceStart = minOf(traceStart, reader.getInstant(submissionTimeCol)!!.toEpochMilli())
+            }
+
+            traceStart
+        } finally {
+            reader.close()
+        }
+    }
+
     /**
      * Clear the workload cache.
      */
@@ -254,6 +349,7 @@ public class ComputeWorkloadLoader(
         checkpointIntervalScaling: Double,
         scalingPolicy: ScalingPolicy,
         taskId: Int,
+        coalesceTolerance: Double?,
     ) {
         /**
          * The total load of the trace.
@@ -270,7 +366,19 @@ public class ComputeWorkloadLoader(
                 checkpointIntervalScaling,
                 scalingPolicy,
                 taskId,
-            )
+            ).also { builder -> coalesceTolerance?.let { builder.withCoalesceTolerance(it) } }
+
+        /**
+         * The number of fragments added to the trace before coalescing.
+         */
+        val addedFragments: Int
+            get() = builder.addedFragments
+
+        /**
+         * The largest relative usage error introduced by coalescing fragments.
+         */
+        val maxCoalescingError: Double
+            get() = builder.maxCoalescingError
 
         /**
          * Add a fragment to the trace.
@@ -23,18 +23,25 @@
 package org.opendc.compute.workload
 import mu.KotlinLogging
 import org.opendc.compute.simulator.service.ServiceTask
+import org.opendc.trace.util.TaskLoadSampler
 import java.time.LocalDateTime
 import java.time.ZoneOffset
 
 public abstract class WorkloadLoader(private val submissionTime: String? = null) {
     private val logger = KotlinLogging.logger {}
 
-    public fun reScheduleTasks(workload: List<ServiceTask>) {
+    /**
+     * Shift the tasks in [workload] such that the start of the workload, [workloadSubmissionTime], coincides with
+     * the configured submission time.
+     */
+    public fun reScheduleTasks(
+        workload: List<ServiceTask>,
+        workloadSubmissionTime: Long = workload.minOf({ it.submittedAt }),
+    ) {
         if (submissionTime == null) {
             return
         }
 
-        val workloadSubmissionTime = workload.minOf({ it.submittedAt })
         val submissionTimeLong = LocalDateTime.parse(submissionTime).toInstant(ZoneOffset.UTC).toEpochMilli()
 
         val timeShift = submissionTimeLong - workloadSubmissionTime
@@ -48,36 +55,56 @@ public abstract class WorkloadLoader(private val submissionTime: String? = null)
     public abstract fun load(): List<ServiceTask>
 
     /**
-     * Load the workload at sample tasks until a fraction of the workload is loaded
+     * Load a subset of the workload whose tasks account for (at least) [fraction] of the total load. The returned
+     * tasks are already shifted relative to the start of the complete workload (see [reScheduleTasks]).
+     *
+     * The default implementation loads the complete workload and selects tasks from it. Implementations that can
+     * determine the load of each task without materializing the workload should override this method.
+     *
+     * @param fraction The fraction of the total load to select, in the range `(0, 1)`.
+     * @param seed The seed that determines which tasks are selected.
      */
-    public fun sampleByLoad(fraction: Double): List<ServiceTask> {
-        val workload = this.load()
-
+    protected open fun loadSample(
+        fraction: Double,
+        seed: Long,
+    ): List<ServiceTask> {
+        val workload = load().sortedBy { it.id }
         reScheduleTasks(workload)
 
-        if (fraction >= 1.0) {
-            return workload
-        }
+        val ids = IntArray(workload.size) { workload[it].id }
+        val loads = DoubleArray(workload.size) { workload[it].totalCPULoad }
+
+        val selected = TaskLoadSampler(fraction, seed).select(ids, loads)
+        return workload.filter { selected.binarySearch(it.id) >= 0 }
+    }
 
+    /**
+     * Load the workload at sample tasks until a fraction of the workload is loaded.
+     *
+     * Tasks are selected without replacement in a random order determined by [seed], so the same seed always
+     * yields the same sample.
+     *
+     * @param fraction The fraction of the total load to select.
+     * @param seed The seed that determines which tasks are selected.
+     */
+    public fun sampleByLoad(
+        fraction: Double,
+        seed: Long = 0L,
+    ): List<ServiceTask> {
         if (fraction <= 0.0) {
             throw Error("The fraction of tasks to load cannot be 0.0 or lower")
         }
 
-        val res = mutableListOf<ServiceTask>()
-
-        val totalLoad = workload.sumOf { it.totalCPULoad }
-        val desiredLoad = totalLoad * fraction
-        var currentLoad = 0.0
-
-        while (currentLoad < desiredLoad) {
-            val entry = workload.random()
-            res += entry
-
-            currentLoad += entry.totalCPULoad
+        if (fraction >= 1.0) {
+            val workload = load()
+            reScheduleTasks(workload)
+            return workload
         }
 
-        logger.info { "Sampled ${workload.size} VMs (fraction $fraction) into subset of ${res.size} VMs" }
+        val res = loadSample(fraction, seed).sortedBy { it.submittedAt }
+
+        logger.info { "Sampled subset of ${res.size} tasks (fraction $fraction, seed $seed)" }
 
-        return res.sortedBy { it.submittedAt }
+        return res
     }
 }
@@ -61,28 +61,14 @@ public fun getExperiment(experimentSpec: ExperimentSpec): List<Scenario> {
     File(outputFolder).mkdirs()
 
     val trackrPath = "$outputFolder/trackr.json"
-    File(trackrPath).createNewFile()
+    experimentWriter.reset(File(trackrPath))
 
     val scenarios = mutableListOf<Scenario>()
 
     val cartesianInput = experimentSpec.getCartesian()
 
     for ((scenarioID, scenarioSpec) in cartesianInput.withIndex()) {
-        val scenario =
-            Scenario(
-                id = scenarioID,
-                name = scenarioID.toString(),
-                outputFolder = outputFolder,
-                runs = experimentSpec.runs,
-                initialSeed = experimentSpec.initialSeed,
-                topologySpec = scenarioSpec.topology,
-                workloadSpec = scenarioSpec.workload,
-                allocationPolicySpec = scenarioSpec.allocationPolicy,
-                exportModelSpec = scenarioSpec.exportModel,
-                failureModelSpec = scenarioSpec.failureModel,
-                checkpointModelSpec = scenarioSpec.checkpointModel,
-                maxNumFailures = scenarioSpec.maxNumFailures,
-            )
+        val scenario = createScenario(experimentSpec, scenarioID, scenarioSpec, outputFolder)
         trackScenario(scenarioSpec, outputFolder)
         scenarios.add(scenario)
     }
@@ -91,13 +77,52 @@ public fun getExperiment(experimentSpec: ExperimentSpec): List<Scenario> {
 }
 
 /**
- * Writes a ScenarioSpec to a file.
+ * Returns the Scenario at the specified index of the cartesian product of an ExperimentSpec, without creating the
+ * output folder or updating its trackr.json manifest. This is used by the workers of a distributed sweep, which write
+ * their output to a folder of their own.
  *
- * @param scenariosSpec The ScenarioSpec.
- * @param outputFolder The output folder path.
- * @param scenario The Scenario.
- * @param topologySpec The TopologySpec.
+ * @param experimentSpec The ExperimentSpec containing the scenario specifications.
+ * @param index The index of the scenario in the cartesian product.
+ * @param outputFolder The output folder of the scenario.
+ * @return The Scenario at the specified index.
+ */
+public fun getScenario(
+    experimentSpec: ExperimentSpec,
+    index: Int,
+    outputFolder: String,
+): Scenario {
+    val scenarioSpec =
+        requireNotNull(experimentSpec.getCartesian().elementAtOrNull(index)) { "Experiment has no scenario $index" }
+    return createScenario(experimentSpec, index, scenarioSpec, outputFolder)
+}
+
+private fun createScenario(
+    experimentSpec: ExperimentSpec,
+    scenarioID: Int,
+    scenarioSpec: ScenarioSpec,
+    outputFolder: String,
+): Scenario =
+    Scenario(
+        id = scenarioID,
+        name = scenarioID.toString(),
+        outputFolder = outputFolder,
+        runs = experimentSpec.runs,
+        initialSeed = experimentSpec.initialSeed,
+        topologySpec = scenarioSpec.topology,
+        workloadSpec = scenarioSpec.workload,
+        allocationPolicySpec = scenarioSpec.allocationPolicy,
+        exportModelSpec = scenarioSpec.exportModel,
+        failureModelSpec = scenarioSpec.failureModel,
+        checkpointModelSpec = scenarioSpec.checkpointModel,
+        maxNumFailures = scenarioSpec.maxNumFailures,
+        convergenceSpec = experimentSpec.convergence,
+    )
 
+/**
+ * Appends a ScenarioSpec to the trackr.json manifest of the output folder.
+ *
+ * @param scenarioSpec The ScenarioSpec.
+ * @param outputFolder The output folder path.
  */
 public fun trackScenario(
     scenarioSpec: ScenarioSpec,
@@ -108,7 +133,4 @@ public fun trackScenario(
         scenarioSpec,
         File(trackrPath),
     )
-
-    // remove the last comma
-    File(trackrPath).writeText(File(trackrPath).readText().dropLast(3) + "]")
 }
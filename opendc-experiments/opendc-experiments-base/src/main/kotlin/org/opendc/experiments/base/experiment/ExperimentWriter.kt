@@ -26,42 +26,86 @@ import kotlinx.serialization.encodeToString
 import kotlinx.serialization.json.Json
 import org.opendc.experiments.base.experiment.specs.ScenarioSpec
 import java.io.File
+import java.io.RandomAccessFile
 
 /**
- * A writer for writing scenarios to a file.
- * @param jsonText The JSON text to write to the file, which is constantly updated during the writing process.
+ * A writer for writing scenarios to a file containing a JSON array.
+ *
+ * Scenarios are appended to the array in place: only the closing bracket of the array is rewritten, so the cost of
+ * adding a scenario does not depend on the number of scenarios that are already in the file.
+ *
  * @param json The JSON object used to encode the scenario specification.
  */
 public class ExperimentWriter {
-    private var jsonText = "["
     private val json = Json { prettyPrint = true }
 
     /**
-     * Write the given [scenariosSpec] to the given [file].
+     * Clear the given [file], so that it contains an empty array.
+     */
+    public fun reset(file: File) {
+        file.writeText("[]")
+    }
+
+    /**
+     * Append the given [scenarioSpec] to the array in the given [file].
      */
     public fun write(
         scenarioSpec: ScenarioSpec,
         file: File,
     ) {
-        openArray(file)
-        val jsonString = json.encodeToString(scenarioSpec) + ","
-        jsonText += jsonString + "\n"
-        file.writeText(jsonText)
-        closeArray(file)
+        val entry = json.encodeToString(scenarioSpec)
+
+        RandomAccessFile(file, "rw").use { raf ->
+            val end = findLast(raf, raf.length(), ']'.code)
+            if (end < 0) {
+                // The file does not contain an array yet
+                raf.setLength(0)
+                raf.write("[\n$entry\n]".toByteArray())
+                return
+            }
+
+            val isEmpty = findLastNonWhitespace(raf, end) == '['.code
+            raf.setLength(end)
+            raf.seek(end)
+            raf.write(((if (isEmpty) "\n" else ",\n") + entry + "\n]").toByteArray())
+        }
     }
 
     /**
-     * Delete the last character of the file.
+     * Return the position of the last occurrence of [char] before [end], or -1 if it does not occur.
      */
-    private fun openArray(file: File) {
-        val text = file.readText()
-        file.writeText(text.dropLast(0))
+    private fun findLast(
+        raf: RandomAccessFile,
+        end: Long,
+        char: Int,
+    ): Long {
+        var pos = end - 1
+        while (pos >= 0) {
+            raf.seek(pos)
+            if (raf.read() == char) {
+                return pos
+            }
+            pos--
+        }
+        return -1
     }
 
     /**
-     * Add the closing bracket to the file.
+     * Return the last character before [end] that is not whitespace, or -1 if there is none.
      */
-    private fun closeArray(file: File) {
-        file.appendText("]")
+    private fun findLastNonWhitespace(
+        raf: RandomAccessFile,
+        end: Long,
+    ): Int {
+        var pos = end - 1
+        while (pos >= 0) {
+            raf.seek(pos)
+            val char = raf.read()
+            if (!Character.isWhitespace(char)) {
+                return char
+            }
+            pos--
+        }
+        return -1
     }
 }
@@ -23,6 +23,7 @@
 package org.opendc.experiments.base.experiment
 
 import org.opendc.experiments.base.experiment.specs.CheckpointModelSpec
+import org.opendc.experiments.base.experiment.specs.ConvergenceSpec
 import org.opendc.experiments.base.experiment.specs.ExportModelSpec
 import org.opendc.experiments.base.experiment.specs.FailureModelSpec
 import org.opendc.experiments.base.experiment.specs.ScenarioTopologySpec
@@ -42,6 +43,7 @@ import org.opendc.experiments.base.experiment.specs.allocation.AllocationPolicyS
  * @property runs The Int representing the number of runs of the scenario. It defaults to 1.
  * @property initialSeed The Int representing the initial seed of the scenario. It defaults to 0.
  * @property computeExportConfig configures which parquet columns are to be included in the output files.
+ * @property convergenceSpec The ConvergenceSpec to stop the runs early once the metrics converge. It can be null.
  */
 public data class Scenario(
     var id: Int = -1,
@@ -56,4 +58,5 @@ public data class Scenario(
     val failureModelSpec: FailureModelSpec?,
     val checkpointModelSpec: CheckpointModelSpec?,
     val maxNumFailures: Int = 10,
+    val convergenceSpec: ConvergenceSpec? = null,
 )
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.experiments.base.experiment.specs
+
+import kotlinx.serialization.Serializable
+import org.opendc.compute.simulator.telemetry.OutputFiles
+
+/**
+ * Specification of the adaptive mode of multi-seed experiments. When present, the runs of a scenario are stopped once
+ * the confidence intervals of all [metrics] are narrower than [threshold], in which case the number of runs of the
+ * experiment acts as the maximum number of runs.
+ *
+ * @property metrics The summary metrics that need to converge.
+ * @property threshold The maximum half-width of the confidence interval, relative to the mean of the metric.
+ * @property confidence The confidence level of the intervals.
+ * @property minRuns The minimum number of runs before convergence is considered.
+ */
+@Serializable
+public data class ConvergenceSpec(
+    val metrics: Set<ConvergenceMetric> = setOf(ConvergenceMetric.EnergyUsage),
+    val threshold: Double = 0.05,
+    val confidence: Double = 0.95,
+    val minRuns: Int = 3,
+) {
+    init {
+        require(metrics.isNotEmpty()) { "At least one metric should be specified for convergence" }
+        require(threshold > 0) { "The convergence threshold should be positive" }
+        require(confidence > 0 && confidence < 1) { "The confidence level should be between 0 and 1" }
+        require(minRuns >= 2) { "At least two runs are needed to estimate a confidence interval" }
+    }
+}
+
+/**
+ * A summary metric of a single run that can be used to detect convergence.
+ *
+ * @property source The output file from which the metric is aggregated.
+ */
+public enum class ConvergenceMetric(public val source: OutputFiles) {
+    /**
+     * The total energy usage (in J) of all hosts.
+     */
+    EnergyUsage(OutputFiles.HOST),
+
+    /**
+     * The mean scheduling delay (in ms) of the finished tasks.
+     */
+    SchedulingDelay(OutputFiles.TASK),
+
+    /**
+     * The number of completed tasks.
+     */
+    TasksCompleted(OutputFiles.SERVICE),
+
+    /**
+     * The number of terminated tasks.
+     */
+    TasksTerminated(OutputFiles.SERVICE),
+}
@@ -39,6 +39,7 @@ import java.util.UUID
  * @property outputFolder
  * @property initialSeed
  * @property runs
+ * @property convergence
  * be included in the output files.
  */
 
@@ -55,6 +56,7 @@ public data class ExperimentSpec(
     val maxNumFailures: Set<Int> = setOf(10),
     val checkpointModels: Set<CheckpointModelSpec?> = setOf(null),
     val exportModels: Set<ExportModelSpec> = setOf(ExportModelSpec()),
+    val convergence: ConvergenceSpec? = null,
 ) {
     init {
         require(runs > 0) { "The number of runs should always be positive" }
@@ -37,6 +37,8 @@ import java.io.File
  * @property type
  * @property sampleFraction
  * @property submissionTime
+ * @property fragmentCoalescingTolerance The relative tolerance within which consecutive fragments of a task are merged
+ * at load time, or `null` to keep all fragments.
  */
 @Serializable
 public data class WorkloadSpec(
@@ -46,11 +48,15 @@ public data class WorkloadSpec(
     val submissionTime: String? = null,
     val deferAll: Boolean = false,
     val scalingPolicy: ScalingPolicyEnum = ScalingPolicyEnum.NoDelay,
+    val fragmentCoalescingTolerance: Double? = null,
 ) {
     public val name: String = File(pathToFile).nameWithoutExtension
 
     init {
         require(sampleFraction > 0) { "The fraction of the tasks can not be 0.0 or lower" }
+        require(fragmentCoalescingTolerance == null || fragmentCoalescingTolerance >= 0.0) {
+            "The fragment coalescing tolerance can not be negative"
+        }
         require(File(pathToFile).exists()) { "The provided path to the workload: $pathToFile does not exist " }
     }
 }
@@ -76,6 +82,7 @@ public fun getWorkloadLoader(
     checkpointIntervalScaling: Double,
     scalingPolicy: ScalingPolicy,
     deferAll: Boolean,
+    fragmentCoalescingTolerance: Double? = null,
 ): WorkloadLoader {
     return when (type) {
         WorkloadTypes.ComputeWorkload ->
@@ -87,6 +94,7 @@ public fun getWorkloadLoader(
                 checkpointIntervalScaling,
                 scalingPolicy,
                 deferAll,
+                fragmentCoalescingTolerance,
             )
     }
 }
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.experiments.base.runner
+
+import org.opendc.compute.simulator.service.ServiceTask
+
+/**
+ * A source of task arrivals that groups the tasks submitted at the same time into a single batch.
+ */
+public interface ArrivalSource {
+    /**
+     * The submission time of the next batch, or [Long.MAX_VALUE] if there are no arrivals left.
+     */
+    public fun peek(): Long
+
+    /**
+     * Move the tasks of the next batch into [batch] and return their submission time.
+     */
+    public fun next(batch: MutableList<ServiceTask>): Long
+}
+
+/**
+ * An [ArrivalSource] backed by a list of tasks.
+ *
+ * @param trace The tasks to submit. The list is only sorted by submission time when it is not already in order.
+ */
+public class TraceArrivalSource(trace: List<ServiceTask>) : ArrivalSource {
+    private val tasks: List<ServiceTask> =
+        when {
+            !isSorted(trace) -> trace.sortedBy { it.submittedAt }
+            trace is RandomAccess -> trace
+            else -> trace.toList()
+        }
+
+    /**
+     * The index of the next task to submit.
+     */
+    private var position = 0
+
+    override fun peek(): Long {
+        return if (position < tasks.size) tasks[position].submittedAt else Long.MAX_VALUE
+    }
+
+    override fun next(batch: MutableList<ServiceTask>): Long {
+        val tasks = tasks
+        val time = peek()
+
+        while (position < tasks.size && tasks[position].submittedAt == time) {
+            batch.add(tasks[position++])
+        }
+
+        return time
+    }
+
+    private fun isSorted(trace: List<ServiceTask>): Boolean {
+        var previous = Long.MIN_VALUE
+        for (task in trace) {
+            if (task.submittedAt < previous) {
+                return false
+            }
+            previous = task.submittedAt
+        }
+        return true
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.experiments.base.runner
+
+import org.apache.commons.math3.distribution.TDistribution
+import org.apache.commons.math3.stat.descriptive.SummaryStatistics
+import org.opendc.experiments.base.experiment.specs.ConvergenceMetric
+import org.opendc.experiments.base.experiment.specs.ConvergenceSpec
+import kotlin.math.abs
+import kotlin.math.sqrt
+
+/**
+ * Tracks the summary metrics of the runs of a scenario and decides whether they have converged according to [spec].
+ *
+ * Runs may finish out of order when they are simulated in parallel. To keep the decision independent of the order in
+ * which runs finish, only the longest prefix of consecutive runs is considered.
+ *
+ * @param spec The convergence specification of the scenario.
+ */
+public class ConvergenceTracker(private val spec: ConvergenceSpec) {
+    private val summaries = HashMap<Int, Map<ConvergenceMetric, Double>>()
+    private val statistics = spec.metrics.associateWith { SummaryStatistics() }
+    private var prefix = 0
+
+    /**
+     * A flag to indicate that the metrics have converged.
+     */
+    @get:Synchronized
+    public var isConverged: Boolean = false
+        private set
+
+    /**
+     * The number of consecutive runs that have been taken into account.
+     */
+    @get:Synchronized
+    public val runs: Int
+        get() = prefix
+
+    /**
+     * Add the [summary] of the run with the specified [index].
+     *
+     * @return `true` if the metrics have converged.
+     */
+    @Synchronized
+    public fun add(
+        index: Int,
+        summary: Map<ConvergenceMetric, Double>,
+    ): Boolean {
+        summaries[index] = summary
+
+        while (!isConverged) {
+            val next = summaries.remove(prefix) ?: break
+            prefix++
+
+            // Runs that lack a metric, such as restored runs that did not export it, do not contribute a sample
+            if (spec.metrics.all { it in next }) {
+                for ((metric, stats) in statistics) {
+                    stats.addValue(next.getValue(metric))
+                }
+                isConverged = hasConverged()
+            }
+        }
+
+        return isConverged
+    }
+
+    /**
+     * Return the half-width of the confidence interval of [metric] relative to its mean.
+     */
+    @Synchronized
+    public fun relativeHalfWidth(metric: ConvergenceMetric): Double {
+        val stats = statistics[metric] ?: return Double.NaN
+        val n = stats.n
+        if (n < 2) {
+            return Double.POSITIVE_INFINITY
+        }
+
+        val quantile = TDistribution((n - 1).toDouble()).inverseCumulativeProbability(1 - (1 - spec.confidence) / 2)
+        val halfWidth = quantile * stats.standardDeviation / sqrt(n.toDouble())
+        val mean = abs(stats.mean)
+
+        return when {
+            halfWidth == 0.0 -> 0.0
+            mean == 0.0 -> Double.POSITIVE_INFINITY
+            else -> halfWidth / mean
+        }
+    }
+
+    private fun hasConverged(): Boolean {
+        val n = statistics.values.first().n
+        return n >= spec.minRuns && spec.metrics.all { relativeHalfWidth(it) <= spec.threshold }
+    }
+}
@@ -25,11 +25,16 @@
 package org.opendc.experiments.base.runner
 
 import com.github.ajalt.clikt.core.CliktCommand
+import com.github.ajalt.clikt.parameters.options.default
 import com.github.ajalt.clikt.parameters.options.defaultLazy
+import com.github.ajalt.clikt.parameters.options.multiple
 import com.github.ajalt.clikt.parameters.options.option
 import com.github.ajalt.clikt.parameters.types.file
+import com.github.ajalt.clikt.parameters.types.int
+import com.github.ajalt.clikt.parameters.types.long
 import org.opendc.experiments.base.experiment.getExperiment
 import java.io.File
+import java.time.Duration
 
 /**
  * Main entrypoint of the application.
@@ -47,7 +52,45 @@ internal class ExperimentCommand : CliktCommand(name = "experiment") {
         .file(canBeDir = false, canBeFile = true)
         .defaultLazy { File("resources/experiment.json") }
 
+    /**
+     * The number of local worker processes to distribute the runs over.
+     */
+    private val workers by option("--workers", help = "number of worker processes to distribute the runs over (0 to run in-process)")
+        .int()
+        .default(0)
+
+    /**
+     * The maximum number of attempts of a run when distributing the runs.
+     */
+    private val maxAttempts by option("--max-attempts", help = "maximum number of attempts of a run over the workers")
+        .int()
+        .default(3)
+
+    /**
+     * The duration after which a run is considered slow when distributing the runs.
+     */
+    private val unitTimeout by option("--unit-timeout", help = "seconds after which a slow run is attempted again by another worker")
+        .long()
+        .default(3600)
+
+    /**
+     * The additional arguments to pass to the JVMs of the workers.
+     */
+    private val workerJvmArgs by option("--worker-jvm-arg", help = "additional argument to pass to the JVMs of the workers (repeatable)")
+        .multiple()
+
     override fun run() {
+        if (workers > 0) {
+            SweepCoordinator(
+                experimentPath,
+                workers,
+                maxAttempts,
+                unitTimeout = Duration.ofSeconds(unitTimeout),
+                workerJvmArgs = workerJvmArgs,
+            ).run()
+            return
+        }
+
         val experiment = getExperiment(experimentPath)
         runExperiment(experiment)
     }
@@ -29,6 +29,10 @@ import org.opendc.experiments.base.experiment.Scenario
 /**
  * Run scenario when no pool is available for parallel execution
  *
+ * Each scenario is run with the seeds [Scenario.initialSeed] up to [Scenario.initialSeed] + [Scenario.runs] - 1, like
+ * the other runners. Scenarios with a [Scenario.convergenceSpec] stop running new seeds once their summary metrics have
+ * converged.
+ *
  * @param experiment The scenarios to run
  */
 public fun runExperiment(experiment: List<Scenario>) {
@@ -36,6 +40,8 @@ public fun runExperiment(experiment: List<Scenario>) {
     val ansiGreen = "\u001B[32m"
     val ansiBlue = "\u001B[34m"
 
+    require(experiment.isNotEmpty()) { "The experiment does not contain any scenarios" }
+
     setupOutputFolderStructure(experiment[0].outputFolder)
 
     val pb =
@@ -50,10 +56,19 @@ public fun runExperiment(experiment: List<Scenario>) {
         println("$ansiBlue Running scenario: ${scenario.name} $ansiReset")
         println("$ansiGreen================================================================================$ansiReset")
 
-        for (seed in 0..<scenario.runs) {
+        val tracker = scenario.convergenceSpec?.let { ConvergenceTracker(it) }
+
+        for (run in 0..<scenario.runs) {
+            val seed = scenario.initialSeed + run.toLong()
             println("$ansiBlue Starting seed: $seed $ansiReset")
-            runScenario(scenario, seed.toLong())
+            val summary = runScenario(scenario, seed)
             pb.step()
+
+            if (tracker != null && tracker.add(run, summary)) {
+                println("$ansiBlue Converged after ${run + 1} seeds $ansiReset")
+                pb.maxHint(pb.max - (scenario.runs - run - 1))
+                break
+            }
         }
     }
     pb.close()
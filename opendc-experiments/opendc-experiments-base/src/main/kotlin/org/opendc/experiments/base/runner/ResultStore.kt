@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2026 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.experiments.base.runner
+
+import kotlinx.serialization.Serializable
+import kotlinx.serialization.encodeToString
+import kotlinx.serialization.json.Json
+import org.opendc.experiments.base.experiment.Scenario
+import org.opendc.experiments.base.experiment.specs.ConvergenceMetric
+import java.io.File
+import java.nio.file.Files
+import java.security.MessageDigest
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * A content-addressed store of the results of scenario runs in the output folder of an experiment.
+ *
+ * Every completed run is keyed by a hash of everything that determines its outcome: the contents of the topology and
+ * workload files, the specifications of the workload, policies and export model, and the seed. The output of the run
+ * is stored under `results/<key>/` and the key is appended to an index file. A run whose key is recorded with a valid
+ * stored output does not have to be simulated again: the stored output is copied to the `raw-output/<id>/seed=<seed>`
+ * folder of the run instead. Since results are not addressed by the index of the scenario, inserting or removing
+ * scenarios from a sweep does not affect which results are reused. The summary metrics of a run are recorded with its
+ * output, so that restored runs still count towards the convergence of a scenario.
+ *
+ * The key does not cover files that are referenced from within the topology, such as carbon and failure traces, nor
+ * the version of the simulator. Reuse is therefore disabled unless the `opendc.experiments.reuseResults` property is
+ * set to `true`.
+ *
+ * @param folder The output folder of the experiment.
+ */
+public class ResultStore private constructor(private val folder: File) {
+    private val indexFile = File(folder, INDEX_FILE)
+
+    private val resultsFolder = File(folder, RESULTS_FOLDER)
+
+    /**
+     * The recorded entries by key.
+     */
+    private val entries = HashMap<String, Entry>()
+
+    init {
+        if (indexFile.exists()) {
+            indexFile.forEachLine { line ->
+                if (line.isNotBlank()) {
+                    val entry = json.decodeFromString<Entry>(line)
+                    entries[entry.key] = entry
+                }
+            }
+        }
+    }
+
+    /**
+     * Compute the key of the run of [scenario] with the specified [seed].
+     */
+    public fun key(
+        scenario: Scenario,
+        seed: Long,
+    ): String {
+        val digest = MessageDigest.getInstance("SHA-256")
+        digest.update(digestOf(File(scenario.topologySpec.pathToFile)).toByteArray())
+        digest.update(digestOf(File(scenario.workloadSpec.pathToFile)).toByteArray())
+        digest.update(json.encodeToString(scenario.workloadSpec).toByteArray())
+        digest.update(json.encodeToString(scenario.allocationPolicySpec).toByteArray())
+        digest.update(json.encodeToString(scenario.exportModelSpec).toByteArray())
+        digest.update(json.encodeToString(scenario.failureModelSpec).toByteArray())
+        digest.update(json.encodeToString(scenario.checkpointModelSpec).toByteArray())
+        digest.update("${scenario.maxNumFailures}:$seed".toByteArray())
+        return toHex(digest.digest())
+    }
+
+    /**
+     * Return the output directory of the run of [scenario] with the specified [seed].
+     */
+    public fun outputOf(
+        scenario: Scenario,
+        seed: Long,
+    ): File = File(folder, "raw-output/${scenario.id}/seed=$seed")
+
+    /**
+     * Return the directory in which the result of the run with the specified [key] is stored.
+     */
+    public fun resultOf(key: String): File = File(resultsFolder, key)
+
+    /**
+     * Make the recorded result with the specified [key] available at [output].
+     *
+     * @return `true` if a valid result was recorded and is now available at [output], `false` if the run needs to be
+     *         simulated.
+     */
+    @Synchronized
+    public fun restore(
+        key: String,
+        output: File,
+    ): Boolean {
+        if (key !in entries) {
+            return false
+        }
+
+        val stored = resultOf(key)
+        if (!isValid(stored)) {
+            entries.remove(key)
+            return false
+        }
+
+        output.deleteRecursively()
+        stored.copyRecursively(output)
+        return true
+    }
+
+    /**
+     * Return the summary metrics recorded with the run with the specified [key], or an empty map if the run is not
+     * recorded.
+     */
+    @Synchronized
+    public fun summaryOf(key: String): Map<ConvergenceMetric, Double> = entries[key]?.summary ?: emptyMap()
+
+    /**
+     * Record that the run with the specified [key] has completed with its result at [output]. The result is copied
+     * into the store, so later changes to [output] do not affect it.
+     *
+     * @param summary The summary metrics of the run, which are restored together with the result.
+     */
+    @Synchronized
+    public fun record(
+        key: String,
+        output: File,
+        summary: Map<ConvergenceMetric, Double> = emptyMap(),
+    ) {
+        if (!isValid(output)) {
+            return
+        }
+
+        // Copy into a temporary folder first, so an interrupted copy is never mistaken for a stored result
+        val stored = resultOf(key)
+        val staging = File(resultsFolder, "$key.tmp")
+        staging.deleteRecursively()
+        output.copyRecursively(staging)
+        stored.deleteRecursively()
+        Files.move(staging.toPath(), stored.toPath())
+
+        val entry = Entry(key, summary)
+        entries[key] = entry
+        indexFile.appendText(json.encodeToString(entry) + "\n")
+    }
+
+    /**
+     * A result is valid if its directory contains at least one output file and none of its output files are empty.
+     */
+    private fun isValid(output: File): Boolean {
+        val files = output.listFiles() ?: return false
+        return files.isNotEmpty() && files.all { it.isFile && it.length() > 0 }
+    }
+
+    /**
+     * An entry of the index file.
+     */
+    @Serializable
+    private data class Entry(
+        val key: String,
+        val summary: Map<ConvergenceMetric, Double> = emptyMap(),
+    )
+
+    public companion object {
+        /**
+         * The name of the index file in the output folder.
+         */
+        public const val INDEX_FILE: String = "results.jsonl"
+
+        /**
+         * The name of the folder in the output folder in which the results are stored by key.
+         */
+        public const val RESULTS_FOLDER: String = "results"
+
+        /**
+         * A flag to indicate whether recorded results are reused. Disabled by default, since the key does not cover
+         * the files referenced from the topology nor the version of the simulator.
+         */
+        public val isEnabled: Boolean = System.getProperty("opendc.experiments.reuseResults")?.toBoolean() ?: false
+
+        private val json = Json { encodeDefaults = true }
+        private val stores = ConcurrentHashMap<File, ResultStore>()
+        private val digests = ConcurrentHashMap<String, String>()
+
+        /**
+         * Return the store of the specified output folder, which is shared by all runs in this process.
+         */
+        public fun of(outputFolder: String): ResultStore {
+            val folder = File(outputFolder).absoluteFile
+            return stores.computeIfAbsent(folder) { ResultStore(it) }
+        }
+
+        /**
+         * Compute the digest of the contents of a file, or of all files in a directory. Digests are cached as long as
+         * the size and modification time of the file do not change.
+         */
+        private fun digestOf(file: File): String {
+            val files =
+                if (file.isDirectory) {
+                    file.walkTopDown().filter { it.isFile }.sortedBy { it.path }.toList()
+                } else {
+                    listOf(file)
+                }
+            val stamp = files.joinToString(";") { "${it.path}:${it.length()}:${it.lastModified()}" }
+
+            return digests.computeIfAbsent(stamp) {
+                val digest = MessageDigest.getInstance("SHA-256")
+                val buffer = ByteArray(1 shl 16)
+
+                for (f in files) {
+                    if (file.isDirectory) {
+                        digest.update(f.relativeTo(file).invariantSeparatorsPath.toByteArray())
+                    }
+
+                    f.inputStream().use { input ->
+                        while (true) {
+                            val n = input.read(buffer)
+                            if (n < 0) break
+                            digest.update(buffer, 0, n)
+                        }
+                    }
+                }
+
+                toHex(digest.digest())
+            }
+        }
+
+        private fun toHex(bytes: ByteArray): String = bytes.joinToString("") { "%02x".format(it) }
+    }
+}
@@ -35,6 +35,7 @@ import org.opendc.compute.simulator.telemetry.parquet.ParquetComputeMonitor
 import org.opendc.compute.simulator.telemetry.parquet.withGpuColumns
 import org.opendc.compute.topology.clusterTopology
 import org.opendc.experiments.base.experiment.Scenario
+import org.opendc.experiments.base.experiment.specs.ConvergenceMetric
 import org.opendc.experiments.base.experiment.specs.allocation.TimeShiftAllocationPolicySpec
 import org.opendc.experiments.base.experiment.specs.allocation.createComputeScheduler
 import org.opendc.experiments.base.experiment.specs.allocation.createTaskStopper
@@ -47,12 +48,15 @@ import java.io.File
 import java.time.Duration
 import java.util.Random
 import java.util.concurrent.ForkJoinPool
-import java.util.stream.LongStream
+import java.util.concurrent.atomic.AtomicInteger
 
 /**
  * Run scenario when a pool is available for parallel execution
  * The scenario is run multiple times based on the user input
  *
+ * If the scenario has a [Scenario.convergenceSpec], no new runs are started once the summary metrics of the finished
+ * runs have converged, in which case [Scenario.runs] is the maximum number of runs.
+ *
  * @param scenario The scenario to run
  */
 public fun runScenario(scenario: Scenario) {
@@ -60,26 +64,78 @@ public fun runScenario(scenario: Scenario) {
         ProgressBarBuilder().setInitialMax(scenario.runs.toLong()).setStyle(ProgressBarStyle.ASCII)
             .setTaskName("Simulating...").build()
 
-    val pool = ForkJoinPool(5)
-    pool.submit {
-        LongStream.range(0, scenario.runs.toLong()).parallel().forEach {
-            runScenario(scenario, scenario.initialSeed + it)
-            pb.step()
-        }
-        pb.close()
-    }.join()
+    val tracker = scenario.convergenceSpec?.let { ConvergenceTracker(it) }
+    val nextRun = AtomicInteger()
+    val parallelism = 5
+
+    val pool = ForkJoinPool(parallelism)
+    try {
+        val workers =
+            List(minOf(parallelism, scenario.runs)) {
+                pool.submit {
+                    while (tracker?.isConverged != true) {
+                        val run = nextRun.getAndIncrement()
+                        if (run >= scenario.runs) {
+                            break
+                        }
+
+                        val summary = runScenario(scenario, scenario.initialSeed + run.toLong())
+                        tracker?.add(run, summary)
+                        pb.step()
+                    }
+                }
+            }
+        workers.forEach { it.join() }
+    } finally {
+        pool.shutdown()
+    }
+
+    if (tracker != null && tracker.isConverged) {
+        pb.maxHint(pb.current)
+    }
+    pb.close()
 }
 
 /**
  * Run a single scenario with a specific seed
  *
+ * If the [ResultStore] of the output folder already holds a valid result for the same topology, workload, policies
+ * and seed, that result is reused instead of simulating the scenario again.
+ *
  * @param scenario The scenario to run
  * @param seed The starting seed of the random generator.
+ * @return The summary metrics of the run, aggregated in memory from the exported records.
  */
 public fun runScenario(
     scenario: Scenario,
     seed: Long,
-): Unit =
+): Map<ConvergenceMetric, Double> {
+    if (!ResultStore.isEnabled) {
+        return simulateScenario(scenario, seed)
+    }
+
+    val store = ResultStore.of(scenario.outputFolder)
+    val key = store.key(scenario, seed)
+    val output = store.outputOf(scenario, seed)
+
+    if (store.restore(key, output)) {
+        return store.summaryOf(key)
+    }
+
+    val summary = simulateScenario(scenario, seed)
+    store.record(key, output, summary)
+    return summary
+}
+
+/**
+ * Simulate a scenario with a specific seed and return the summary metrics of the run.
+ */
+private fun simulateScenario(
+    scenario: Scenario,
+    seed: Long,
+): Map<ConvergenceMetric, Double> {
+    lateinit var monitor: SummaryComputeMonitor
+
     runSimulation {
         val serviceDomain = "compute.opendc.org"
         Provisioner(dispatcher, seed).use { provisioner ->
@@ -100,8 +156,9 @@ public fun runScenario(
                     checkpointIntervalScaling,
                     scalingPolicy,
                     scenario.workloadSpec.deferAll,
+                    scenario.workloadSpec.fragmentCoalescingTolerance,
                 )
-            val workload = workloadLoader.sampleByLoad(scenario.workloadSpec.sampleFraction)
+            val workload = workloadLoader.sampleByLoad(scenario.workloadSpec.sampleFraction, seed)
 
             val startTimeLong = workload.minOf { it.submittedAt }
             val startTime = Duration.ofMillis(startTimeLong)
@@ -138,16 +195,17 @@ public fun runScenario(
             )
 
             val gpuCount = topology.flatMap { it.hostSpecs }.maxOfOrNull { it.model.gpuModels.size } ?: 0
-            addExportModel(
-                provisioner,
-                serviceDomain,
-                scenario,
-                seed,
-                startTime,
-                scenario.id,
-                computeExportConfig =
-                    scenario.exportModelSpec.computeExportConfig.withGpuColumns(gpuCount),
-            )
+            monitor =
+                addExportModel(
+                    provisioner,
+                    serviceDomain,
+                    scenario,
+                    seed,
+                    startTime,
+                    scenario.id,
+                    computeExportConfig =
+                        scenario.exportModelSpec.computeExportConfig.withGpuColumns(gpuCount),
+                )
 
             val service = provisioner.registry.resolve(serviceDomain, ComputeService::class.java)!!
             service.setTasksExpected(workload.size)
@@ -186,14 +244,21 @@ public fun runScenario(
         }
     }
 
+    return monitor.summary()
+}
+
 /**
  * Saves the simulation results into a specific output folder received from the input.A
  *
+ * The records are also aggregated into the summary metrics of the run. The outputs needed for the metrics of the
+ * [Scenario.convergenceSpec] are monitored even if they are not exported.
+ *
  * @param provisioner The provisioner used to setup and run the simulation.
  * @param serviceDomain The domain of the compute service.
  * @param scenario The scenario being run.
  * @param seed The seed of the current run
  * @param startTime The start time of the simulation given by the workload trace.
+ * @return The monitor that aggregates the summary metrics of the run.
  */
 public fun addExportModel(
     provisioner: Provisioner,
@@ -203,10 +268,12 @@ public fun addExportModel(
     startTime: Duration,
     index: Int,
     computeExportConfig: ComputeExportConfig = scenario.exportModelSpec.computeExportConfig,
-) {
-    provisioner.runStep(
-        registerComputeMonitor(
-            serviceDomain,
+): SummaryComputeMonitor {
+    val filesToMonitor = scenario.exportModelSpec.filesToExportDict.toMutableMap()
+    scenario.convergenceSpec?.metrics?.forEach { filesToMonitor[it.source] = true }
+
+    val monitor =
+        SummaryComputeMonitor(
             ParquetComputeMonitor(
                 File("${scenario.outputFolder}/raw-output/$index"),
                 "seed=$seed",
@@ -214,12 +281,20 @@ public fun addExportModel(
                 scenario.exportModelSpec.filesToExportDict,
                 computeExportConfig = computeExportConfig,
             ),
+        )
+
+    provisioner.runStep(
+        registerComputeMonitor(
+            serviceDomain,
+            monitor,
             Duration.ofSeconds(scenario.exportModelSpec.exportInterval),
             startTime,
-            scenario.exportModelSpec.filesToExportDict,
+            filesToMonitor,
             scenario.exportModelSpec.printFrequency,
         ),
     )
+
+    return monitor
 }
 
 /**
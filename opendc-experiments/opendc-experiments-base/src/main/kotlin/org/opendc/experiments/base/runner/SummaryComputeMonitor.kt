@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.experiments.base.runner
+
+import org.opendc.compute.api.TaskState
+import org.opendc.compute.simulator.telemetry.ComputeMonitor
+import org.opendc.compute.simulator.telemetry.table.battery.BatteryTableReader
+import org.opendc.compute.simulator.telemetry.table.host.HostTableReader
+import org.opendc.compute.simulator.telemetry.table.powerSource.PowerSourceTableReader
+import org.opendc.compute.simulator.telemetry.table.service.ServiceTableReader
+import org.opendc.compute.simulator.telemetry.table.task.TaskTableReader
+import org.opendc.experiments.base.experiment.specs.ConvergenceMetric
+
+/**
+ * A [ComputeMonitor] that aggregates the [ConvergenceMetric]s of a run in memory, while forwarding all records to
+ * [delegate]. A metric is only part of the summary if the records it is aggregated from have been exported.
+ *
+ * @param delegate The monitor to forward the records to.
+ */
+public class SummaryComputeMonitor(private val delegate: ComputeMonitor) : ComputeMonitor, AutoCloseable {
+    private var energyUsage = 0.0
+    private var hostRecords = 0L
+
+    private var schedulingDelay = 0L
+    private var tasksFinished = 0L
+    private var taskRecords = 0L
+
+    private var tasksCompleted = 0
+    private var tasksTerminated = 0
+    private var serviceRecords = 0L
+
+    override fun record(reader: HostTableReader) {
+        energyUsage += reader.energyUsage
+        hostRecords++
+        delegate.record(reader)
+    }
+
+    override fun record(reader: TaskTableReader) {
+        val state = reader.taskState
+        if (state == TaskState.COMPLETED || state == TaskState.TERMINATED) {
+            schedulingDelay += reader.schedulingDelay
+            tasksFinished++
+        }
+        taskRecords++
+        delegate.record(reader)
+    }
+
+    override fun record(reader: PowerSourceTableReader) {
+        delegate.record(reader)
+    }
+
+    override fun record(reader: BatteryTableReader) {
+        delegate.record(reader)
+    }
+
+    override fun record(reader: ServiceTableReader) {
+        tasksCompleted = reader.tasksCompleted
+        tasksTerminated = reader.tasksTerminated
+        serviceRecords++
+        delegate.record(reader)
+    }
+
+    /**
+     * Return the summary metrics of the run so far.
+     */
+    public fun summary(): Map<ConvergenceMetric, Double> {
+        val summary = HashMap<ConvergenceMetric, Double>()
+
+        if (hostRecords > 0) {
+            summary[ConvergenceMetric.EnergyUsage] = energyUsage
+        }
+        if (taskRecords > 0) {
+            summary[ConvergenceMetric.SchedulingDelay] = if (tasksFinished > 0) schedulingDelay.toDouble() / tasksFinished else 0.0
+        }
+        if (serviceRecords > 0) {
+            summary[ConvergenceMetric.TasksCompleted] = tasksCompleted.toDouble()
+            summary[ConvergenceMetric.TasksTerminated] = tasksTerminated.toDouble()
+        }
+
+        return summary
+    }
+
+    override fun close() {
+        if (delegate is AutoCloseable) {
+            delegate.close()
+        }
+    }
+}
@@ -0,0 +1,333 @@
+/*
+ * Copyright (c) 2026 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.experiments.base.runner
+
+import me.tongfei.progressbar.ProgressBarBuilder
+import me.tongfei.progressbar.ProgressBarStyle
+import org.opendc.experiments.base.experiment.ExperimentReader
+import org.opendc.experiments.base.experiment.Scenario
+import org.opendc.experiments.base.experiment.getExperiment
+import org.opendc.experiments.base.experiment.specs.ConvergenceMetric
+import java.io.File
+import java.io.IOException
+import java.nio.file.Files
+import java.time.Duration
+import java.time.Instant
+import java.util.concurrent.TimeUnit
+
+/**
+ * Coordinator of a distributed sweep, which distributes the runs of an experiment over multiple worker processes.
+ *
+ * The (scenario, seed) pairs of the cartesian product of the experiment are handed out as units of work to [workers]
+ * local worker JVMs through a [SweepDirectory] in the output folder of the experiment. Workers on other machines can
+ * join the sweep by running [runSweepWorker] on the same folder over a shared file system. The output of every
+ * completed unit is merged into the `raw-output` folder of the experiment, in the same layout as [runExperiment].
+ *
+ * A unit that fails, or whose worker exits, is attempted again up to [maxAttempts] times. A unit that runs longer than
+ * [unitTimeout] is attempted again in parallel, in which case the first attempt to finish wins. Runs whose result is
+ * recorded in the [ResultStore] are not distributed, and scenarios with a [Scenario.convergenceSpec] stop handing out
+ * new seeds once their summary metrics have converged.
+ *
+ * @param experimentPath The experiment file to run.
+ * @param workers The number of local worker processes to start, which may be zero if only remote workers join.
+ * @param maxAttempts The maximum number of attempts per unit.
+ * @param unitTimeout The duration after which a unit is considered slow and attempted again.
+ * @param pollInterval The interval at which the coordinator checks the progress of the workers.
+ * @param workerJvmArgs Additional arguments to pass to the JVMs of the workers. The `opendc.*` system properties of the
+ * coordinator are always passed on, such that the workers simulate with the same settings.
+ */
+public class SweepCoordinator(
+    private val experimentPath: File,
+    private val workers: Int = Runtime.getRuntime().availableProcessors(),
+    private val maxAttempts: Int = 3,
+    private val unitTimeout: Duration = Duration.ofHours(1),
+    private val pollInterval: Duration = Duration.ofMillis(200),
+    private val workerJvmArgs: List<String> = emptyList(),
+) {
+    init {
+        require(workers >= 0) { "The number of workers should not be negative" }
+        require(maxAttempts > 0) { "The number of attempts should always be positive" }
+    }
+
+    /**
+     * The state of a unit of work.
+     */
+    private inner class UnitState(val scenario: Scenario, val run: Int, val unit: SweepUnit) {
+        var attempts = 0
+        val active = mutableSetOf<SweepAttempt>()
+        val speculated = mutableSetOf<SweepAttempt>()
+        var isOpen = true
+        var error: String? = null
+    }
+
+    /**
+     * Run the sweep until every unit has completed or failed permanently.
+     *
+     * @throws IllegalStateException if a unit failed in all its attempts or the workers keep exiting.
+     */
+    public fun run() {
+        val experiment = getExperiment(ExperimentReader().read(experimentPath))
+        require(experiment.isNotEmpty()) { "The experiment $experimentPath does not contain any scenarios" }
+
+        val outputFolder = experiment[0].outputFolder
+        setupOutputFolderStructure(outputFolder)
+
+        val dir = SweepDirectory(File(outputFolder, SWEEP_FOLDER))
+        dir.create(experimentPath)
+
+        val store = if (ResultStore.isEnabled) ResultStore.of(outputFolder) else null
+        val trackers = experiment.associate { it.id to it.convergenceSpec?.let { spec -> ConvergenceTracker(spec) } }
+        val units = LinkedHashMap<SweepUnit, UnitState>()
+
+        val pb =
+            ProgressBarBuilder().setInitialMax(experiment.sumOf { scenario -> scenario.runs.toLong() })
+                .setStyle(ProgressBarStyle.ASCII)
+                .setTaskName("Simulating...").build()
+
+        fun enqueue(state: UnitState) {
+            val attempt = SweepAttempt(state.unit, ++state.attempts)
+            state.active += attempt
+            dir.enqueue(attempt)
+        }
+
+        fun close(state: UnitState) {
+            state.isOpen = false
+            for (attempt in state.active) {
+                dir.dequeue(attempt)
+            }
+        }
+
+        fun finish(
+            state: UnitState,
+            summary: Map<ConvergenceMetric, Double>,
+        ) {
+            close(state)
+            pb.step()
+
+            val tracker = trackers[state.scenario.id] ?: return
+            if (tracker.add(state.run, summary)) {
+                // Stop handing out the remaining seeds of the scenario
+                for (other in units.values) {
+                    if (other.isOpen && other.scenario.id == state.scenario.id) {
+                        close(other)
+                        pb.maxHint(pb.max - 1)
+                    }
+                }
+            }
+        }
+
+        for (scenario in experiment) {
+            for (run in 0 until scenario.runs) {
+                val seed = scenario.initialSeed + run.toLong()
+                val state = UnitState(scenario, run, SweepUnit(scenario.id, seed))
+                units[state.unit] = state
+
+                if (trackers[scenario.id]?.isConverged == true) {
+                    state.isOpen = false
+                    pb.maxHint(pb.max - 1)
+                    continue
+                }
+
+                if (store != null) {
+                    val key = store.key(scenario, seed)
+                    if (store.restore(key, store.outputOf(scenario, seed))) {
+                        finish(state, store.summaryOf(key))
+                        continue
+                    }
+                }
+
+                enqueue(state)
+            }
+        }
+
+        val processes = HashMap<String, Process>()
+        val slots = arrayOfNulls<String>(workers)
+        var restarts = 0
+
+        try {
+            while (units.values.any { it.isOpen }) {
+                for ((attempt, summary) in dir.pollCompleted()) {
+                    val state = units[attempt.unit] ?: continue
+                    state.active -= attempt
+
+                    if (state.isOpen) {
+                        merge(dir.outputOf(attempt), state, outputFolder, store, summary)
+                        finish(state, summary)
+                    }
+                    dir.outputOf(attempt).deleteRecursively()
+                }
+
+                for ((attempt, message) in dir.pollFailed()) {
+                    val state = units[attempt.unit] ?: continue
+                    state.active -= attempt
+                    dir.outputOf(attempt).deleteRecursively()
+
+                    if (!state.isOpen || state.active.isNotEmpty()) {
+                        continue
+                    } else if (state.attempts < maxAttempts) {
+                        println("Attempt ${attempt.number} of ${attempt.unit} failed; retrying")
+                        enqueue(state)
+                    } else {
+                        state.isOpen = false
+                        state.error = message
+                    }
+                }
+
+                val now = Instant.now()
+                for (running in dir.running()) {
+                    val state = units[running.attempt.unit] ?: continue
+                    if (!state.isOpen) {
+                        continue
+                    }
+
+                    val process = running.worker?.let { processes[it] }
+                    if (process != null && !process.isAlive) {
+                        dir.fail(running.attempt, "Worker ${running.worker} exited with code ${process.exitValue()}")
+                    } else if (Duration.between(running.since, now) > unitTimeout &&
+                        running.attempt !in state.speculated &&
+                        state.attempts < maxAttempts
+                    ) {
+                        println("Attempt ${running.attempt.number} of ${running.attempt.unit} is slow; retrying")
+                        state.speculated += running.attempt
+                        enqueue(state)
+                    }
+                }
+
+                // Replace the workers that exited while there is still work left
+                for (i in slots.indices) {
+                    val process = slots[i]?.let { processes[it] }
+                    if (process != null && process.isAlive) {
+                        continue
+                    } else if (process != null && ++restarts > workers * maxAttempts) {
+                        throw IllegalStateException("Sweep workers keep exiting; see the logs in ${dir.root}")
+                    }
+
+                    val name = "worker-$i-$restarts"
+                    processes[name] = startWorker(dir, name)
+                    slots[i] = name
+                }
+
+                Thread.sleep(pollInterval.toMillis())
+            }
+        } finally {
+            dir.stop()
+
+            for (process in processes.values) {
+                if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                    process.destroyForcibly()
+                }
+            }
+
+            pb.close()
+        }
+
+        val failures = units.values.filter { it.error != null }
+        check(failures.isEmpty()) {
+            "${failures.size} runs of the sweep failed (see ${dir.root}), the first with:\n${failures[0].error}"
+        }
+
+        dir.delete()
+    }
+
+    /**
+     * Move the output of a completed attempt into the output folder of the experiment.
+     */
+    private fun merge(
+        attemptFolder: File,
+        state: UnitState,
+        outputFolder: String,
+        store: ResultStore?,
+        summary: Map<ConvergenceMetric, Double>,
+    ) {
+        val relative = "raw-output/${state.scenario.id}/seed=${state.unit.seed}"
+        val source = File(attemptFolder, relative)
+        val target = File(outputFolder, relative)
+
+        target.deleteRecursively()
+        if (source.exists()) {
+            target.parentFile.mkdirs()
+            try {
+                Files.move(source.toPath(), target.toPath())
+            } catch (_: IOException) {
+                // The attempt may be on another file store than the output folder
+                source.copyRecursively(target, overwrite = true)
+            }
+        }
+
+        store?.record(store.key(state.scenario, state.unit.seed), target, summary)
+    }
+
+    /**
+     * Start a local worker process with the specified [name].
+     */
+    private fun startWorker(
+        dir: SweepDirectory,
+        name: String,
+    ): Process {
+        val java = File(System.getProperty("java.home"), "bin/java").path
+        val command =
+            listOf(java) + forwardedProperties() + workerJvmArgs +
+                listOf(
+                    // Workers write to a folder per attempt, so there is nothing for them to reuse
+                    "-Dopendc.experiments.reuseResults=false",
+                    "-cp",
+                    System.getProperty("java.class.path"),
+                    WORKER_CLASS,
+                    dir.root.path,
+                    name,
+                )
+
+        return ProcessBuilder(command)
+            .redirectErrorStream(true)
+            .redirectOutput(dir.logOf(name))
+            .start()
+    }
+
+    /**
+     * Return the `opendc.*` system properties of the coordinator as JVM arguments for the workers, such as
+     * `opendc.flow.coalesce` and `opendc.telemetry.fastForward`, which affect how the workers simulate.
+     */
+    private fun forwardedProperties(): List<String> {
+        return System.getProperties().stringPropertyNames()
+            .filter { it.startsWith(FORWARDED_PROPERTY_PREFIX) }
+            .sorted()
+            .map { "-D$it=${System.getProperty(it)}" }
+    }
+
+    public companion object {
+        /**
+         * The name of the folder in the output folder of the experiment through which the sweep is distributed.
+         */
+        public const val SWEEP_FOLDER: String = ".sweep"
+
+        /**
+         * The main class of the worker processes.
+         */
+        private const val WORKER_CLASS = "org.opendc.experiments.base.runner.SweepWorker"
+
+        /**
+         * The prefix of the system properties that are passed on to the worker processes.
+         */
+        private const val FORWARDED_PROPERTY_PREFIX = "opendc."
+    }
+}
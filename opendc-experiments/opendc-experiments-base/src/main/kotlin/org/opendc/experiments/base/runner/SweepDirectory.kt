@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2026 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.experiments.base.runner
+
+import kotlinx.serialization.encodeToString
+import kotlinx.serialization.json.Json
+import org.opendc.experiments.base.experiment.specs.ConvergenceMetric
+import java.io.File
+import java.nio.file.AtomicMoveNotSupportedException
+import java.nio.file.FileAlreadyExistsException
+import java.nio.file.Files
+import java.nio.file.NoSuchFileException
+import java.nio.file.StandardCopyOption
+import java.time.Instant
+
+/**
+ * A unit of work of a distributed sweep: a single run of a scenario with a specific seed.
+ *
+ * @property scenario The index of the scenario in the cartesian product of the experiment.
+ * @property seed The seed of the run.
+ */
+internal data class SweepUnit(val scenario: Int, val seed: Long)
+
+/**
+ * An attempt to run a [SweepUnit]. A unit is attempted again when an attempt fails or takes too long, in which case
+ * the first attempt to finish wins.
+ *
+ * @property unit The unit of work that is attempted.
+ * @property number The number of the attempt, starting at 1.
+ */
+internal data class SweepAttempt(val unit: SweepUnit, val number: Int) {
+    /**
+     * The name of the files that represent this attempt in the [SweepDirectory].
+     */
+    val name: String
+        get() = "${unit.scenario}-${unit.seed}-$number"
+
+    companion object {
+        private val pattern = Regex("""(\d+)-(-?\d+)-(\d+)""")
+
+        /**
+         * Parse the attempt represented by the file with the specified [name], or return `null` if the file does not
+         * represent an attempt.
+         */
+        fun parse(name: String): SweepAttempt? {
+            val match = pattern.matchEntire(name) ?: return null
+            val (scenario, seed, number) = match.destructured
+            return SweepAttempt(SweepUnit(scenario.toInt(), seed.toLong()), number.toInt())
+        }
+    }
+}
+
+/**
+ * An attempt that has been claimed by a worker.
+ *
+ * @property attempt The attempt that is running.
+ * @property worker The name of the worker that claimed the attempt, or `null` if it is not yet known.
+ * @property since The instant at which the attempt was claimed.
+ */
+internal data class RunningAttempt(val attempt: SweepAttempt, val worker: String?, val since: Instant)
+
+/**
+ * The shared directory through which the coordinator of a distributed sweep hands out attempts to its workers.
+ *
+ * Every state of an attempt is a directory, and an attempt moves between the states by atomically renaming its file.
+ * Workers claim an attempt by moving it from `queue` to `running`, so that an attempt is only ever claimed by a single
+ * worker, even if the workers run on different machines that share the directory. Workers write the output of an
+ * attempt to a folder of their own in `attempts` and report the outcome by moving a marker into `done` or `failed`,
+ * after which the coordinator merges or discards the output.
+ *
+ * @param root The root of the directory.
+ */
+internal class SweepDirectory(val root: File) {
+    private val queue = File(root, "queue")
+    private val running = File(root, "running")
+    private val done = File(root, "done")
+    private val failed = File(root, "failed")
+    private val attempts = File(root, "attempts")
+    private val logs = File(root, "logs")
+    private val stopFile = File(root, "STOP")
+
+    /**
+     * The experiment file that the workers read the scenarios from.
+     */
+    val experimentFile: File = File(root, "experiment.json")
+
+    /**
+     * A flag to indicate that the coordinator has stopped the sweep, or that the directory was removed.
+     */
+    val isStopped: Boolean
+        get() = stopFile.exists() || !root.exists()
+
+    /**
+     * Create an empty directory for a sweep of the specified [experiment], removing any previous sweep.
+     */
+    fun create(experiment: File) {
+        root.deleteRecursively()
+        for (dir in listOf(queue, running, done, failed, attempts, logs)) {
+            dir.mkdirs()
+        }
+        experiment.copyTo(experimentFile)
+    }
+
+    /**
+     * Remove the directory.
+     */
+    fun delete() {
+        root.deleteRecursively()
+    }
+
+    /**
+     * Signal the workers to exit once the queue is empty.
+     */
+    fun stop() {
+        stopFile.createNewFile()
+    }
+
+    /**
+     * Add the specified [attempt] to the queue.
+     */
+    fun enqueue(attempt: SweepAttempt) {
+        File(queue, attempt.name).createNewFile()
+    }
+
+    /**
+     * Remove the specified [attempt] from the queue.
+     *
+     * @return `true` if the attempt was removed, `false` if it was already claimed.
+     */
+    fun dequeue(attempt: SweepAttempt): Boolean = File(queue, attempt.name).delete()
+
+    /**
+     * Claim the first attempt in the queue, in the order of the units, on behalf of the worker with the specified
+     * [name].
+     *
+     * @return The claimed attempt, or `null` if the queue is empty.
+     */
+    fun claim(name: String): SweepAttempt? {
+        val queued =
+            queue.list().orEmpty()
+                .mapNotNull { SweepAttempt.parse(it) }
+                .sortedWith(compareBy({ it.unit.scenario }, { it.unit.seed }, { it.number }))
+
+        for (attempt in queued) {
+            val target = File(running, attempt.name)
+            try {
+                Files.move(File(queue, attempt.name).toPath(), target.toPath(), StandardCopyOption.ATOMIC_MOVE)
+            } catch (_: NoSuchFileException) {
+                continue // Claimed by another worker or cancelled by the coordinator
+            }
+
+            // Writing the name also marks the instant at which the attempt was claimed
+            target.writeText(name)
+            return attempt
+        }
+
+        return null
+    }
+
+    /**
+     * Return the folder to which the output of the specified [attempt] is written.
+     */
+    fun outputOf(attempt: SweepAttempt): File = File(attempts, attempt.name)
+
+    /**
+     * Return the file to which the worker with the specified [name] logs its output.
+     */
+    fun logOf(name: String): File = File(logs, "$name.log")
+
+    /**
+     * Report that the specified [attempt] has completed with the specified [summary] metrics.
+     */
+    fun complete(
+        attempt: SweepAttempt,
+        summary: Map<ConvergenceMetric, Double>,
+    ) {
+        publish(File(done, attempt.name), json.encodeToString(summary))
+        File(running, attempt.name).delete()
+    }
+
+    /**
+     * Report that the specified [attempt] has failed with the specified [message].
+     */
+    fun fail(
+        attempt: SweepAttempt,
+        message: String,
+    ) {
+        publish(File(failed, attempt.name), message)
+        File(running, attempt.name).delete()
+    }
+
+    /**
+     * Collect the attempts that have completed since the previous call, together with their summary metrics.
+     */
+    fun pollCompleted(): List<Pair<SweepAttempt, Map<ConvergenceMetric, Double>>> =
+        poll(done) { json.decodeFromString<Map<ConvergenceMetric, Double>>(it) }
+
+    /**
+     * Collect the attempts that have failed since the previous call, together with their error message.
+     */
+    fun pollFailed(): List<Pair<SweepAttempt, String>> = poll(failed) { it }
+
+    /**
+     * Return the attempts that are currently claimed by a worker.
+     */
+    fun running(): List<RunningAttempt> =
+        running.listFiles().orEmpty().mapNotNull { file ->
+            val attempt = SweepAttempt.parse(file.name) ?: return@mapNotNull null
+            val since = file.lastModified()
+            val worker = runCatching { file.readText() }.getOrNull()?.ifEmpty { null }
+
+            // The file may have been completed while it was being read
+            if (since == 0L) null else RunningAttempt(attempt, worker, Instant.ofEpochMilli(since))
+        }
+
+    /**
+     * Read and remove the markers in the specified [dir].
+     */
+    private fun <T> poll(
+        dir: File,
+        transform: (String) -> T,
+    ): List<Pair<SweepAttempt, T>> =
+        dir.listFiles().orEmpty().mapNotNull { file ->
+            val attempt = SweepAttempt.parse(file.name) ?: return@mapNotNull null
+            val value = transform(file.readText())
+            file.delete()
+            attempt to value
+        }
+
+    /**
+     * Write [content] to [target] such that readers never observe a partially written file.
+     */
+    private fun publish(
+        target: File,
+        content: String,
+    ) {
+        val temp = File(target.parentFile, ".${target.name}.tmp")
+        temp.writeText(content)
+        try {
+            Files.move(temp.toPath(), target.toPath(), StandardCopyOption.ATOMIC_MOVE)
+        } catch (_: AtomicMoveNotSupportedException) {
+            Files.move(temp.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING)
+        } catch (_: FileAlreadyExistsException) {
+            temp.delete()
+        }
+    }
+
+    private companion object {
+        private val json = Json
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+@file:JvmName("SweepWorker")
+
+package org.opendc.experiments.base.runner
+
+import org.opendc.experiments.base.experiment.ExperimentReader
+import org.opendc.experiments.base.experiment.getScenario
+import java.io.File
+import java.lang.management.ManagementFactory
+import java.time.Duration
+
+/**
+ * Main entrypoint of a worker of a distributed sweep.
+ *
+ * The worker takes the sweep folder of a [SweepCoordinator] and optionally its name as arguments. Workers on other
+ * machines can join a sweep by pointing them at the sweep folder on a shared file system.
+ */
+public fun main(args: Array<String>) {
+    require(args.isNotEmpty()) { "Usage: SweepWorker <sweep-folder> [name]" }
+    val name = args.getOrElse(1) { ManagementFactory.getRuntimeMXBean().name }
+    runSweepWorker(File(args[0]), name)
+}
+
+/**
+ * Run the attempts of a distributed sweep until the coordinator stops the sweep.
+ *
+ * @param sweepFolder The sweep folder of the [SweepCoordinator].
+ * @param name The name of the worker.
+ * @param pollInterval The interval at which the worker checks for new attempts when the queue is empty.
+ */
+public fun runSweepWorker(
+    sweepFolder: File,
+    name: String,
+    pollInterval: Duration = Duration.ofMillis(200),
+) {
+    val dir = SweepDirectory(sweepFolder)
+    val experimentSpec = ExperimentReader().read(dir.experimentFile)
+
+    while (!dir.isStopped) {
+        val attempt = dir.claim(name)
+        if (attempt == null) {
+            Thread.sleep(pollInterval.toMillis())
+            continue
+        }
+
+        println("Worker $name running scenario ${attempt.unit.scenario} with seed ${attempt.unit.seed}")
+
+        try {
+            val scenario = getScenario(experimentSpec, attempt.unit.scenario, dir.outputOf(attempt).path)
+            val summary = runScenario(scenario, attempt.unit.seed)
+            dir.complete(attempt, summary)
+        } catch (e: Exception) {
+            dir.fail(attempt, e.stackTraceToString())
+        }
+    }
+}
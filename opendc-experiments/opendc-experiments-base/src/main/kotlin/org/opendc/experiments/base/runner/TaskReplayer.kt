@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2026 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.experiments.base.runner
+
+import kotlinx.coroutines.CancellableContinuation
+import kotlinx.coroutines.suspendCancellableCoroutine
+import org.opendc.common.Dispatcher
+import org.opendc.compute.api.TaskState
+import org.opendc.compute.simulator.TaskWatcher
+import org.opendc.compute.simulator.service.ComputeService
+import org.opendc.compute.simulator.service.ServiceTask
+import kotlin.coroutines.resume
+
+/**
+ * Submits the tasks of an [ArrivalSource] to a [ComputeService] at their submission time without a coroutine per task.
+ *
+ * Only a single arrival event is pending on the [Dispatcher] at any time. When it fires, all tasks that are due are
+ * submitted, one batch per submission time, and the event is rescheduled for the next arrival. Completion is tracked
+ * by a single shared [TaskWatcher] that counts the tasks that are deleted, so the state kept by the replayer does not
+ * grow with the number of outstanding tasks.
+ *
+ * @param dispatcher The dispatcher used to schedule the arrivals.
+ * @param client The client used to submit the tasks.
+ * @param source The source of the task arrivals.
+ * @param submitImmediately A flag to indicate that the tasks are submitted immediately instead of at their start time.
+ */
+public class TaskReplayer(
+    private val dispatcher: Dispatcher,
+    private val client: ComputeService.ComputeClient,
+    private val source: ArrivalSource,
+    private val submitImmediately: Boolean = false,
+) : Runnable, TaskWatcher {
+    public constructor(
+        dispatcher: Dispatcher,
+        client: ComputeService.ComputeClient,
+        trace: List<ServiceTask>,
+        submitImmediately: Boolean = false,
+    ) : this(dispatcher, client, TraceArrivalSource(trace), submitImmediately)
+
+    private val clock = dispatcher.timeSource
+
+    /**
+     * The batch of tasks that is currently being submitted.
+     */
+    private val batch = ArrayList<ServiceTask>()
+
+    /**
+     * The difference between the submission time in the trace and the simulation time.
+     */
+    private var offset = Long.MIN_VALUE
+
+    /**
+     * The number of tasks that have been submitted, but are not deleted yet.
+     */
+    private var outstanding = 0
+
+    private var continuation: CancellableContinuation<Unit>? = null
+    private var isCancelled = false
+
+    /**
+     * The number of tasks that have been submitted so far.
+     */
+    public var submitted: Int = 0
+        private set
+
+    /**
+     * The number of submission times at which tasks have been submitted so far.
+     */
+    public var batches: Int = 0
+        private set
+
+    /**
+     * The number of submitted tasks that have not been deleted yet.
+     */
+    public val active: Int
+        get() = outstanding
+
+    /**
+     * A flag to indicate that all tasks have been submitted and deleted.
+     */
+    public val isFinished: Boolean
+        get() = source.peek() == Long.MAX_VALUE && outstanding == 0
+
+    /**
+     * Submit the tasks that are due and suspend until all tasks of the trace are deleted.
+     */
+    public suspend fun replay() {
+        run()
+
+        if (isFinished) {
+            return
+        }
+
+        suspendCancellableCoroutine { cont ->
+            continuation = cont
+            cont.invokeOnCancellation { isCancelled = true }
+        }
+    }
+
+    /**
+     * Submit all batches that are due and schedule the next arrival.
+     */
+    override fun run() {
+        if (isCancelled) {
+            return
+        }
+
+        val source = source
+        val batch = batch
+        val now = clock.millis()
+        var time = source.peek()
+
+        // Set the offset based on the starting time of the first task
+        if (offset == Long.MIN_VALUE && time != Long.MAX_VALUE) {
+            offset = time - now
+        }
+
+        while (time != Long.MAX_VALUE && (submitImmediately || time - offset <= now)) {
+            source.next(batch)
+
+            for (task in batch) {
+                if (!submitImmediately) {
+                    task.deadline -= offset
+                }
+                task.watch(this)
+            }
+
+            submitted += batch.size
+            outstanding += batch.size
+            batches++
+
+            client.newTasks(batch)
+            batch.clear()
+
+            time = source.peek()
+        }
+
+        if (time != Long.MAX_VALUE) {
+            dispatcher.schedule(time - offset - now, this)
+        } else {
+            tryComplete()
+        }
+    }
+
+    override fun onStateChanged(
+        task: ServiceTask,
+        newState: TaskState,
+    ) {
+        if (newState == TaskState.DELETED) {
+            outstanding--
+            tryComplete()
+        }
+    }
+
+    /**
+     * Resume the suspended [replay] call when all tasks are finished.
+     */
+    private fun tryComplete() {
+        if (!isFinished) {
+            return
+        }
+
+        val cont = continuation ?: return
+        continuation = null
+        cont.resume(Unit)
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.experiments.base
+
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Test
+import org.opendc.compute.simulator.service.ServiceTask
+import org.opendc.experiments.base.runner.TraceArrivalSource
+import org.opendc.simulator.compute.workload.trace.TraceFragment
+
+/**
+ * Test suite for the [TraceArrivalSource] class.
+ */
+class ArrivalSourceTest {
+    /**
+     * Tasks that share a submission time should be returned as a single batch, in order of submission time.
+     */
+    @Test
+    fun testBatchesBySubmissionTime() {
+        val trace =
+            listOf(
+                task(0, "2024-02-01T10:00"),
+                task(1, "2024-02-01T10:05"),
+                task(2, "2024-02-01T10:00"),
+                task(3, "2024-02-01T10:00"),
+            )
+
+        val source = TraceArrivalSource(trace)
+        val batch = ArrayList<ServiceTask>()
+
+        val first = source.next(batch)
+        assertEquals(listOf(0, 2, 3), batch.map { it.id })
+
+        batch.clear()
+        val second = source.next(batch)
+        assertEquals(listOf(1), batch.map { it.id })
+        assertEquals(5 * 60 * 1000L, second - first)
+
+        assertEquals(Long.MAX_VALUE, source.peek())
+    }
+
+    private fun task(
+        id: Int,
+        submissionTime: String,
+    ): ServiceTask =
+        createTestTask(
+            id = id,
+            submissionTime = submissionTime,
+            fragments = arrayListOf(TraceFragment(10 * 60 * 1000, 1000.0)),
+        )
+}
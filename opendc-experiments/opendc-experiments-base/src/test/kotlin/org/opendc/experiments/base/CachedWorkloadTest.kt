@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.experiments.base
+
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertNotSame
+import org.junit.jupiter.api.Test
+import org.opendc.compute.workload.CachedWorkload
+import org.opendc.compute.workload.ComputeWorkloadLoader
+import java.io.File
+
+/**
+ * Test suite for the [CachedWorkload] class.
+ */
+class CachedWorkloadTest {
+    private val trace = File("src/test/resources/workloadTraces/bitbrains-small")
+
+    /**
+     * A sample of a cached workload should contain the same tasks as a sample read from the trace.
+     */
+    @Test
+    fun testSampleMatchesLoader() {
+        val cached = ComputeWorkloadLoader(trace).loadCached()
+
+        for (seed in 0L until 3L) {
+            val expected = ComputeWorkloadLoader(trace).sampleByLoad(0.5, seed)
+            val actual = cached.sampleByLoad(0.5, seed)
+
+            assertEquals(expected.map { it.id }, actual.map { it.id })
+            assertEquals(expected.map { it.submittedAt }, actual.map { it.submittedAt })
+        }
+
+        assertEquals(ComputeWorkloadLoader(trace).sampleByLoad(1.0).map { it.id }, cached.sampleByLoad(1.0).map { it.id })
+    }
+
+    /**
+     * Every sample should consist of fresh tasks, such that repeats do not share simulation state.
+     */
+    @Test
+    fun testSamplesAreIndependent() {
+        val cached = ComputeWorkloadLoader(trace).loadCached()
+
+        val first = cached.sampleByLoad(1.0)
+        val second = cached.sampleByLoad(1.0)
+
+        assertEquals(cached.size, first.size)
+        for (i in first.indices) {
+            assertNotSame(first[i], second[i])
+            assertNotSame(first[i].workload, second[i].workload)
+        }
+    }
+}
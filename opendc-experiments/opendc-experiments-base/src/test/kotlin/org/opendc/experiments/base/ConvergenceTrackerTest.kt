@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.experiments.base
+
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.Test
+import org.opendc.experiments.base.experiment.specs.ConvergenceMetric
+import org.opendc.experiments.base.experiment.specs.ConvergenceSpec
+import org.opendc.experiments.base.runner.ConvergenceTracker
+
+/**
+ * Test suite for the [ConvergenceTracker] class.
+ */
+class ConvergenceTrackerTest {
+    /**
+     * Runs with identical metrics should converge as soon as the minimum number of runs is reached.
+     */
+    @Test
+    fun testConvergesAtMinRuns() {
+        val tracker = ConvergenceTracker(ConvergenceSpec(minRuns = 3))
+
+        assertFalse(tracker.add(0, energy(100.0)))
+        assertFalse(tracker.add(1, energy(100.0)))
+        assertTrue(tracker.add(2, energy(100.0)))
+        assertEquals(3, tracker.runs)
+    }
+
+    /**
+     * Runs with widely varying metrics should not converge.
+     */
+    @Test
+    fun testNoisyMetricsDoNotConverge() {
+        val tracker = ConvergenceTracker(ConvergenceSpec(threshold = 0.01))
+
+        for (i in 0 until 10) {
+            tracker.add(i, energy(if (i % 2 == 0) 50.0 else 150.0))
+        }
+
+        assertFalse(tracker.isConverged)
+        assertTrue(tracker.relativeHalfWidth(ConvergenceMetric.EnergyUsage) > 0.01)
+    }
+
+    /**
+     * Runs that finish out of order should only be considered once all preceding runs have finished.
+     */
+    @Test
+    fun testOutOfOrderRuns() {
+        val tracker = ConvergenceTracker(ConvergenceSpec(minRuns = 2))
+
+        assertFalse(tracker.add(1, energy(100.0)))
+        assertFalse(tracker.add(2, energy(100.0)))
+        assertEquals(0, tracker.runs)
+
+        assertTrue(tracker.add(0, energy(100.0)))
+        assertEquals(2, tracker.runs)
+    }
+
+    /**
+     * Runs that lack one of the metrics should not contribute a sample.
+     */
+    @Test
+    fun testMissingMetric() {
+        val tracker = ConvergenceTracker(ConvergenceSpec(minRuns = 2))
+
+        assertFalse(tracker.add(0, energy(100.0)))
+        assertFalse(tracker.add(1, emptyMap()))
+        assertTrue(tracker.add(2, energy(100.0)))
+    }
+
+    private fun energy(value: Double): Map<ConvergenceMetric, Double> = mapOf(ConvergenceMetric.EnergyUsage to value)
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.experiments.base
+
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertAll
+import org.opendc.compute.simulator.service.ServiceTask
+import org.opendc.simulator.compute.workload.trace.TraceFragment
+import java.util.ArrayList
+
+/**
+ * Testing suite containing tests for the power distribution units between the hosts and the power source.
+ */
+class PowerDistributionTest {
+    /**
+     * Power distribution test 1: Four hosts connected through two levels of units
+     * The power draw at the power source should be the sum of the power draw of all hosts.
+     */
+    @Test
+    fun testPowerDistribution1() {
+        val workload: ArrayList<ServiceTask> =
+            arrayListOf(
+                createTestTask(
+                    id = 0,
+                    fragments =
+                        arrayListOf(
+                            TraceFragment(10 * 60 * 1000, 1000.0),
+                        ),
+                ),
+            )
+
+        val topology = createTopology("powerDistribution/tree.json")
+        val monitor = runTest(topology, workload)
+
+        assertAll(
+            { assertEquals(4, monitor.hostPowerDraws.size) { "The number of hosts is not correct" } },
+            { assertEquals(425.0, monitor.powerDraws[0]) { "The power usage at timestamp 0 is not correct" } },
+            { assertEquals(10 * 60 * 425.0, monitor.energyUsages.sum()) { "The total power usage is not correct" } },
+        )
+    }
+
+    /**
+     * Power distribution test 2: Two idle hosts connected to a unit with a power limit below their demand
+     * The power draw at the power source should be limited by the unit.
+     */
+    @Test
+    fun testPowerDistribution2() {
+        val workload: ArrayList<ServiceTask> =
+            arrayListOf(
+                createTestTask(
+                    id = 0,
+                    fragments =
+                        arrayListOf(
+                            TraceFragment(10 * 60 * 1000, 1000.0),
+                        ),
+                ),
+            )
+
+        val topology = createTopology("powerDistribution/limited.json")
+        val monitor = runTest(topology, workload)
+
+        assertAll(
+            { assertEquals(150.0, monitor.powerDraws[0]) { "The power usage at timestamp 0 is not correct" } },
+            { assertEquals(10 * 60 * 150.0, monitor.energyUsages.sum()) { "The total power usage is not correct" } },
+        )
+    }
+}
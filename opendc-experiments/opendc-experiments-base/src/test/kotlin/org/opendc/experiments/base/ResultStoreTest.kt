@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2026 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.experiments.base
+
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertNotEquals
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+import org.opendc.compute.simulator.scheduler.ComputeSchedulerEnum
+import org.opendc.experiments.base.experiment.Scenario
+import org.opendc.experiments.base.experiment.specs.ScenarioTopologySpec
+import org.opendc.experiments.base.experiment.specs.WorkloadSpec
+import org.opendc.experiments.base.experiment.specs.WorkloadTypes
+import org.opendc.experiments.base.experiment.specs.allocation.PrefabAllocationPolicySpec
+import org.opendc.experiments.base.runner.ResultStore
+import java.io.File
+
+/**
+ * Test suite for the [ResultStore] class.
+ */
+class ResultStoreTest {
+    @TempDir
+    lateinit var outputFolder: File
+
+    private fun createScenario(
+        id: Int,
+        topology: String = "single_1_2000.json",
+        policy: ComputeSchedulerEnum = ComputeSchedulerEnum.Mem,
+    ): Scenario =
+        Scenario(
+            id = id,
+            outputFolder = outputFolder.path,
+            topologySpec = ScenarioTopologySpec("src/test/resources/topologies/$topology"),
+            workloadSpec = WorkloadSpec("src/test/resources/workloadTraces/single_task", type = WorkloadTypes.ComputeWorkload),
+            allocationPolicySpec = PrefabAllocationPolicySpec(policy),
+            failureModelSpec = null,
+            checkpointModelSpec = null,
+        )
+
+    private fun writeOutput(
+        output: File,
+        content: String = "host",
+    ) {
+        output.mkdirs()
+        File(output, "host.parquet").writeText(content)
+    }
+
+    /**
+     * The key should only depend on the content of the scenario and the seed, not on its index.
+     */
+    @Test
+    fun testKey() {
+        val store = ResultStore.of(outputFolder.path)
+
+        val key = store.key(createScenario(0), 0)
+
+        assertEquals(key, store.key(createScenario(1), 0))
+        assertNotEquals(key, store.key(createScenario(0), 1))
+        assertNotEquals(key, store.key(createScenario(0, topology = "single_2_2000.json"), 0))
+        assertNotEquals(key, store.key(createScenario(0, policy = ComputeSchedulerEnum.Random), 0))
+    }
+
+    /**
+     * A recorded result should be reused, and copied when the scenario moved to another index.
+     */
+    @Test
+    fun testRestore() {
+        val store = ResultStore.of(outputFolder.path)
+        val scenario = createScenario(0)
+        val key = store.key(scenario, 0)
+        val output = store.outputOf(scenario, 0)
+
+        assertFalse(store.restore(key, output))
+
+        writeOutput(output)
+        store.record(key, output)
+        assertTrue(store.restore(key, output))
+
+        val moved = store.outputOf(createScenario(3), 0)
+        assertTrue(store.restore(key, moved))
+        assertEquals("host", File(moved, "host.parquet").readText())
+    }
+
+    /**
+     * A result should remain available after another scenario moved to its index and overwrote its output.
+     */
+    @Test
+    fun testOverwrittenResult() {
+        val store = ResultStore.of(outputFolder.path)
+        val scenario = createScenario(0)
+        val other = createScenario(0, topology = "single_2_2000.json")
+        val key = store.key(scenario, 0)
+        val otherKey = store.key(other, 0)
+        val output = store.outputOf(scenario, 0)
+
+        writeOutput(output, "first")
+        store.record(key, output)
+
+        // The sweep was extended and another scenario moved to the same index
+        writeOutput(output, "second")
+        store.record(otherKey, output)
+
+        assertTrue(store.restore(key, output))
+        assertEquals("first", File(output, "host.parquet").readText())
+        assertTrue(store.restore(otherKey, output))
+        assertEquals("second", File(output, "host.parquet").readText())
+    }
+
+    /**
+     * Inserting a topology at the front of a sweep shifts the indices of the existing scenarios, which should still
+     * reuse their own results.
+     */
+    @Test
+    fun testInsertTopology() {
+        val store = ResultStore.of(outputFolder.path)
+        val topologies = listOf("single_1_2000.json", "single_2_2000.json")
+
+        // The original sweep
+        for ((id, topology) in topologies.withIndex()) {
+            val scenario = createScenario(id, topology = topology)
+            val output = store.outputOf(scenario, 0)
+            writeOutput(output, topology)
+            store.record(store.key(scenario, 0), output)
+        }
+
+        // The extended sweep with a new topology in front
+        val inserted = createScenario(0, topology = "single_1_2000.json", policy = ComputeSchedulerEnum.Random)
+        val insertedOutput = store.outputOf(inserted, 0)
+        assertFalse(store.restore(store.key(inserted, 0), insertedOutput))
+        writeOutput(insertedOutput, "inserted")
+        store.record(store.key(inserted, 0), insertedOutput)
+
+        for ((index, topology) in topologies.withIndex()) {
+            val scenario = createScenario(index + 1, topology = topology)
+            val output = store.outputOf(scenario, 0)
+            assertTrue(store.restore(store.key(scenario, 0), output))
+            assertEquals(topology, File(output, "host.parquet").readText())
+        }
+        assertEquals("inserted", File(insertedOutput, "host.parquet").readText())
+    }
+
+    /**
+     * Results that are incomplete or were removed should not be reused.
+     */
+    @Test
+    fun testInvalidResult() {
+        val store = ResultStore.of(outputFolder.path)
+        val scenario = createScenario(0)
+        val key = store.key(scenario, 0)
+        val output = store.outputOf(scenario, 0)
+
+        writeOutput(output)
+        store.record(key, output)
+        store.resultOf(key).deleteRecursively()
+
+        assertFalse(store.restore(key, output))
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.experiments.base
+
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertAll
+import org.opendc.compute.simulator.service.ServiceTask
+import org.opendc.simulator.compute.workload.trace.TraceFragment
+import java.util.ArrayList
+
+/**
+ * Testing suite for extrapolating the metrics of hosts in steady state.
+ */
+class SteadyStateTest {
+    private fun runWithFastForward(
+        topology: String,
+        workload: ArrayList<ServiceTask>,
+    ): TestComputeMonitor {
+        System.setProperty("opendc.telemetry.fastForward", "true")
+        try {
+            return runTest(createTopology(topology), workload)
+        } finally {
+            System.clearProperty("opendc.telemetry.fastForward")
+        }
+    }
+
+    /**
+     * Steady state test 1: A single long fragment followed by a change in load
+     * The extrapolated metrics should match the sampled metrics.
+     */
+    @Test
+    fun testSteadyState1() {
+        val workload: ArrayList<ServiceTask> =
+            arrayListOf(
+                createTestTask(
+                    id = 0,
+                    fragments =
+                        arrayListOf(
+                            TraceFragment(60 * 60 * 1000, 1000.0),
+                            TraceFragment(30 * 60 * 1000, 2000.0),
+                        ),
+                ),
+            )
+
+        val sampled = runTest(createTopology("single_1_2000.json"), workload)
+        val extrapolated = runWithFastForward("single_1_2000.json", workload)
+
+        assertAll(
+            { assertEquals(sampled.hostPowerDraws, extrapolated.hostPowerDraws) { "The power draws are not correct" } },
+            { assertEquals(sampled.hostCpuActiveTimes, extrapolated.hostCpuActiveTimes) { "The active times are not correct" } },
+            { assertEquals(sampled.hostCpuIdleTimes, extrapolated.hostCpuIdleTimes) { "The idle times are not correct" } },
+            { assertEquals(sampled.energyUsages.sum(), extrapolated.energyUsages.sum(), 1e-3) { "The total energy is not correct" } },
+            { assertEquals(0, sampled.fastForwardedRecords) { "No records should be fast-forwarded without the flag" } },
+            { assertTrue(extrapolated.fastForwardedRecords > 0) { "No records were fast-forwarded" } },
+        )
+    }
+
+    /**
+     * Steady state test 2: Two tasks on two hosts that finish at different times
+     * The total energy usage should be the same with and without extrapolation.
+     */
+    @Test
+    fun testSteadyState2() {
+        val workload: ArrayList<ServiceTask> =
+            arrayListOf(
+                createTestTask(
+                    id = 0,
+                    fragments =
+                        arrayListOf(
+                            TraceFragment(2 * 60 * 60 * 1000, 1000.0),
+                        ),
+                ),
+                createTestTask(
+                    id = 1,
+                    fragments =
+                        arrayListOf(
+                            TraceFragment(60 * 60 * 1000, 1500.0),
+                        ),
+                ),
+            )
+
+        val sampled = runTest(createTopology("single_2_2000.json"), workload)
+        val extrapolated = runWithFastForward("single_2_2000.json", workload)
+
+        assertAll(
+            { assertEquals(sampled.maxTimestamp, extrapolated.maxTimestamp) { "The simulation length is not correct" } },
+            { assertEquals(sampled.energyUsages.sum(), extrapolated.energyUsages.sum(), 1e-3) { "The total energy is not correct" } },
+            { assertTrue(extrapolated.fastForwardedRecords > 0) { "No records were fast-forwarded" } },
+        )
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2026 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.experiments.base
+
+import org.junit.jupiter.api.Assertions.assertArrayEquals
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertNotNull
+import org.junit.jupiter.api.Assertions.assertNull
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+import org.opendc.experiments.base.experiment.getExperiment
+import org.opendc.experiments.base.runner.SweepAttempt
+import org.opendc.experiments.base.runner.SweepCoordinator
+import org.opendc.experiments.base.runner.SweepDirectory
+import org.opendc.experiments.base.runner.SweepUnit
+import org.opendc.experiments.base.runner.runExperiment
+import org.opendc.experiments.base.runner.runSweepWorker
+import java.io.File
+import java.time.Duration
+import kotlin.concurrent.thread
+
+/**
+ * Test suite for the [SweepCoordinator] class.
+ */
+class SweepCoordinatorTest {
+    @TempDir
+    lateinit var folder: File
+
+    /**
+     * An attempt should only be claimed by a single worker, and its outcome should be reported once.
+     */
+    @Test
+    fun testClaim() {
+        val dir = SweepDirectory(File(folder, "sweep"))
+        val experiment = File(folder, "experiment.json")
+        experiment.writeText("{}")
+        dir.create(experiment)
+
+        val attempt = SweepAttempt(SweepUnit(1, 2), 1)
+        dir.enqueue(attempt)
+
+        assertEquals(attempt, dir.claim("a"))
+        assertNull(dir.claim("b"))
+        assertEquals("a", dir.running().single().worker)
+
+        dir.complete(attempt, emptyMap())
+
+        assertTrue(dir.running().isEmpty())
+        assertEquals(listOf(attempt), dir.pollCompleted().map { it.first })
+        assertTrue(dir.pollCompleted().isEmpty())
+    }
+
+    /**
+     * The runs of the experiment should be distributed over multiple worker JVMs and merged into the output folder.
+     */
+    @Test
+    fun testSweep() {
+        val experiment = writeExperiment("experiment.json", "output")
+
+        SweepCoordinator(experiment, workers = 2).run()
+
+        val outputFolder = File(folder, "output/sweep")
+        for (scenario in 0..1) {
+            for (seed in 0..1) {
+                val output = File(outputFolder, "raw-output/$scenario/seed=$seed")
+                assertTrue(output.listFiles().orEmpty().any { it.name.endsWith(".parquet") }, "Missing output in $output")
+            }
+        }
+        assertFalse(File(outputFolder, SweepCoordinator.SWEEP_FOLDER).exists())
+    }
+
+    /**
+     * The merged output of a sweep should be identical to the output of running the same experiment in-process.
+     */
+    @Test
+    fun testSweepMatchesInProcess() {
+        SweepCoordinator(writeExperiment("sweep.json", "sweep"), workers = 2).run()
+        runExperiment(getExperiment(writeExperiment("in-process.json", "in-process")))
+
+        assertSameOutput(File(folder, "in-process/sweep/raw-output"), File(folder, "sweep/sweep/raw-output"))
+    }
+
+    /**
+     * A sweep with a non-zero (and negative) initial seed should run the same seeds as an in-process run.
+     */
+    @Test
+    fun testInitialSeed() {
+        val attempt = SweepAttempt(SweepUnit(1, -2), 3)
+        assertEquals(attempt, SweepAttempt.parse(attempt.name))
+
+        SweepCoordinator(writeExperiment("sweep.json", "sweep", initialSeed = -1), workers = 2).run()
+        runExperiment(getExperiment(writeExperiment("in-process.json", "in-process", initialSeed = -1)))
+
+        val expected = File(folder, "in-process/sweep/raw-output")
+        for (scenario in 0..1) {
+            for (seed in -1..0) {
+                assertTrue(File(expected, "$scenario/seed=$seed").isDirectory, "Missing output of seed $seed")
+            }
+        }
+        assertSameOutput(expected, File(folder, "sweep/sweep/raw-output"))
+    }
+
+    /**
+     * An attempt that fails should be attempted again, after which the sweep should complete all runs.
+     */
+    @Test
+    fun testRetry() {
+        val experiment = writeExperiment("experiment.json", "output")
+        val outputFolder = File(folder, "output/sweep")
+        val dir = SweepDirectory(File(outputFolder, SweepCoordinator.SWEEP_FOLDER))
+
+        // Without local workers, this test acts as a remote worker that fails its first attempt
+        var error: Throwable? = null
+        val coordinator =
+            thread {
+                try {
+                    SweepCoordinator(experiment, workers = 0, pollInterval = Duration.ofMillis(50)).run()
+                } catch (e: Throwable) {
+                    error = e
+                }
+            }
+
+        var failed: SweepAttempt? = null
+        while (failed == null && coordinator.isAlive) {
+            failed = if (dir.experimentFile.exists()) dir.claim("flaky") else null
+            Thread.sleep(50)
+        }
+        assertNotNull(failed)
+        dir.fail(failed!!, "Injected failure")
+
+        runSweepWorker(dir.root, "worker", Duration.ofMillis(50))
+        coordinator.join()
+
+        assertNull(error)
+        assertEquals(1, failed.number)
+        val output = File(outputFolder, "raw-output/${failed.unit.scenario}/seed=${failed.unit.seed}")
+        assertTrue(output.listFiles().orEmpty().any { it.name.endsWith(".parquet") }, "Missing output in $output")
+    }
+
+    /**
+     * Assert that the folders [expected] and [actual] contain the same files with the same contents.
+     */
+    private fun assertSameOutput(
+        expected: File,
+        actual: File,
+    ) {
+        val files = expected.walk().filter { it.isFile }.map { it.relativeTo(expected).invariantSeparatorsPath }.toSortedSet()
+
+        assertTrue(files.isNotEmpty(), "The in-process run did not produce any output")
+        assertEquals(files, actual.walk().filter { it.isFile }.map { it.relativeTo(actual).invariantSeparatorsPath }.toSortedSet())
+        for (file in files) {
+            assertArrayEquals(File(expected, file).readBytes(), File(actual, file).readBytes(), "$file differs")
+        }
+    }
+
+    /**
+     * Write an experiment with two topologies and two seeds starting at [initialSeed] to [name], whose output is
+     * written to [output].
+     */
+    private fun writeExperiment(
+        name: String,
+        output: String,
+        initialSeed: Int = 0,
+    ): File {
+        val experiment = File(folder, name)
+        experiment.writeText(
+            """
+            {
+                "name": "sweep",
+                "outputFolder": "${folder.invariantSeparatorsPath}/$output",
+                "initialSeed": $initialSeed,
+                "runs": 2,
+                "topologies": [
+                    {"pathToFile": "src/test/resources/topologies/single_1_2000.json"},
+                    {"pathToFile": "src/test/resources/topologies/single_2_2000.json"}
+                ],
+                "workloads": [{
+                    "pathToFile": "src/test/resources/workloadTraces/single_task",
+                    "type": "ComputeWorkload"
+                }]
+            }
+            """.trimIndent(),
+        )
+        return experiment
+    }
+}
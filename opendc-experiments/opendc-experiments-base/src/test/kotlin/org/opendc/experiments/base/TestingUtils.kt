@@ -35,6 +35,7 @@ import org.opendc.compute.simulator.scheduler.filters.VCpuFilter
 import org.opendc.compute.simulator.scheduler.weights.CoreRamWeigher
 import org.opendc.compute.simulator.service.ComputeService
 import org.opendc.compute.simulator.service.ServiceTask
+import org.opendc.compute.simulator.telemetry.ComputeMetricReader
 import org.opendc.compute.simulator.telemetry.ComputeMonitor
 import org.opendc.compute.simulator.telemetry.table.host.HostTableReader
 import org.opendc.compute.simulator.telemetry.table.powerSource.PowerSourceTableReader
@@ -109,8 +110,8 @@ fun createTestTask(
         ),
         false,
         -1,
-        parents,
-        children,
+        parents.toIntArray(),
+        children.toIntArray(),
     )
 }
 
@@ -125,6 +126,7 @@ fun runTest(
         ),
 ): TestComputeMonitor {
     val monitor = TestComputeMonitor()
+    var metricReader: ComputeMetricReader? = null
 
     runSimulation {
         val seed = 0L
@@ -141,7 +143,8 @@ fun runTest(
 
             val service = provisioner.registry.resolve("compute.opendc.org", ComputeService::class.java)!!
             service.setTasksExpected(workload.size)
-            service.setMetricReader(provisioner.getMonitor())
+            metricReader = provisioner.getMonitor()
+            service.setMetricReader(metricReader)
 
             val workloadCopy = ArrayList<ServiceTask>()
             for (task in workload) {
@@ -152,10 +155,13 @@ fun runTest(
         }
     }
 
+    monitor.fastForwardedRecords = metricReader?.fastForwardedRecords ?: 0
     return monitor
 }
 
 class TestComputeMonitor : ComputeMonitor {
+    var fastForwardedRecords = 0L
+
     var taskCpuDemands = mutableMapOf<Int, ArrayList<Double>>()
     var taskCpuSupplied = mutableMapOf<Int, ArrayList<Double>>()
     var taskGpuDemands = mutableMapOf<Int, ArrayList<Double?>?>()
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.simulator.compute.power
+
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Fork
+import org.openjdk.jmh.annotations.Measurement
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.annotations.Warmup
+import org.openjdk.jmh.infra.Blackhole
+import java.util.SplittableRandom
+import java.util.concurrent.TimeUnit
+
+/**
+ * Benchmark that compares the analytical [PowerModel] implementations against their tabulated counterparts.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 2, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+class PowerModelBenchmark {
+    @Param("sqrt", "cubic", "mse", "asymptotic")
+    private lateinit var modelType: String
+
+    private lateinit var analytical: PowerModel
+    private lateinit var tabulated: PowerModel
+
+    private val utilizations = DoubleArray(4096)
+
+    @Setup
+    fun setUp() {
+        analytical = getPowerModel(modelType, 350.0, 350.0, 200.0, 1.4, 0.3, true)
+        tabulated = PowerModels.tabulated(analytical)
+
+        val random = SplittableRandom(0)
+        for (i in utilizations.indices) {
+            utilizations[i] = random.nextDouble()
+        }
+    }
+
+    @Benchmark
+    fun benchmarkAnalytical(bh: Blackhole) {
+        for (utilization in utilizations) {
+            bh.consume(analytical.computePower(utilization))
+        }
+    }
+
+    @Benchmark
+    fun benchmarkTabulated(bh: Blackhole) {
+        for (utilization in utilizations) {
+            bh.consume(tabulated.computePower(utilization))
+        }
+    }
+}
@@ -276,6 +276,35 @@ public class SimMachine {
         this.completion = completion;
     }
 
+    /**
+     * Determine whether the PSU, distributors and compute resources of the machine have been in steady state since the
+     * specified timestamp. Changes of the guests reach the machine through the demand and supply of the distributors,
+     * so the guests do not have to be checked themselves.
+     *
+     * @param time The timestamp (in milliseconds) since which the machine should be unchanged.
+     */
+    public boolean isSteadySince(long time) {
+        if (!this.psu.isSteadySince(time)) {
+            return false;
+        }
+
+        for (FlowDistributor distributor : this.distributors) {
+            if (distributor != null && !distributor.isSteadySince(time)) {
+                return false;
+            }
+        }
+
+        for (ArrayList<ComputeResource> resources : this.computeResources.values()) {
+            for (ComputeResource resource : resources) {
+                if (resource instanceof FlowNode node && !node.isSteadySince(time)) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
     public void shutdown() {
         shutdown(null);
     }
@@ -22,6 +22,7 @@
 
 package org.opendc.simulator.compute.power;
 
+import java.nio.DoubleBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -31,7 +32,7 @@ import org.opendc.simulator.engine.graph.FlowNode;
 
 /**
  * CarbonModel used to provide the Carbon Intensity of a {@link SimPowerSource}
- * A CarbonModel is based on a list of {@link CarbonFragment} that define the carbon intensity at specific time frames.
+ * A CarbonModel is based on a {@link CarbonTrace} that defines the carbon intensity at specific time frames.
  */
 public class CarbonModel extends FlowNode {
 
@@ -39,10 +40,11 @@ public class CarbonModel extends FlowNode {
 
     private final long startTime; // The absolute timestamp on which the workload started
 
-    private final List<CarbonFragment> fragments;
-    private CarbonFragment current_fragment;
+    private final CarbonTrace trace;
 
     private int fragment_index;
+    private long fragment_start;
+    private long fragment_end;
 
     /**
      * Construct a CarbonModel
@@ -53,14 +55,25 @@ public class CarbonModel extends FlowNode {
      *                  to absolute time (used by carbon fragments).
      */
     public CarbonModel(FlowEngine engine, List<CarbonFragment> carbonFragments, long startTime) {
+        this(engine, CarbonTrace.of(carbonFragments), startTime);
+    }
+
+    /**
+     * Construct a CarbonModel
+     *
+     * @param engine The {@link FlowEngine} the node belongs to
+     * @param trace The {@link CarbonTrace} defining the carbon intensity at different time frames
+     * @param startTime The start time of the simulation. This is used to go from relative time (used by the clock)
+     *                  to absolute time (used by carbon fragments).
+     */
+    public CarbonModel(FlowEngine engine, CarbonTrace trace, long startTime) {
         super(engine);
 
         this.startTime = startTime;
-        this.fragments = carbonFragments;
+        this.trace = trace;
 
-        this.fragment_index = 0;
-        this.current_fragment = this.fragments.get(this.fragment_index);
-        this.pushCarbonIntensity(this.current_fragment.getCarbonIntensity());
+        this.setFragment(0);
+        this.pushCarbonIntensity(this.trace.getCarbonIntensity(this.fragment_index));
     }
 
     public void close() {
@@ -88,19 +101,19 @@ public class CarbonModel extends FlowNode {
     }
 
     /**
-     * Traverse the fragments to find the fragment that matches the given absoluteTime
+     * Make the fragment at the given index the current fragment
      */
-    private void findCorrectFragment(long absoluteTime) {
-
-        // Traverse to the previous fragment, until you reach the correct fragment
-        while (absoluteTime < this.current_fragment.getStartTime()) {
-            this.current_fragment = fragments.get(--this.fragment_index);
-        }
+    private void setFragment(int index) {
+        this.fragment_index = index;
+        this.fragment_start = this.trace.getStartTime(index);
+        this.fragment_end = this.trace.getEndTime(index);
+    }
 
-        // Traverse to the next fragment, until you reach the correct fragment
-        while (absoluteTime >= this.current_fragment.getEndTime()) {
-            this.current_fragment = fragments.get(++this.fragment_index);
-        }
+    /**
+     * Find the fragment that matches the given absoluteTime
+     */
+    private void findCorrectFragment(long absoluteTime) {
+        this.setFragment(this.trace.indexOf(absoluteTime));
     }
 
     @Override
@@ -109,14 +122,14 @@ public class CarbonModel extends FlowNode {
 
         // Check if the current fragment is still the correct fragment,
         // Otherwise, find the correct fragment.
-        if ((absolute_time < current_fragment.getStartTime()) || (absolute_time >= current_fragment.getEndTime())) {
+        if ((absolute_time < fragment_start) || (absolute_time >= fragment_end)) {
             this.findCorrectFragment(absolute_time);
 
-            pushCarbonIntensity(current_fragment.getCarbonIntensity());
+            pushCarbonIntensity(trace.getCarbonIntensity(fragment_index));
         }
 
         // Update again at the end of this fragment
-        return getRelativeTime(current_fragment.getEndTime());
+        return getRelativeTime(fragment_end);
     }
 
     private void pushCarbonIntensity(double carbonIntensity) {
@@ -130,17 +143,43 @@ public class CarbonModel extends FlowNode {
 
         receiver.setCarbonModel(this);
 
-        receiver.updateCarbonIntensity(this.current_fragment.getCarbonIntensity());
+        receiver.updateCarbonIntensity(this.trace.getCarbonIntensity(this.fragment_index));
     }
 
+    /**
+     * Return the {@link CarbonTrace} on which this model is based.
+     */
+    public CarbonTrace getTrace() {
+        return trace;
+    }
+
+    /**
+     * Return the carbon intensities of the fragments following the current fragment.
+     *
+     * @param forecastSize The number of fragments to forecast.
+     * @return A copy of the forecasted carbon intensities.
+     */
     public double[] getForecast(int forecastSize) {
-        return this.fragments
-                .subList(
-                        Math.min(this.fragment_index + 1, this.fragments.size() - 1),
-                        Math.min(this.fragment_index + forecastSize, this.fragments.size()))
-                .stream()
-                .mapToDouble(CarbonFragment::getCarbonIntensity)
-                .toArray();
+        return this.trace.copyOfRange(getForecastStart(), getForecastEnd(forecastSize));
+    }
+
+    /**
+     * Return a read-only view of the carbon intensities of the fragments following the current fragment, without
+     * copying them.
+     *
+     * @param forecastSize The number of fragments to forecast.
+     * @return A view of the forecasted carbon intensities.
+     */
+    public DoubleBuffer getForecastView(int forecastSize) {
+        return this.trace.view(getForecastStart(), getForecastEnd(forecastSize));
+    }
+
+    private int getForecastStart() {
+        return Math.min(this.fragment_index + 1, this.trace.size() - 1);
+    }
+
+    private int getForecastEnd(int forecastSize) {
+        return Math.max(getForecastStart(), Math.min(this.fragment_index + forecastSize, this.trace.size()));
     }
 
     public static <T, U> List<U> castList(List<T> list, Class<U> clazz) {
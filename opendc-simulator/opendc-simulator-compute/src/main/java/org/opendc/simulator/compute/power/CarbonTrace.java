@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.simulator.compute.power;
+
+import java.nio.DoubleBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An immutable carbon intensity trace stored as primitive arrays.
+ *
+ * <p>The trace consists of consecutive fragments. Fragment {@code i} starts at {@code startTimes[i]} and ends at the
+ * start of the next fragment. The first fragment extends to the beginning of time and the last fragment extends
+ * to the end of time, so every timestamp maps to exactly one fragment.
+ *
+ * <p>Since a {@link CarbonTrace} cannot be modified, a single instance can be shared by all {@link CarbonModel}s
+ * that use the same trace.
+ */
+public final class CarbonTrace {
+    private final long[] startTimes;
+    private final double[] carbonIntensities;
+
+    /**
+     * Construct a {@link CarbonTrace}.
+     *
+     * @param startTimes The start times of the fragments (in epoch millis) in ascending order.
+     * @param carbonIntensities The carbon intensity during each fragment.
+     */
+    public CarbonTrace(long[] startTimes, double[] carbonIntensities) {
+        if (startTimes.length != carbonIntensities.length) {
+            throw new IllegalArgumentException("Start times and carbon intensities must have the same length");
+        }
+        if (startTimes.length == 0) {
+            throw new IllegalArgumentException("A carbon trace requires at least one fragment");
+        }
+        for (int i = 1; i < startTimes.length; i++) {
+            if (startTimes[i] < startTimes[i - 1]) {
+                throw new IllegalArgumentException("Start times must be in ascending order");
+            }
+        }
+
+        this.startTimes = startTimes;
+        this.carbonIntensities = carbonIntensities;
+    }
+
+    /**
+     * Construct a {@link CarbonTrace} from the specified list of {@link CarbonFragment}s, ordered by start time.
+     */
+    public static CarbonTrace of(List<CarbonFragment> fragments) {
+        final int size = fragments.size();
+        final long[] startTimes = new long[size];
+        final double[] carbonIntensities = new double[size];
+
+        for (int i = 0; i < size; i++) {
+            final CarbonFragment fragment = fragments.get(i);
+            startTimes[i] = fragment.getStartTime();
+            carbonIntensities[i] = fragment.getCarbonIntensity();
+        }
+
+        return new CarbonTrace(startTimes, carbonIntensities);
+    }
+
+    /**
+     * Return the number of fragments in the trace.
+     */
+    public int size() {
+        return startTimes.length;
+    }
+
+    /**
+     * Return the start time of the fragment at the specified index (in epoch millis).
+     */
+    public long getStartTime(int index) {
+        return index == 0 ? Long.MIN_VALUE : startTimes[index];
+    }
+
+    /**
+     * Return the end time of the fragment at the specified index (in epoch millis).
+     */
+    public long getEndTime(int index) {
+        return index + 1 < startTimes.length ? startTimes[index + 1] : Long.MAX_VALUE;
+    }
+
+    /**
+     * Return the carbon intensity of the fragment at the specified index.
+     */
+    public double getCarbonIntensity(int index) {
+        return carbonIntensities[index];
+    }
+
+    /**
+     * Find the index of the fragment that contains the specified timestamp in O(log n) time.
+     *
+     * @param time The timestamp to look up (in epoch millis).
+     * @return The index of the fragment that contains the timestamp.
+     */
+    public int indexOf(long time) {
+        int index = Arrays.binarySearch(startTimes, time);
+
+        if (index < 0) {
+            // The timestamp lies before the start of the fragment at the insertion point
+            index = -index - 2;
+        } else {
+            // Skip to the last fragment starting at the timestamp, since the preceding ones are empty
+            while (index + 1 < startTimes.length && startTimes[index + 1] == time) {
+                index++;
+            }
+        }
+
+        return Math.max(index, 0);
+    }
+
+    /**
+     * Return a read-only view of the carbon intensities of the fragments in the range {@code [from, to)} without
+     * copying them.
+     */
+    public DoubleBuffer view(int from, int to) {
+        return DoubleBuffer.wrap(carbonIntensities, from, to - from).slice().asReadOnlyBuffer();
+    }
+
+    /**
+     * Copy the carbon intensities of the fragments in the range {@code [from, to)} into a new array.
+     */
+    public double[] copyOfRange(int from, int to) {
+        return Arrays.copyOfRange(carbonIntensities, from, to);
+    }
+
+    /**
+     * Convert this trace into a list of {@link CarbonFragment}s.
+     */
+    public List<CarbonFragment> toFragments() {
+        final int size = startTimes.length;
+        final List<CarbonFragment> fragments = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            fragments.add(new CarbonFragment(getStartTime(i), getEndTime(i), carbonIntensities[i]));
+        }
+
+        return fragments;
+    }
+
+    /**
+     * Return an estimate of the memory occupied by this trace (in bytes).
+     */
+    public long getEstimatedSize() {
+        return 16L * startTimes.length + 64;
+    }
+}
@@ -28,6 +28,11 @@ import java.util.Arrays;
  * A collection {@link CpuPowerModel} implementations.
  */
 public class PowerModels {
+    /**
+     * The default number of intervals of the utilization grid of a tabulated {@link PowerModel}.
+     */
+    public static final int DEFAULT_TABLE_RESOLUTION = 1024;
+
     private PowerModels() {}
 
     /**
@@ -131,6 +136,35 @@ public class PowerModels {
         return new ZeroIdlePowerDecorator(delegate);
     }
 
+    /**
+     * Decorate an existing {@link PowerModel} with a lookup table that is precomputed over a uniform utilization
+     * grid. The power consumption in between two grid points is linearly interpolated, which avoids evaluating
+     * {@link Math#pow(double, double)}, {@link Math#sqrt(double)} or {@link Math#exp(double)} on every update.
+     *
+     * <p>
+     * The delegate should be continuous over the range of 0% to 100% utilization. For utilization levels outside of
+     * this range, the delegate is evaluated directly.
+     *
+     * @param delegate The existing {@link PowerModel} to tabulate.
+     * @param resolution The number of intervals of the utilization grid.
+     */
+    public static PowerModel tabulated(PowerModel delegate, int resolution) {
+        if (resolution < 1) {
+            throw new IllegalArgumentException("Resolution must be positive");
+        }
+        return new TabulatedPowerModel(delegate, resolution);
+    }
+
+    /**
+     * Decorate an existing {@link PowerModel} with a lookup table of {@link #DEFAULT_TABLE_RESOLUTION} intervals.
+     *
+     * @param delegate The existing {@link PowerModel} to tabulate.
+     * @see #tabulated(PowerModel, int)
+     */
+    public static PowerModel tabulated(PowerModel delegate) {
+        return tabulated(delegate, DEFAULT_TABLE_RESOLUTION);
+    }
+
     private static final class ConstantPowerModel implements PowerModel {
         private final double power;
 
@@ -380,6 +414,66 @@ public class PowerModels {
         }
     }
 
+    private static final class TabulatedPowerModel implements PowerModel {
+        private final PowerModel delegate;
+        private final int resolution;
+        private final double[] powers;
+        private final double[] slopes;
+        private final double maxError;
+
+        TabulatedPowerModel(PowerModel delegate, int resolution) {
+            this.delegate = delegate;
+            this.resolution = resolution;
+            this.powers = new double[resolution + 1];
+            this.slopes = new double[resolution + 1];
+
+            for (int i = 0; i <= resolution; i++) {
+                powers[i] = delegate.computePower((double) i / resolution);
+            }
+            for (int i = 0; i < resolution; i++) {
+                slopes[i] = powers[i + 1] - powers[i];
+            }
+
+            // Estimate the interpolation error by sampling the delegate in between the grid points
+            double maxError = 0.0;
+            for (int i = 0; i < resolution; i++) {
+                for (int j = 1; j < 4; j++) {
+                    double t = j / 4.0;
+                    double exact = delegate.computePower((i + t) / resolution);
+                    maxError = Math.max(maxError, Math.abs(exact - (powers[i] + slopes[i] * t)));
+                }
+            }
+            this.maxError = maxError;
+        }
+
+        @Override
+        public double computePower(double utilization) {
+            if (!(utilization >= 0.0 && utilization <= 1.0)) {
+                return delegate.computePower(utilization);
+            }
+
+            double x = utilization * resolution;
+            int index = (int) x;
+            return powers[index] + slopes[index] * (x - index);
+        }
+
+        @Override
+        public String toString() {
+            return "TabulatedPowerModel[delegate=" + delegate + ",resolution=" + resolution + ",maxError=" + maxError
+                    + "]";
+        }
+
+        @Override
+        public String getName() {
+            return delegate.getName();
+        }
+
+        @Override
+        public String getFullName() {
+            return delegate.getFullName();
+        }
+    }
+
     private static final class ZeroIdlePowerDecorator implements PowerModel {
         private final PowerModel delegate;
 
@@ -41,17 +41,25 @@ public fun getPowerModel(
     calibrationFactor: Double = 1.0,
     asymUtil: Double = 0.0,
     dvfs: Boolean = true,
+    tabulated: Boolean = false,
 ): PowerModel {
-    return when (modelType) {
-        "constant" -> PowerModels.constant(power)
-        "sqrt" -> PowerModels.sqrt(maxPower, idlePower)
-        "linear" -> PowerModels.linear(maxPower, idlePower)
-        "square" -> PowerModels.square(maxPower, idlePower)
-        "cubic" -> PowerModels.cubic(maxPower, idlePower)
-        "mse" -> PowerModels.mse(maxPower, idlePower, calibrationFactor)
-        "asymptotic" -> PowerModels.asymptotic(maxPower, idlePower, asymUtil, dvfs)
-        else -> throw IllegalArgumentException("Unknown power modelType $modelType")
+    val model =
+        when (modelType) {
+            "constant" -> PowerModels.constant(power)
+            "sqrt" -> PowerModels.sqrt(maxPower, idlePower)
+            "linear" -> PowerModels.linear(maxPower, idlePower)
+            "square" -> PowerModels.square(maxPower, idlePower)
+            "cubic" -> PowerModels.cubic(maxPower, idlePower)
+            "mse" -> PowerModels.mse(maxPower, idlePower, calibrationFactor)
+            "asymptotic" -> PowerModels.asymptotic(maxPower, idlePower, asymUtil, dvfs)
+            else -> throw IllegalArgumentException("Unknown power modelType $modelType")
+        }
+
+    // Constant and linear models are already cheaper to evaluate than a table lookup
+    if (!tabulated || modelType == "constant" || modelType == "linear") {
+        return model
     }
+    return PowerModels.tabulated(model)
 }
 
 public fun getPowerModel(modelType: String): PowerModel {
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.simulator.compute.power;
+
+import org.opendc.simulator.engine.engine.FlowEngine;
+import org.opendc.simulator.engine.graph.FlowEdge;
+import org.opendc.simulator.engine.graph.distributionPolicies.MaxMinFairnessFlowDistributor;
+
+/**
+ * An intermediate node in the power distribution tree of a cluster, such as a rack or a power distribution unit (PDU).
+ * <p>
+ * A {@link SimPowerDistributionUnit} aggregates the power demand of its consumers (hosts or other distribution units)
+ * and forwards it to its supplier. The demand that is forwarded is limited to the power limit of the unit. When the
+ * demand of the consumers exceeds this limit, the available power is divided among them using max-min fairness.
+ * <p>
+ * Since a unit only forwards its aggregated demand, a change in the demand of a single host only touches the units on
+ * the path from the host to the power source.
+ */
+public final class SimPowerDistributionUnit extends MaxMinFairnessFlowDistributor {
+    private final String name;
+    private final double powerLimit;
+
+    /**
+     * Construct a {@link SimPowerDistributionUnit}.
+     *
+     * @param engine The {@link FlowEngine} the node belongs to.
+     * @param name The name of the unit.
+     * @param maxConsumers The maximum number of consumers connected to the unit.
+     * @param powerLimit The maximum power that can be drawn through the unit (in W).
+     */
+    public SimPowerDistributionUnit(FlowEngine engine, String name, int maxConsumers, double powerLimit) {
+        super(engine, maxConsumers, 1);
+
+        this.name = name;
+        this.powerLimit = powerLimit;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Return the maximum power that can be drawn through the unit (in W).
+     */
+    public double getPowerLimit() {
+        return powerLimit;
+    }
+
+    /**
+     * Return the aggregated power demand of the consumers of the unit (in W).
+     */
+    public double getPowerDemand() {
+        return this.totalIncomingDemand;
+    }
+
+    /**
+     * Return the power that is supplied to the unit (in W).
+     */
+    public double getPowerDraw() {
+        return this.totalIncomingSupply;
+    }
+
+    @Override
+    public double getCapacity() {
+        return Math.min(super.getCapacity(), this.powerLimit);
+    }
+
+    @Override
+    public void pushOutgoingDemand(FlowEdge supplierEdge, double newDemand) {
+        super.pushOutgoingDemand(supplierEdge, Math.min(newDemand, this.powerLimit));
+    }
+}
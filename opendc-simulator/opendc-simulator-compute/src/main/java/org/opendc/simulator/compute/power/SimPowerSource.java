@@ -200,6 +200,7 @@ public final class SimPowerSource extends FlowNode implements FlowSupplier, Carb
     public void updateCarbonIntensity(double carbonIntensity) {
         this.updateCounters();
         this.carbonIntensity = carbonIntensity;
+        this.markChanged(this.clock.millis());
     }
 
     @Override
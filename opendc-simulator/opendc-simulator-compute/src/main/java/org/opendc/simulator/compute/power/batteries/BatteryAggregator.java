@@ -23,7 +23,6 @@
 package org.opendc.simulator.compute.power.batteries;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import org.opendc.common.ResourceType;
@@ -47,8 +46,7 @@ public class BatteryAggregator extends FlowNode implements FlowConsumer, FlowSup
 
     private double incomingSupply;
 
-    private final ArrayList<Double> incomingSupplies = new ArrayList<>(Arrays.asList(0.0, 0.0));
-    private final ArrayList<Double> outgoingDemands = new ArrayList<>(Arrays.asList(0.0, 0.0));
+    private final double[] incomingSupplies = new double[2];
 
     private boolean outgoingDemandUpdateNeeded = false;
 
@@ -119,9 +117,9 @@ public class BatteryAggregator extends FlowNode implements FlowConsumer, FlowSup
     public void handleIncomingSupply(FlowEdge supplierEdge, double newSupply) {
         int supplier_id = supplierEdge.getSupplierIndex();
 
-        this.incomingSupply += newSupply - this.incomingSupplies.get(supplier_id);
+        this.incomingSupply += newSupply - this.incomingSupplies[supplier_id];
 
-        this.incomingSupplies.set(supplier_id, newSupply);
+        this.incomingSupplies[supplier_id] = newSupply;
 
         this.invalidate();
     }
@@ -52,10 +52,10 @@ public class SimBattery extends FlowNode implements FlowConsumer, FlowSupplier {
 
     private final String name;
     private final String clusterName;
-    private final Double embodiedCarbonRate; // The rate of carbon emissions per millisecond
-    private Double embodiedCarbonEmission = 0.0;
+    private final double embodiedCarbonRate; // The rate of carbon emissions per millisecond
+    private double embodiedCarbonEmission = 0.0;
 
-    public Double getEmbodiedCarbonEmission() {
+    public double getEmbodiedCarbonEmission() {
         return embodiedCarbonEmission;
     }
 
@@ -139,8 +139,8 @@ public class SimBattery extends FlowNode implements FlowConsumer, FlowSupplier {
             double initialCharge,
             String name,
             String clusterName,
-            Double totalEmbodiedCarbon,
-            Double expectedLifeTime) {
+            double totalEmbodiedCarbon,
+            double expectedLifeTime) {
 
         super(engine);
         this.capacity = capacity * 3600000;
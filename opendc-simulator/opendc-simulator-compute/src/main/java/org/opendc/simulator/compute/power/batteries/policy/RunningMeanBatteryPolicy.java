@@ -22,7 +22,7 @@
 
 package org.opendc.simulator.compute.power.batteries.policy;
 
-import java.util.LinkedList;
+import org.opendc.common.util.SlidingWindow;
 import org.opendc.simulator.compute.power.batteries.BatteryAggregator;
 import org.opendc.simulator.compute.power.batteries.BatteryState;
 import org.opendc.simulator.compute.power.batteries.SimBattery;
@@ -38,10 +38,7 @@ import org.opendc.simulator.engine.engine.FlowEngine;
  *   the battery will start discharging until empty.
  */
 public class RunningMeanBatteryPolicy extends BatteryPolicy {
-    private final int windowSize;
-
-    private final LinkedList<Double> pastCarbonIntensities = new LinkedList<>();
-    private double pastCarbonIntensitiesSum = 0.0;
+    private final SlidingWindow pastCarbonIntensities;
     private double pastCarbonIntensitiesMean = 0.0;
 
     /**
@@ -58,7 +55,7 @@ public class RunningMeanBatteryPolicy extends BatteryPolicy {
             int windowSize) {
         super(engine, battery, aggregator);
 
-        this.windowSize = windowSize;
+        this.pastCarbonIntensities = new SlidingWindow(windowSize);
 
         this.updatePastCarbonIntensities(startingThreshold);
     }
@@ -70,12 +67,8 @@ public class RunningMeanBatteryPolicy extends BatteryPolicy {
      * @param newCarbonIntensity
      */
     private void updatePastCarbonIntensities(double newCarbonIntensity) {
-        if (this.pastCarbonIntensities.size() == this.windowSize) {
-            this.pastCarbonIntensitiesSum -= this.pastCarbonIntensities.removeFirst();
-        }
-        this.pastCarbonIntensities.addLast(newCarbonIntensity);
-        this.pastCarbonIntensitiesSum += newCarbonIntensity;
-        this.pastCarbonIntensitiesMean = this.pastCarbonIntensitiesSum / this.pastCarbonIntensities.size();
+        this.pastCarbonIntensities.add(newCarbonIntensity);
+        this.pastCarbonIntensitiesMean = this.pastCarbonIntensities.getMean();
     }
 
     @Override
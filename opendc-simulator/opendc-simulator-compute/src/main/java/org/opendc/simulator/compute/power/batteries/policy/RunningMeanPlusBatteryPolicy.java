@@ -22,7 +22,7 @@
 
 package org.opendc.simulator.compute.power.batteries.policy;
 
-import java.util.LinkedList;
+import org.opendc.common.util.SlidingWindow;
 import org.opendc.simulator.compute.power.batteries.BatteryAggregator;
 import org.opendc.simulator.compute.power.batteries.BatteryState;
 import org.opendc.simulator.compute.power.batteries.SimBattery;
@@ -33,12 +33,9 @@ import org.opendc.simulator.engine.engine.FlowEngine;
  * It uses the same logic, but only start charging if the carbon intensity is not decreasing anymore.
  */
 public class RunningMeanPlusBatteryPolicy extends BatteryPolicy {
-    private final int windowSize;
-
-    private final LinkedList<Double> pastCarbonIntensities = new LinkedList<>();
+    private final SlidingWindow pastCarbonIntensities;
     private double previousCarbonIntensity = 0.0;
 
-    private double pastCarbonIntensitiesSum = 0.0;
     private double pastCarbonIntensitiesMean = 0.0;
 
     /**
@@ -55,23 +52,18 @@ public class RunningMeanPlusBatteryPolicy extends BatteryPolicy {
             int windowSize) {
         super(engine, battery, aggregator);
 
-        this.windowSize = windowSize;
+        this.pastCarbonIntensities = new SlidingWindow(windowSize);
 
         this.updatePastCarbonIntensities(startingThreshold);
     }
 
     private void updatePastCarbonIntensities(double newCarbonIntensity) {
-        if (this.pastCarbonIntensities.size() == this.windowSize) {
-            this.pastCarbonIntensitiesSum -= this.pastCarbonIntensities.removeFirst();
-        }
-
-        if (this.pastCarbonIntensities.size() > 0) {
+        if (!this.pastCarbonIntensities.isEmpty()) {
             this.previousCarbonIntensity = this.pastCarbonIntensities.getLast();
         }
 
-        this.pastCarbonIntensities.addLast(newCarbonIntensity);
-        this.pastCarbonIntensitiesSum += newCarbonIntensity;
-        this.pastCarbonIntensitiesMean = this.pastCarbonIntensitiesSum / this.pastCarbonIntensities.size();
+        this.pastCarbonIntensities.add(newCarbonIntensity);
+        this.pastCarbonIntensitiesMean = this.pastCarbonIntensities.getMean();
     }
 
     @Override
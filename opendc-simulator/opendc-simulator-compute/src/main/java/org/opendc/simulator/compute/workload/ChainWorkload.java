@@ -62,6 +62,17 @@ public record ChainWorkload(
         this.workloads.subList(0, numberOfWorkloads).clear();
     }
 
+    @Override
+    public ChainWorkload copy() {
+        ArrayList<Workload> copies = new ArrayList<>(this.workloads.size());
+        for (Workload wl : this.workloads) {
+            copies.add(wl.copy());
+        }
+
+        return new ChainWorkload(
+                copies, this.checkpointInterval, this.checkpointDuration, this.checkpointIntervalScaling);
+    }
+
     @Override
     public SimWorkload startWorkload(FlowSupplier supplier) {
         return new VirtualMachine(supplier, this);
@@ -42,4 +42,9 @@ public interface Workload {
     SimWorkload startWorkload(FlowSupplier supplier);
 
     SimWorkload startWorkload(List<FlowSupplier> supplier, SimMachine machine, Consumer<Exception> completion);
+
+    /**
+     * Create a copy of this workload that resumes from the same point, but can be started independently.
+     */
+    Workload copy();
 }
@@ -25,7 +25,6 @@ package org.opendc.simulator.compute.workload.trace;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import org.opendc.common.ResourceType;
@@ -41,9 +40,12 @@ import org.slf4j.LoggerFactory;
 
 public class SimTraceWorkload extends SimWorkload implements FlowConsumer {
     private static final Logger LOGGER = LoggerFactory.getLogger(SimTraceWorkload.class);
-    private LinkedList<TraceFragment> remainingFragments;
+    // The index of the next fragment of the snapshot to execute
     private int fragmentIndex;
 
+    // The fragment that models the checkpointing process, which is executed before the remaining fragments
+    private TraceFragment checkpointFragment;
+
     private TraceFragment currentFragment;
     private long startOfFragment;
 
@@ -121,7 +123,6 @@ public class SimTraceWorkload extends SimWorkload implements FlowConsumer {
         this.snapshot = workload;
         this.checkpointDuration = workload.checkpointDuration();
         this.scalingPolicy = workload.getScalingPolicy();
-        this.remainingFragments = new LinkedList<>(workload.getFragments());
         this.fragmentIndex = 0;
         this.taskId = workload.getTaskId();
 
@@ -142,7 +143,6 @@ public class SimTraceWorkload extends SimWorkload implements FlowConsumer {
         this.snapshot = workload;
         this.checkpointDuration = workload.checkpointDuration();
         this.scalingPolicy = workload.getScalingPolicy();
-        this.remainingFragments = new LinkedList<>(workload.getFragments());
         this.fragmentIndex = 0;
         this.taskId = workload.getTaskId();
 
@@ -278,15 +278,27 @@ public class SimTraceWorkload extends SimWorkload implements FlowConsumer {
      * @return The next TraceFragment or null if there are no more fragments
      */
     public TraceFragment getNextFragment() {
-        if (this.remainingFragments.isEmpty()) {
+        if (this.checkpointFragment != null) {
+            this.currentFragment = this.checkpointFragment;
+            this.checkpointFragment = null;
+        } else if (this.fragmentIndex >= 0 && this.fragmentIndex < this.snapshot.getFragmentCount()) {
+            this.currentFragment = this.snapshot.getFragment(this.fragmentIndex);
+        } else {
             return null;
         }
-        this.currentFragment = this.remainingFragments.pop();
         this.fragmentIndex++;
 
         return this.currentFragment;
     }
 
+    /**
+     * Check if there are fragments left to execute after the current fragment
+     */
+    private boolean hasRemainingFragments() {
+        return this.checkpointFragment != null
+                || (this.fragmentIndex >= 0 && this.fragmentIndex < this.snapshot.getFragmentCount());
+    }
+
     /**
      * Start the next fragment by resetting the remaining work and pushing new demands to the VM
      *
@@ -330,14 +342,13 @@ public class SimTraceWorkload extends SimWorkload implements FlowConsumer {
     @Override
     public void stopWorkload() {
         // If the workload is stopped due to an error or failure, calculate the wasted time for bookkeeping.
-        if (this.totalRemainingWork > 0.0 || !this.remainingFragments.isEmpty()) {
+        if (this.totalRemainingWork > 0.0 || this.hasRemainingFragments()) {
             // Failure
 
             this.updateRemainingWork(this.clock.millis() - this.startOfFragment);
 
             for (int i = 0; i < this.fragmentIndex; i++) {
-                this.snapshot.failureDelay +=
-                        this.snapshot.getFragments().get(i).duration();
+                this.snapshot.failureDelay += this.snapshot.getFragment(i).duration();
             }
             this.snapshot.failureDelay -= (long) this.totalRemainingWork;
         }
@@ -355,7 +366,7 @@ public class SimTraceWorkload extends SimWorkload implements FlowConsumer {
             this.resourceFinished[resourceType.ordinal()] = true;
         }
 
-        this.remainingFragments = null;
+        this.checkpointFragment = null;
         this.currentFragment = null;
     }
 
@@ -374,10 +385,10 @@ public class SimTraceWorkload extends SimWorkload implements FlowConsumer {
      * <p>
      * First calculate the remaining work of the current fragment based on the time passed since the last update.
      * Then, Create a new fragment based on the current fragment and the remaining work.
-     * Finally, update the snapshot and the remaining fragments.
+     * Finally, move the snapshot of the workload past the completed fragments.
      * <p>
      * The snapshot contains all remaining fragments, with the current fragment adjusted to only include the remaining
-     * work.
+     * work. As the fragments are shared between snapshots, this does not copy or shift the remaining fragments.
      *
      * @param now Current time in milliseconds
      */
@@ -391,35 +402,36 @@ public class SimTraceWorkload extends SimWorkload implements FlowConsumer {
         long remainingDuration = Arrays.stream(this.remainingTime).max().orElseThrow();
 
         // If this is the end of the Task, don't make a snapshot
-        if (this.currentFragment == null || (remainingDuration <= 0 && remainingFragments.isEmpty())) {
+        if (this.currentFragment == null || (remainingDuration <= 0 && !this.hasRemainingFragments())) {
             return;
         }
 
-        // Remove all fragments up to and including the current fragment from the snapshot
-        // These fragments will have to be re-executed after a failure
-        this.snapshot.removeFragments(this.fragmentIndex);
+        // The previous checkpoint is still being written, so there is no progress to store yet
+        if (this.fragmentIndex <= 0) {
+            return;
+        }
 
         // Create a new fragment with the same resource usage as the current fragment,
-        // but with the remaining duration. Put the adjusted fragment at the front of the
-        // remaining fragments and snapshot
+        // but with the remaining duration.
+        TraceFragment adjustedFragment = null;
         if (remainingDuration > 0) {
-            TraceFragment adjustedFragment = new TraceFragment(
+            adjustedFragment = new TraceFragment(
                     remainingDuration,
                     currentFragment.cpuUsage(),
                     currentFragment.gpuUsage(),
                     currentFragment.gpuMemoryUsage());
-
-            this.snapshot.addFirst(adjustedFragment);
-            this.remainingFragments.addFirst(adjustedFragment);
         }
 
-        // Create a fragment for processing the snapshot process and add it to the front of the remaining fragments
-        TraceFragment snapshotFragment = new TraceFragment(
+        // Skip all fragments up to and including the current fragment in the snapshot and resume from the adjusted
+        // fragment. These fragments will have to be re-executed after a failure
+        this.snapshot.advanceSnapshot(this.fragmentIndex, adjustedFragment);
+
+        // Create a fragment for processing the snapshot process and execute it before the remaining fragments
+        this.checkpointFragment = new TraceFragment(
                 this.checkpointDuration,
                 this.snapshot.getMaxCpuDemand(),
                 this.snapshot.getMaxGpuDemand(),
                 this.snapshot.getMaxGpuMemoryDemand());
-        this.remainingFragments.addFirst(snapshotFragment);
 
         // Add the checkpoint duration for bookkeeping
         this.snapshot.checkpointDelay += this.checkpointDuration;
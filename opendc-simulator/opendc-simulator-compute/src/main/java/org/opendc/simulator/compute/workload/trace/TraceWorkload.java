@@ -22,6 +22,7 @@
 
 package org.opendc.simulator.compute.workload.trace;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
@@ -29,6 +30,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.function.Consumer;
 import org.opendc.common.ResourceType;
+import org.opendc.common.util.UsageCoalescer;
 import org.opendc.simulator.compute.machine.SimMachine;
 import org.opendc.simulator.compute.workload.SimWorkload;
 import org.opendc.simulator.compute.workload.Workload;
@@ -46,6 +48,12 @@ public class TraceWorkload implements Workload {
     private final int taskId;
     private final ResourceType[] resourceTypes;
 
+    /**
+     * The position from which the workload resumes after the last snapshot. The fragment storage itself is shared
+     * and never modified, so taking a snapshot only replaces this position.
+     */
+    private SnapshotPosition position = SnapshotPosition.INITIAL;
+
     public long checkpointDelay = 0;
     public long failureDelay = 0;
 
@@ -84,8 +92,73 @@ public class TraceWorkload implements Workload {
         this.resourceTypes = resourceTypes;
     }
 
-    public ArrayList<TraceFragment> getFragments() {
-        return fragments;
+    /**
+     * Construct a copy of the specified workload, which shares its (immutable) fragments.
+     */
+    private TraceWorkload(TraceWorkload other) {
+        this.fragments = other.fragments;
+        this.checkpointInterval = other.checkpointInterval;
+        this.checkpointDuration = other.checkpointDuration;
+        this.checkpointIntervalScaling = other.checkpointIntervalScaling;
+        this.scalingPolicy = other.scalingPolicy;
+        this.taskId = other.taskId;
+        this.maxCpuDemand = other.maxCpuDemand;
+        this.maxGpuDemand = other.maxGpuDemand;
+        this.maxGpuMemoryDemand = other.maxGpuMemoryDemand;
+        this.resourceTypes = other.resourceTypes;
+        this.position = other.position;
+        this.checkpointDelay = other.checkpointDelay;
+        this.failureDelay = other.failureDelay;
+    }
+
+    /**
+     * Return a read-only view of the fragments that remain to be executed from the last snapshot.
+     */
+    public List<TraceFragment> getFragments() {
+        return new AbstractList<>() {
+            @Override
+            public TraceFragment get(int index) {
+                return getFragment(index);
+            }
+
+            @Override
+            public int size() {
+                return getFragmentCount();
+            }
+        };
+    }
+
+    /**
+     * Return the number of fragments that remain to be executed from the last snapshot.
+     */
+    public int getFragmentCount() {
+        SnapshotPosition position = this.position;
+        return (position.head() != null ? 1 : 0) + this.fragments.size() - position.startIndex();
+    }
+
+    /**
+     * Return the fragment at the specified index of the fragments that remain to be executed from the last snapshot.
+     *
+     * @param index The index of the fragment relative to the last snapshot.
+     */
+    public TraceFragment getFragment(int index) {
+        SnapshotPosition position = this.position;
+        if (position.head() != null) {
+            if (index == 0) {
+                return position.head();
+            }
+            index--;
+        }
+
+        if (index < 0 || position.startIndex() + index >= this.fragments.size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for snapshot of task " + taskId);
+        }
+
+        return this.fragments.get(position.startIndex() + index);
+    }
+
+    public SnapshotPosition getSnapshotPosition() {
+        return position;
     }
 
     @Override
@@ -127,22 +200,37 @@ public class TraceWorkload implements Workload {
         return checkpointDelay;
     }
 
-    public void removeFragments(int numberOfFragments) {
-        if (numberOfFragments <= 0) {
-            return;
-        }
+    /**
+     * Move the snapshot past the specified number of fragments and resume from the given (partially executed)
+     * fragment. This runs in constant time, as only the {@link SnapshotPosition} is replaced.
+     *
+     * @param numberOfFragments The number of fragments of the current snapshot that have been completed.
+     * @param head The fragment to execute before the remaining fragments, or <code>null</code> if there is none.
+     */
+    public void advanceSnapshot(int numberOfFragments, TraceFragment head) {
+        SnapshotPosition position = this.position;
+        int startIndex = position.startIndex();
 
-        this.fragments.subList(0, numberOfFragments).clear();
-    }
+        if (numberOfFragments > 0) {
+            // The first completed fragment is the head of the previous snapshot, if there is one
+            startIndex += position.head() != null ? numberOfFragments - 1 : numberOfFragments;
+        }
 
-    public void addFirst(TraceFragment fragment) {
-        this.fragments.addFirst(fragment);
+        this.position = new SnapshotPosition(Math.min(startIndex, this.fragments.size()), head);
     }
 
     public ResourceType[] getResourceTypes() {
         return Arrays.stream(resourceTypes).filter(Objects::nonNull).toArray(ResourceType[]::new);
     }
 
+    /**
+     * Create a copy of this workload that resumes from the current snapshot. This does not copy the fragments.
+     */
+    @Override
+    public TraceWorkload copy() {
+        return new TraceWorkload(this);
+    }
+
     @Override
     public SimWorkload startWorkload(FlowSupplier supplier) {
         return new SimTraceWorkload(supplier, this);
@@ -157,6 +245,16 @@ public class TraceWorkload implements Workload {
         return new SimTraceWorkload(supplier, this);
     }
 
+    /**
+     * An immutable position in the shared fragment storage of a {@link TraceWorkload}.
+     *
+     * @param startIndex The index of the first fragment in the shared storage that has not been executed.
+     * @param head The partially executed fragment to run before <code>startIndex</code>, or <code>null</code>.
+     */
+    public record SnapshotPosition(int startIndex, TraceFragment head) {
+        static final SnapshotPosition INITIAL = new SnapshotPosition(0, null);
+    }
+
     public static Builder builder(
             long checkpointInterval,
             long checkpointDuration,
@@ -175,6 +273,18 @@ public class TraceWorkload implements Workload {
         private final int taskId;
         private final ResourceType[] resourceTypes = new ResourceType[ResourceType.values().length];
 
+        /**
+         * The groups of fragments whose CPU and GPU usage is currently being coalesced, or <code>null</code> if
+         * coalescing is disabled.
+         */
+        private UsageCoalescer cpuCoalescer;
+
+        private UsageCoalescer gpuCoalescer;
+        private int pendingGpuMemoryUsage;
+
+        private int addedFragments;
+        private double maxCoalescingError;
+
         /**
          * Construct a new {@link Builder} instance.
          */
@@ -209,13 +319,59 @@ public class TraceWorkload implements Workload {
             if (gpuUsage > 0.0) {
                 this.resourceTypes[ResourceType.GPU.ordinal()] = ResourceType.GPU;
             }
-            fragments.add(fragments.size(), new TraceFragment(duration, cpuUsage, gpuUsage, gpuMemoryUsage));
+            addedFragments++;
+
+            if (cpuCoalescer == null) {
+                fragments.add(fragments.size(), new TraceFragment(duration, cpuUsage, gpuUsage, gpuMemoryUsage));
+                return;
+            }
+
+            if (pendingGpuMemoryUsage != gpuMemoryUsage
+                    || !cpuCoalescer.fits(cpuUsage)
+                    || !gpuCoalescer.fits(gpuUsage)) {
+                flushPending();
+            }
+
+            cpuCoalescer.add(duration, cpuUsage);
+            gpuCoalescer.add(duration, gpuUsage);
+            pendingGpuMemoryUsage = gpuMemoryUsage;
+        }
+
+        /**
+         * Enable coalescing of consecutive fragments whose usage stays within the specified relative tolerance,
+         * following the rule of {@link UsageCoalescer}. Merged fragments use the duration-weighted average usage, so
+         * the total work of the trace is preserved.
+         *
+         * @param tolerance The maximum difference between the lowest and highest usage within a merged fragment,
+         *                  relative to the highest usage.
+         */
+        public Builder withCoalesceTolerance(double tolerance) {
+            this.cpuCoalescer = new UsageCoalescer(tolerance);
+            this.gpuCoalescer = new UsageCoalescer(tolerance);
+            return this;
+        }
+
+        /**
+         * Return the number of fragments that were added to this builder.
+         */
+        public int getAddedFragments() {
+            return addedFragments;
+        }
+
+        /**
+         * Return the largest deviation between the usage of an added fragment and the usage of the fragment it was
+         * merged into, relative to the peak usage of the merged fragment.
+         */
+        public double getMaxCoalescingError() {
+            return maxCoalescingError;
         }
 
         /**
          * Build the {@link TraceWorkload} instance.
          */
         public TraceWorkload build() {
+            flushPending();
+
             return new TraceWorkload(
                     this.fragments,
                     this.checkpointInterval,
@@ -225,5 +381,26 @@ public class TraceWorkload implements Workload {
                     this.taskId,
                     this.resourceTypes);
         }
+
+        /**
+         * Emit the group of fragments that is currently being coalesced as a single fragment.
+         */
+        private void flushPending() {
+            if (cpuCoalescer == null || cpuCoalescer.isEmpty()) {
+                return;
+            }
+
+            maxCoalescingError = Math.max(maxCoalescingError, cpuCoalescer.getError());
+            maxCoalescingError = Math.max(maxCoalescingError, gpuCoalescer.getError());
+
+            fragments.add(new TraceFragment(
+                    cpuCoalescer.getDuration(),
+                    cpuCoalescer.getUsage(),
+                    gpuCoalescer.getUsage(),
+                    pendingGpuMemoryUsage));
+
+            cpuCoalescer.reset();
+            gpuCoalescer.reset();
+        }
     }
 }
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.simulator.compute.power
+
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertAll
+import kotlin.math.abs
+import kotlin.math.sqrt
+
+/**
+ * Test suite for the tabulated [PowerModel] implementations.
+ */
+class PowerModelsTest {
+    private val models =
+        listOf(
+            PowerModels.square(350.0, 200.0),
+            PowerModels.cubic(350.0, 200.0),
+            PowerModels.mse(350.0, 200.0, 1.4),
+            PowerModels.asymptotic(350.0, 200.0, 0.3, false),
+            PowerModels.asymptotic(350.0, 200.0, 0.3, true),
+            PowerModels.interpolate(100.0, 120.0, 135.0, 150.0, 170.0, 190.0, 210.0, 235.0, 260.0, 285.0, 310.0),
+        )
+
+    private fun maxError(
+        exact: PowerModel,
+        tabulated: PowerModel,
+    ): Double {
+        var error = 0.0
+        for (i in 0..100_000) {
+            val utilization = i / 100_000.0
+            error = maxOf(error, abs(exact.computePower(utilization) - tabulated.computePower(utilization)))
+        }
+        return error
+    }
+
+    @Test
+    fun testTabulatedAccuracy() {
+        assertAll(
+            models.map { model ->
+                {
+                    val error = maxError(model, PowerModels.tabulated(model))
+                    assertTrue(error < 0.05) { "The error of $model is too large: $error W" }
+                }
+            },
+        )
+    }
+
+    @Test
+    fun testTabulatedSqrtAccuracy() {
+        val model = PowerModels.sqrt(350.0, 200.0)
+        val error = maxError(model, PowerModels.tabulated(model))
+
+        // The square root is steepest at 0% utilization, where the error of the first interval is sqrt(h) / 4
+        val bound = (350.0 - 200.0) * sqrt(1.0 / PowerModels.DEFAULT_TABLE_RESOLUTION) / 4
+        assertTrue(error <= bound) { "The error of $model is too large: $error W" }
+    }
+
+    @Test
+    fun testTabulatedGridPoints() {
+        val model = PowerModels.cubic(350.0, 200.0)
+        val tabulated = PowerModels.tabulated(model, 4)
+
+        assertAll(
+            { assertEquals(model.computePower(0.0), tabulated.computePower(0.0)) },
+            { assertEquals(model.computePower(0.5), tabulated.computePower(0.5)) },
+            { assertEquals(model.computePower(1.0), tabulated.computePower(1.0)) },
+            { assertEquals(model.computePower(1.5), tabulated.computePower(1.5)) },
+        )
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.simulator.compute.workload
+
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.Test
+import org.opendc.simulator.compute.workload.trace.TraceFragment
+import org.opendc.simulator.compute.workload.trace.TraceWorkload
+import org.opendc.simulator.compute.workload.trace.scaling.NoDelayScaling
+
+/**
+ * Test suite for the [TraceWorkload.Builder] class.
+ */
+class TraceWorkloadTest {
+    @Test
+    fun testNoCoalescingByDefault() {
+        val builder = TraceWorkload.builder(0L, 0L, 1.0, NoDelayScaling(), 0)
+        builder.add(1000, 100.0, 0.0, 0)
+        builder.add(1000, 100.0, 0.0, 0)
+
+        assertEquals(2, builder.build().fragments.size)
+    }
+
+    @Test
+    fun testCoalescingPreservesWork() {
+        val builder = TraceWorkload.builder(0L, 0L, 1.0, NoDelayScaling(), 0).withCoalesceTolerance(0.05)
+        builder.add(30_000, 1000.0, 0.0, 0)
+        builder.add(30_000, 1020.0, 0.0, 0)
+        builder.add(60_000, 990.0, 0.0, 0)
+        builder.add(30_000, 2000.0, 0.0, 0)
+
+        val fragments = builder.build().fragments
+        assertEquals(4, builder.addedFragments)
+        assertEquals(2, fragments.size)
+
+        val work = fragments.sumOf { it.cpuUsage * it.duration }
+        assertEquals(30_000 * 1000.0 + 30_000 * 1020.0 + 60_000 * 990.0 + 30_000 * 2000.0, work, 1e-6)
+        assertEquals(120_000, fragments[0].duration)
+        assertTrue(builder.maxCoalescingError <= 0.05)
+    }
+
+    @Test
+    fun testCoalescingRespectsTolerance() {
+        val builder = TraceWorkload.builder(0L, 0L, 1.0, NoDelayScaling(), 0).withCoalesceTolerance(0.01)
+        builder.add(1000, 1000.0, 0.0, 0)
+        builder.add(1000, 1008.0, 0.0, 0)
+        builder.add(1000, 1016.0, 0.0, 0)
+
+        // The spread of the first two fragments is within the tolerance, but adding the third would exceed it
+        assertEquals(2, builder.build().fragments.size)
+    }
+
+    @Test
+    fun testAdvanceSnapshot() {
+        val builder = TraceWorkload.builder(0L, 0L, 1.0, NoDelayScaling(), 0)
+        builder.add(1000, 100.0, 0.0, 0)
+        builder.add(1000, 200.0, 0.0, 0)
+        builder.add(1000, 300.0, 0.0, 0)
+        val workload = builder.build()
+
+        // Complete the first fragment and half of the second
+        workload.advanceSnapshot(2, TraceFragment(500, 200.0, 0.0, 0))
+        assertEquals(listOf(500L, 1000L), workload.fragments.map { it.duration })
+        assertEquals(200.0, workload.getFragment(0).cpuUsage)
+
+        // Complete the adjusted head exactly
+        workload.advanceSnapshot(1, null)
+        assertEquals(listOf(300.0), workload.fragments.map { it.cpuUsage })
+        assertEquals(2, workload.snapshotPosition.startIndex)
+    }
+}
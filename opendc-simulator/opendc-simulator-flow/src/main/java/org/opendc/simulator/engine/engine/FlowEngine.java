@@ -24,6 +24,8 @@ package org.opendc.simulator.engine.engine;
 
 import java.time.Clock;
 import java.time.InstantSource;
+import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.LinkedList;
 import kotlin.coroutines.CoroutineContext;
 import org.opendc.common.Dispatcher;
@@ -34,8 +36,20 @@ import org.opendc.simulator.engine.graph.FlowNode;
  * <p>
  * The engine centralizes the scheduling logic of state updates of flow connections, allowing update propagation
  * to happen more efficiently. and overall, reducing the work necessary to transition into a steady state.
+ * <p>
+ * In coalescing mode, the engine does not update the nodes whose deadline has passed one by one. Instead, all due
+ * nodes are first invalidated, after which all invalidated nodes are updated in the order of their
+ * {@link FlowNode#getRank() rank}, from the consumers at the leaves of the flow graph towards the suppliers. This
+ * way, a supplier that is shared by many consumers with aligned deadlines is updated once per timestamp instead of
+ * once per consumer. Coalescing mode can be enabled by default using the {@code opendc.flow.coalesce} system
+ * property.
  */
 public final class FlowEngine implements Runnable {
+    /**
+     * The default coalescing mode of engines created using {@link #create(Dispatcher)}.
+     */
+    private static final boolean DEFAULT_COALESCING = Boolean.getBoolean("opendc.flow.coalesce");
+
     /**
      * The queue of {@link FlowNode} updates that need to be updated in the current cycle.
      */
@@ -43,6 +57,35 @@ public final class FlowEngine implements Runnable {
 
     private final LinkedList<FlowNode> cycleQueue = new LinkedList<>();
 
+    /**
+     * The queues of {@link FlowNode} updates in the current cycle per rank, used in coalescing mode.
+     */
+    @SuppressWarnings("unchecked")
+    private ArrayDeque<FlowNode>[] rankedQueues = new ArrayDeque[8];
+
+    private int minRank = Integer.MAX_VALUE;
+    private int rankedSize = 0;
+
+    /**
+     * A flag to indicate that simultaneous updates are coalesced.
+     */
+    private final boolean coalescing;
+
+    /**
+     * The number of node updates performed by the engine.
+     */
+    private long updateCount;
+
+    /**
+     * The number of node updates for nodes that were already updated at the same timestamp.
+     */
+    private long redundantUpdateCount;
+
+    /**
+     * The number of invalidations that were merged with a pending update of the same node.
+     */
+    private long coalescedInvalidationCount;
+
     /**
      * A priority queue containing the {@link FlowNode} updates to be scheduled in the future.
      */
@@ -65,12 +108,59 @@ public final class FlowEngine implements Runnable {
      * Create a new {@link FlowEngine} instance using the specified {@link CoroutineContext} and {@link InstantSource}.
      */
     public static FlowEngine create(Dispatcher dispatcher) {
-        return new FlowEngine(dispatcher);
+        return new FlowEngine(dispatcher, DEFAULT_COALESCING);
     }
 
-    FlowEngine(Dispatcher dispatcher) {
+    /**
+     * Create a new {@link FlowEngine} instance using the specified {@link Dispatcher}.
+     *
+     * @param dispatcher The {@link Dispatcher} used to schedule engine invocations.
+     * @param coalescing A flag to indicate that simultaneous updates should be coalesced.
+     */
+    public static FlowEngine create(Dispatcher dispatcher, boolean coalescing) {
+        return new FlowEngine(dispatcher, coalescing);
+    }
+
+    FlowEngine(Dispatcher dispatcher, boolean coalescing) {
         this.dispatcher = dispatcher;
         this.clock = dispatcher.getTimeSource();
+        this.coalescing = coalescing;
+    }
+
+    /**
+     * Determine whether the engine coalesces simultaneous updates.
+     */
+    public boolean isCoalescing() {
+        return coalescing;
+    }
+
+    /**
+     * Return the number of node updates performed by the engine.
+     */
+    public long getUpdateCount() {
+        return updateCount;
+    }
+
+    /**
+     * Return the number of node updates for nodes that were already updated at the same timestamp. Comparing this
+     * counter between runs with and without coalescing shows how many redundant updates were eliminated.
+     */
+    public long getRedundantUpdateCount() {
+        return redundantUpdateCount;
+    }
+
+    /**
+     * Return the number of invalidations that were merged with a pending update of the same node.
+     */
+    public long getCoalescedInvalidationCount() {
+        return coalescedInvalidationCount;
+    }
+
+    /**
+     * Record that an invalidation of a {@link FlowNode} was merged with its pending update.
+     */
+    public void recordCoalescedInvalidation() {
+        coalescedInvalidationCount++;
     }
 
     /**
@@ -107,7 +197,73 @@ public final class FlowEngine implements Runnable {
      * This method should only be invoked while inside an engine cycle.
      */
     public void scheduleImmediateInContext(FlowNode ctx) {
-        cycleQueue.add(ctx);
+        if (coalescing) {
+            addRanked(ctx);
+        } else {
+            cycleQueue.add(ctx);
+        }
+    }
+
+    /**
+     * Add the specified {@link FlowNode} to the queue matching its rank.
+     */
+    private void addRanked(FlowNode ctx) {
+        int rank = ctx.getRank();
+
+        if (rank >= rankedQueues.length) {
+            rankedQueues = Arrays.copyOf(rankedQueues, Math.max(rank + 1, rankedQueues.length * 2));
+        }
+
+        ArrayDeque<FlowNode> queue = rankedQueues[rank];
+        if (queue == null) {
+            queue = new ArrayDeque<>();
+            rankedQueues[rank] = queue;
+        }
+
+        queue.add(ctx);
+        rankedSize++;
+
+        if (rank < minRank) {
+            minRank = rank;
+        }
+    }
+
+    /**
+     * Remove the {@link FlowNode} with the lowest rank from the ranked queues.
+     *
+     * @return The node with the lowest rank or <code>null</code> if the queues are empty.
+     */
+    private FlowNode pollRanked() {
+        if (rankedSize == 0) {
+            minRank = Integer.MAX_VALUE;
+            return null;
+        }
+
+        final ArrayDeque<FlowNode>[] queues = this.rankedQueues;
+
+        while (true) {
+            final ArrayDeque<FlowNode> queue = queues[minRank];
+            if (queue != null && !queue.isEmpty()) {
+                rankedSize--;
+                return queue.poll();
+            }
+
+            minRank++;
+        }
+    }
+
+    /**
+     * Update the specified {@link FlowNode} and maintain the update counters.
+     */
+    private void runUpdate(FlowNode ctx, long now) {
+        updateCount++;
+
+        if (ctx.getLastUpdate() == now) {
+            redundantUpdateCount++;
+        }
+        ctx.setLastUpdate(now);
+
+        ctx.update(now);
     }
 
     /**
@@ -146,25 +302,47 @@ public final class FlowEngine implements Runnable {
             // Mark the engine as active to prevent concurrent calls to this method
             active = true;
 
-            //            int EventCount = 0;
-            // Execute all scheduled updates at current timestamp
-            while (true) {
-                final FlowNode ctx = this.eventQueue.poll(now);
-                if (ctx == null) {
-                    break;
+            if (coalescing) {
+                // Invalidate all nodes scheduled at the current timestamp, such that the updates are merged with
+                // the updates they cause upstream
+                while (true) {
+                    final FlowNode ctx = this.eventQueue.poll(now);
+                    if (ctx == null) {
+                        break;
+                    }
+
+                    ctx.invalidate(now);
                 }
 
-                ctx.update(now);
-            }
+                // Execute all updates in topological order
+                while (true) {
+                    final FlowNode ctx = pollRanked();
+                    if (ctx == null) {
+                        break;
+                    }
+
+                    runUpdate(ctx, now);
+                }
+            } else {
+                // Execute all scheduled updates at current timestamp
+                while (true) {
+                    final FlowNode ctx = this.eventQueue.poll(now);
+                    if (ctx == null) {
+                        break;
+                    }
 
-            // Execute all immediate updates
-            while (true) {
-                final FlowNode ctx = this.cycleQueue.poll();
-                if (ctx == null) {
-                    break;
+                    runUpdate(ctx, now);
                 }
 
-                ctx.update(now);
+                // Execute all immediate updates
+                while (true) {
+                    final FlowNode ctx = this.cycleQueue.poll();
+                    if (ctx == null) {
+                        break;
+                    }
+
+                    runUpdate(ctx, now);
+                }
             }
 
         } finally {
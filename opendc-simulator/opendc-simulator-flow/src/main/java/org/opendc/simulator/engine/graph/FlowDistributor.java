@@ -22,7 +22,6 @@
 
 package org.opendc.simulator.engine.graph;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -49,27 +48,32 @@ public abstract class FlowDistributor extends FlowNode implements FlowSupplier,
     protected int numConsumers = 0;
     protected final int maxConsumers;
 
-    protected final ArrayList<Integer> availableConsumerIndices;
-    protected final ArrayList<Integer> usedConsumerIndices;
+    protected final FlowIndexSet usedConsumerIndices;
 
     protected final FlowEdge[] consumerEdges;
     protected final double[] incomingDemands; // What is demanded by the consumers
     protected final double[] outgoingSupplies; // What is supplied to the consumers
 
+    /**
+     * The consumers whose demand changed since the last supply update. The first {@link #numUpdatedDemands} entries
+     * of {@link #updatedDemandIndices} hold the indices of these consumers, while {@link #updatedDemands} marks them
+     * to keep the list free of duplicates.
+     */
     protected final boolean[] updatedDemands;
+
+    protected final int[] updatedDemandIndices;
     protected int numUpdatedDemands = 0;
 
     protected double previousTotalDemand = 0.0;
     protected double totalIncomingDemand; // The total demand of all the consumers
 
-    protected final ArrayList<Integer> availableSupplierIndices;
-    protected final ArrayList<Integer> usedSupplierIndices;
+    protected final FlowIndexSet usedSupplierIndices;
 
     protected int numSuppliers = 0;
     protected final int maxSuppliers;
     protected final FlowEdge[] supplierEdges;
     protected final double[] incomingSupplies;
-    protected Double totalIncomingSupply = 0.0; // The total supply provided by the suppliers
+    protected double totalIncomingSupply = 0.0; // The total supply provided by the suppliers
 
     protected boolean outgoingDemandUpdateNeeded = false;
     protected boolean outgoingSupplyUpdateNeeded = false;
@@ -89,19 +93,8 @@ public abstract class FlowDistributor extends FlowNode implements FlowSupplier,
         this.maxConsumers = maxConsumers;
         this.maxSuppliers = 4;
 
-        this.availableConsumerIndices = new ArrayList<>(this.maxConsumers);
-        this.usedConsumerIndices = new ArrayList<>(this.maxConsumers);
-
-        for (int i = 0; i < this.maxConsumers; i++) {
-            this.availableConsumerIndices.add(i);
-        }
-
-        this.availableSupplierIndices = new ArrayList<>(this.maxSuppliers);
-        this.usedSupplierIndices = new ArrayList<>(this.maxSuppliers);
-
-        for (int i = 0; i < this.maxSuppliers; i++) {
-            this.availableSupplierIndices.add(i);
-        }
+        this.usedConsumerIndices = new FlowIndexSet(this.maxConsumers);
+        this.usedSupplierIndices = new FlowIndexSet(this.maxSuppliers);
 
         this.consumerEdges = new FlowEdge[this.maxConsumers];
         this.supplierEdges = new FlowEdge[this.maxSuppliers];
@@ -111,6 +104,7 @@ public abstract class FlowDistributor extends FlowNode implements FlowSupplier,
         this.outgoingSupplies = new double[this.maxConsumers];
 
         this.updatedDemands = new boolean[this.maxConsumers];
+        this.updatedDemandIndices = new int[this.maxConsumers];
     }
 
     public double getTotalIncomingDemand() {
@@ -148,14 +142,46 @@ public abstract class FlowDistributor extends FlowNode implements FlowSupplier,
 
     public abstract double[] distributeSupply(double[] demands, double[] currentSupply, double totalSupply);
 
+    /**
+     * Push the incoming demand as supply to each consumer whose demand changed since the last supply update.
+     * This only touches the updated consumers instead of scanning all consumers.
+     */
+    protected void pushUpdatedDemands() {
+        final int[] indices = this.updatedDemandIndices;
+
+        for (int i = 0; i < this.numUpdatedDemands; i++) {
+            int consumerIndex = indices[i];
+            FlowEdge consumerEdge = this.consumerEdges[consumerIndex];
+
+            // The consumer may have been removed after updating its demand
+            if (consumerEdge == null) {
+                continue;
+            }
+
+            this.pushOutgoingSupply(consumerEdge, this.incomingDemands[consumerIndex], this.getConsumerResourceType());
+        }
+    }
+
+    /**
+     * Clear the set of consumers whose demand changed since the last supply update.
+     */
+    protected void clearUpdatedDemands() {
+        final int[] indices = this.updatedDemandIndices;
+
+        for (int i = 0; i < this.numUpdatedDemands; i++) {
+            this.updatedDemands[indices[i]] = false;
+        }
+
+        this.numUpdatedDemands = 0;
+    }
+
     /**
      * Add a new consumer.
      * Set its demand and supply to 0.0
      */
     @Override
     public void addConsumerEdge(FlowEdge consumerEdge) {
-        int consumerIndex = this.availableConsumerIndices.removeFirst();
-        this.usedConsumerIndices.add(consumerIndex);
+        int consumerIndex = this.usedConsumerIndices.acquire();
 
         consumerEdge.setConsumerIndex(consumerIndex);
 
@@ -165,8 +191,7 @@ public abstract class FlowDistributor extends FlowNode implements FlowSupplier,
 
     @Override
     public void addSupplierEdge(FlowEdge supplierEdge) {
-        int supplierIndex = this.availableSupplierIndices.removeFirst();
-        this.usedSupplierIndices.add(supplierIndex);
+        int supplierIndex = this.usedSupplierIndices.acquire();
 
         supplierEdge.setSupplierIndex(supplierIndex);
         this.supplierEdges[supplierIndex] = supplierEdge;
@@ -190,14 +215,13 @@ public abstract class FlowDistributor extends FlowNode implements FlowSupplier,
             this.totalIncomingDemand = 0.0;
         }
 
-        this.updatedDemands[consumerIndex] = false;
-
+        // The consumer remains marked as updated (if it was), so that the index is not added twice to the updated
+        // demands when the slot is reused before the next supply update
         this.consumerEdges[consumerIndex] = null;
         this.incomingDemands[consumerIndex] = 0.0;
         this.outgoingSupplies[consumerIndex] = 0.0;
 
-        this.usedConsumerIndices.remove(Integer.valueOf(consumerIndex));
-        this.availableConsumerIndices.add(consumerIndex);
+        this.usedConsumerIndices.release(consumerIndex);
 
         this.numConsumers--;
 
@@ -218,8 +242,7 @@ public abstract class FlowDistributor extends FlowNode implements FlowSupplier,
         this.supplierEdges[supplierIndex] = null;
         this.incomingSupplies[supplierIndex] = 0.0;
 
-        this.usedSupplierIndices.remove(Integer.valueOf(supplierIndex));
-        this.availableSupplierIndices.add(supplierIndex);
+        this.usedSupplierIndices.release(supplierIndex);
 
         this.numSuppliers--;
 
@@ -246,8 +269,10 @@ public abstract class FlowDistributor extends FlowNode implements FlowSupplier,
             this.totalIncomingDemand = 0.0;
         }
 
-        this.updatedDemands[consumerIndex] = true;
-        this.numUpdatedDemands++;
+        if (!this.updatedDemands[consumerIndex]) {
+            this.updatedDemands[consumerIndex] = true;
+            this.updatedDemandIndices[this.numUpdatedDemands++] = consumerIndex;
+        }
 
         this.outgoingDemandUpdateNeeded = true;
 
@@ -82,6 +82,9 @@ public class FlowEdge {
 
         this.consumer.addSupplierEdge(this);
         this.supplier.addConsumerEdge(this);
+
+        // The supplier (and the nodes supplying it) may now have a higher rank
+        ((FlowNode) this.supplier).resetRank();
     }
 
     public void close() {
@@ -183,6 +186,7 @@ public class FlowEdge {
             return;
         }
 
+        this.markChanged(newDemand != this.demand);
         this.demand = newDemand;
         this.supplier.handleIncomingDemand(this, newDemand, resourceType, consumerCount);
     }
@@ -193,6 +197,7 @@ public class FlowEdge {
             return;
         }
 
+        this.markChanged(newDemand != this.demand);
         this.demand = newDemand;
         this.supplier.handleIncomingDemand(this, newDemand, resourceType);
     }
@@ -205,6 +210,7 @@ public class FlowEdge {
             return;
         }
 
+        this.markChanged(newDemand != this.demand);
         this.demand = newDemand;
         this.supplier.handleIncomingDemand(this, newDemand);
     }
@@ -224,6 +230,7 @@ public class FlowEdge {
             return;
         }
 
+        this.markChanged(newSupply != this.supply);
         this.supply = newSupply;
         this.consumer.handleIncomingSupply(this, newSupply, resourceType);
     }
@@ -234,4 +241,20 @@ public class FlowEdge {
     public void pushSupply(double newSupply) {
         this.pushSupply(newSupply, false, this.supplier.getSupplierResourceType());
     }
+
+    /**
+     * Record the change of a flow on both nodes of the edge, such that they can tell whether they are in steady state.
+     */
+    private void markChanged(boolean changed) {
+        if (!changed || !(this.supplier instanceof FlowNode supplierNode)) {
+            return;
+        }
+
+        long now = supplierNode.getClock().millis();
+        supplierNode.markChanged(now);
+
+        if (this.consumer instanceof FlowNode consumerNode) {
+            consumerNode.markChanged(now);
+        }
+    }
 }
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.simulator.engine.graph;
+
+import java.util.Arrays;
+
+/**
+ * A fixed-capacity set of slot indices in the range {@code [0, capacity)}, used by {@link FlowDistributor} to assign
+ * slots to its edges.
+ * <p>
+ * Free slots are kept in a first-in-first-out queue of primitive integers, while acquired slots are kept in a dense
+ * array that can be iterated directly. The acquired slots are iterated in the order in which they were acquired, also
+ * after releases, since distribution policies such as first-fit depend on this order. Acquiring a slot takes constant
+ * time, while releasing a slot shifts the slots that were acquired after it.
+ */
+public final class FlowIndexSet {
+    private final int[] free; // Circular queue of the free slots
+    private int freeHead;
+    private int numFree;
+
+    private final int[] active;
+    private final int[] positions; // Position of each slot in the active array, or -1 if the slot is free
+    private int numActive;
+
+    /**
+     * Construct a {@link FlowIndexSet} in which all slots are free.
+     *
+     * @param capacity The number of slots in the set.
+     */
+    public FlowIndexSet(int capacity) {
+        this.free = new int[capacity];
+        this.active = new int[capacity];
+        this.positions = new int[capacity];
+
+        // The lowest slots are acquired first
+        for (int i = 0; i < capacity; i++) {
+            this.free[i] = i;
+        }
+        this.numFree = capacity;
+
+        Arrays.fill(this.positions, -1);
+    }
+
+    /**
+     * Acquire a free slot.
+     *
+     * @return The index of the acquired slot.
+     * @throws IllegalStateException if all slots are in use.
+     */
+    public int acquire() {
+        if (this.numFree == 0) {
+            throw new IllegalStateException("No free slots available (capacity " + this.free.length + ")");
+        }
+
+        int index = this.free[this.freeHead];
+        this.freeHead = (this.freeHead + 1) % this.free.length;
+        this.numFree--;
+
+        this.positions[index] = this.numActive;
+        this.active[this.numActive++] = index;
+
+        return index;
+    }
+
+    /**
+     * Release the specified slot, making it available to be acquired again.
+     *
+     * @param index The index of the slot to release.
+     * @return <code>true</code> if the slot was acquired before, <code>false</code> otherwise.
+     */
+    public boolean release(int index) {
+        int position = this.positions[index];
+
+        if (position < 0) {
+            return false;
+        }
+
+        // Shift the slots acquired after the released slot to preserve the acquisition order
+        this.numActive--;
+        System.arraycopy(this.active, position + 1, this.active, position, this.numActive - position);
+        for (int i = position; i < this.numActive; i++) {
+            this.positions[this.active[i]] = i;
+        }
+
+        this.positions[index] = -1;
+        this.free[(this.freeHead + this.numFree++) % this.free.length] = index;
+
+        return true;
+    }
+
+    /**
+     * Determine whether the specified slot is acquired.
+     */
+    public boolean contains(int index) {
+        return this.positions[index] >= 0;
+    }
+
+    /**
+     * Return the number of acquired slots.
+     */
+    public int size() {
+        return this.numActive;
+    }
+
+    /**
+     * Return the index of the acquired slot at the specified position, where <code>0 &lt;= i &lt; size()</code>.
+     */
+    public int get(int i) {
+        return this.active[i];
+    }
+}
@@ -86,6 +86,89 @@ public abstract class FlowNode {
         this.engine = engine;
     }
 
+    public long getLastUpdate() {
+        return lastUpdate;
+    }
+
+    public void setLastUpdate(long lastUpdate) {
+        this.lastUpdate = lastUpdate;
+    }
+
+    /**
+     * Return the timestamp at which the demand or supply of one of the edges of the node last changed, or at which
+     * another state of the node that affects its metrics changed.
+     */
+    public long getLastChange() {
+        return lastChange;
+    }
+
+    /**
+     * Record that the demand or supply of one of the edges of the node, or another state of the node that affects its
+     * metrics, changed at the specified timestamp.
+     */
+    public void markChanged(long now) {
+        this.lastChange = now;
+    }
+
+    /**
+     * Determine whether the node has been in steady state since the specified timestamp, meaning that it has not been
+     * updated and none of its flows changed since then. The counters of the node can then be advanced analytically
+     * over the whole period, instead of being sampled in between.
+     *
+     * @param time The timestamp (in milliseconds) since which the node should be unchanged.
+     */
+    public boolean isSteadySince(long time) {
+        return lastUpdate < time && lastChange < time;
+    }
+
+    /**
+     * Return the rank of the node in the flow graph. Nodes without consumers have rank 0, while other nodes have a
+     * rank that is one higher than the highest rank of their consumers. Updating nodes in the order of their rank
+     * ensures that a supplier is updated after the demand of all its consumers is known.
+     */
+    public int getRank() {
+        int rank = this.rank;
+        if (rank >= 0) {
+            return rank;
+        }
+
+        // Mark the rank as computed to prevent infinite recursion in case of cycles
+        this.rank = 0;
+        rank = 0;
+
+        // Nodes do not agree on the node type under which edges are reported, so check the direction of each edge
+        for (List<FlowEdge> edges : getConnectedEdges().values()) {
+            for (FlowEdge edge : edges) {
+                if (edge != null && edge.getSupplier() == this && edge.getConsumer() instanceof FlowNode consumer) {
+                    rank = Math.max(rank, consumer.getRank() + 1);
+                }
+            }
+        }
+
+        this.rank = rank;
+        return rank;
+    }
+
+    /**
+     * Reset the cached rank of this node and of the nodes that supply it, since the rank of these nodes may change
+     * after a consumer is connected.
+     */
+    public void resetRank() {
+        if (this.rank < 0) {
+            return;
+        }
+
+        this.rank = -1;
+
+        for (List<FlowEdge> edges : getConnectedEdges().values()) {
+            for (FlowEdge edge : edges) {
+                if (edge != null && edge.getConsumer() == this && edge.getSupplier() instanceof FlowNode supplier) {
+                    supplier.resetRank();
+                }
+            }
+        }
+    }
+
     /**
      * Return the current deadline of the {@link FlowNode}'s timer (in milliseconds after epoch).
      */
@@ -109,6 +192,21 @@ public abstract class FlowNode {
 
     private Boolean inCycleQueue = false;
 
+    /**
+     * The timestamp of the last update of the node, used to count redundant updates.
+     */
+    private long lastUpdate = Long.MIN_VALUE;
+
+    /**
+     * The timestamp at which a flow of the node last changed.
+     */
+    private long lastChange = Long.MIN_VALUE;
+
+    /**
+     * The cached rank of the node in the flow graph, or -1 if the rank needs to be computed.
+     */
+    private int rank = -1;
+
     protected InstantSource clock;
     protected FlowEngine engine;
 
@@ -121,6 +219,9 @@ public abstract class FlowNode {
         this.engine = engine;
         this.clock = engine.getClock();
 
+        // The node is not connected yet, and its edges cannot be inspected before the subclass is initialized
+        this.rank = 0;
+
         this.invalidate();
     }
 
@@ -137,9 +238,12 @@ public abstract class FlowNode {
         // If there is already an update running,
         // notify the update, that a next update should be run after
 
-        if (this.nodeState == NodeState.CLOSING
-                || this.nodeState == NodeState.CLOSED
-                || this.nodeState == NodeState.INVALIDATED) {
+        if (this.nodeState == NodeState.INVALIDATED) {
+            engine.recordCoalescedInvalidation();
+            return;
+        }
+
+        if (this.nodeState == NodeState.CLOSING || this.nodeState == NodeState.CLOSED) {
             return;
         }
 
@@ -22,7 +22,6 @@
 
 package org.opendc.simulator.engine.graph.distributionPolicies;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import org.opendc.simulator.engine.engine.FlowEngine;
 import org.opendc.simulator.engine.graph.FlowDistributor;
@@ -38,6 +37,11 @@ import org.opendc.simulator.engine.graph.FlowEdge;
  *
  * This scheduler is suitable for environments with fluctuating workloads where fairness
  * is less important than maximizing overall resource utilization.
+ *
+ * By default, the distributor simulates the individual time slices of the round-robin cycle. When <code>timeAveraged</code>
+ * is enabled, it instead supplies each consumer the share it receives on average over a full round-robin cycle, which
+ * is computed analytically whenever the demand or supply changes. This avoids waking up the distributor every
+ * round-robin interval while it is overloaded, at the cost of no longer reproducing the per-slice allocations.
  * <a href="https://docs.nvidia.com/vgpu/knowledge-base/latest/vgpu-features.html#vgpu-schedulers">original description</a>
  */
 public class BestEffortFlowDistributor extends FlowDistributor {
@@ -46,12 +50,35 @@ public class BestEffortFlowDistributor extends FlowDistributor {
     private boolean overloaded = false;
     private final long roundRobinInterval;
     private long lastRoundRobinUpdate;
+    private final boolean timeAveraged;
+
+    private final double[] allocation;
+    private final int[] activeConsumers;
 
     public BestEffortFlowDistributor(
             FlowEngine flowEngine, long roundRobinInterval, int maxConsumers, int maxSuppliers) {
+        this(flowEngine, roundRobinInterval, false, maxConsumers, maxSuppliers);
+    }
+
+    public BestEffortFlowDistributor(
+            FlowEngine flowEngine,
+            long roundRobinInterval,
+            boolean timeAveraged,
+            int maxConsumers,
+            int maxSuppliers) {
         super(flowEngine, maxConsumers, maxSuppliers);
         this.roundRobinInterval = roundRobinInterval;
         this.lastRoundRobinUpdate = -roundRobinInterval;
+        this.timeAveraged = timeAveraged;
+        this.allocation = new double[maxConsumers];
+        this.activeConsumers = new int[maxConsumers];
+    }
+
+    /**
+     * Return whether the distributor supplies the time-averaged round-robin share instead of simulating each slice.
+     */
+    public boolean isTimeAveraged() {
+        return timeAveraged;
     }
 
     /**
@@ -67,7 +94,8 @@ public class BestEffortFlowDistributor extends FlowDistributor {
             double remainingDemand = this.totalIncomingDemand;
 
             // Phase 1: Prioritize suppliers that are currently providing supply
-            for (int supplierIndex : this.usedSupplierIndices) {
+            for (int i = 0; i < this.usedSupplierIndices.size(); i++) {
+                int supplierIndex = this.usedSupplierIndices.get(i);
                 FlowEdge supplierEdge = this.supplierEdges[supplierIndex];
                 double currentSupply = this.incomingSupplies[supplierIndex];
 
@@ -81,7 +109,8 @@ public class BestEffortFlowDistributor extends FlowDistributor {
 
             // Phase 2: If demand still remains, use inactive suppliers
             if (remainingDemand > 0) {
-                for (int supplierIndex : this.usedSupplierIndices) {
+                for (int i = 0; i < this.usedSupplierIndices.size(); i++) {
+                    int supplierIndex = this.usedSupplierIndices.get(i);
                     FlowEdge supplierEdge = this.supplierEdges[supplierIndex];
                     double currentSupply = this.incomingSupplies[supplierIndex];
 
@@ -96,7 +125,8 @@ public class BestEffortFlowDistributor extends FlowDistributor {
             // System is overloaded or no demand: distribute demand equally across all suppliers
             double demandPerSupplier = this.totalIncomingDemand / this.numSuppliers;
 
-            for (int supplierIndex : this.usedSupplierIndices) {
+            for (int i = 0; i < this.usedSupplierIndices.size(); i++) {
+                int supplierIndex = this.usedSupplierIndices.get(i);
                 this.pushOutgoingDemand(this.supplierEdges[supplierIndex], demandPerSupplier);
             }
         }
@@ -119,7 +149,8 @@ public class BestEffortFlowDistributor extends FlowDistributor {
             double[] supplies =
                     this.distributeSupply(this.incomingDemands, this.incomingSupplies, this.totalIncomingSupply);
 
-            for (int consumerIndex : this.usedConsumerIndices) {
+            for (int i = 0; i < this.usedConsumerIndices.size(); i++) {
+                int consumerIndex = this.usedConsumerIndices.get(i);
                 this.pushOutgoingSupply(
                         this.consumerEdges[consumerIndex], supplies[consumerIndex], this.getConsumerResourceType());
             }
@@ -127,9 +158,14 @@ public class BestEffortFlowDistributor extends FlowDistributor {
             // System is not overloaded - satisfy all demands and utilize remaining capacity
 
             if (this.overloaded) {
-                for (int consumerIndex : this.usedConsumerIndices) {
+                for (int i = 0; i < this.usedConsumerIndices.size(); i++) {
+                    int consumerIndex = this.usedConsumerIndices.get(i);
                     // TODO: I think we can remove this check
-                    if (this.outgoingSupplies[consumerIndex] == this.incomingDemands[consumerIndex]) {
+                    // The time-averaged path pushes every supply that differs from the demand, while the sliced path
+                    // keeps its original behaviour
+                    boolean matchesDemand =
+                            this.outgoingSupplies[consumerIndex] == this.incomingDemands[consumerIndex];
+                    if (matchesDemand != this.timeAveraged) {
                         this.pushOutgoingSupply(
                                 this.consumerEdges[consumerIndex],
                                 this.incomingDemands[consumerIndex],
@@ -141,34 +177,42 @@ public class BestEffortFlowDistributor extends FlowDistributor {
 
             // Update the supplies of the consumers that changed their demand in the current cycle
             else {
-                for (int consumerIndex = 0; consumerIndex < this.numConsumers; consumerIndex++) {
-                    if (!this.updatedDemands[consumerIndex]) {
-                        continue;
-                    }
-                    this.pushOutgoingSupply(
-                            this.consumerEdges[consumerIndex],
-                            this.incomingDemands[consumerIndex],
-                            this.getConsumerResourceType());
-                }
+                this.pushUpdatedDemands();
             }
         }
 
         this.outgoingSupplyUpdateNeeded = false;
-        Arrays.fill(this.updatedDemands, false);
-        this.numUpdatedDemands = 0;
+        this.clearUpdatedDemands();
     }
 
     /**
      * Distributes available supply using a best-effort, round-robin approach.
+     * When the distributor is time-averaged, this returns the average allocation over a full round-robin cycle.
+     * Otherwise, the allocation of the current slice is returned and the round-robin index is advanced.
+     *
+     * <p>
+     * The returned array is reused between invocations.
+     */
+    @Override
+    public double[] distributeSupply(double[] demands, double[] currentSupply, double totalSupply) {
+        if (this.timeAveraged) {
+            return this.distributeAveragedSupply(demands, totalSupply);
+        }
+
+        return this.distributeSlicedSupply(demands, totalSupply);
+    }
+
+    /**
+     * Compute the allocation of a single time slice.
      * Algorithm:
      * 1. First pass: Satisfy demands up to available capacity in round-robin order
      * 2. Second pass: Distribute remaining capacity to consumers with unsatisfied demand
      * 3. Optimize utilization by giving extra capacity to active consumers
      */
-    @Override
-    public double[] distributeSupply(double[] demands, double[] currentSupply, double totalSupply) {
+    private double[] distributeSlicedSupply(double[] demands, double totalSupply) {
         int numConsumers = this.consumerEdges.length;
-        double[] allocation = new double[numConsumers];
+        double[] allocation = this.allocation;
+        Arrays.fill(allocation, 0.0);
 
         if (numConsumers == 0 || totalSupply <= 0) {
             return allocation;
@@ -193,50 +237,101 @@ public class BestEffortFlowDistributor extends FlowDistributor {
         }
 
         // Phase 2: Distribute any remaining supply to maximize utilization
-        // Give preference to consumers with the highest relative demand
         if (remainingSupply > 0) {
-            // Create a list of consumers with unsatisfied demand, sorted by relative need
-            ArrayList<Integer> unsatisfiedConsumers = new ArrayList<>();
+            int numUnsatisfied = 0;
+            int numActive = 0;
+            double totalUnsatisfiedDemand = 0;
             for (int i = 0; i < numConsumers; i++) {
                 if (demands[i] > allocation[i]) {
-                    unsatisfiedConsumers.add(i);
+                    numUnsatisfied++;
+                    totalUnsatisfiedDemand += demands[i] - allocation[i];
+                }
+                if (demands[i] > 0) {
+                    numActive++;
                 }
             }
 
-            // If no unsatisfied demand, distribute remaining capacity equally among active consumers
-            if (unsatisfiedConsumers.isEmpty()) {
-                // Find consumers with any demand (active consumers)
-                ArrayList<Integer> activeConsumers = new ArrayList<>();
+            if (numUnsatisfied > 0) {
+                // Distribute remaining supply proportionally to unsatisfied demand
                 for (int i = 0; i < numConsumers; i++) {
-                    if (demands[i] > 0) {
-                        activeConsumers.add(i);
+                    if (demands[i] > allocation[i]) {
+                        double proportion = (demands[i] - allocation[i]) / totalUnsatisfiedDemand;
+                        allocation[i] += remainingSupply * proportion;
                     }
                 }
-
-                if (!activeConsumers.isEmpty()) {
-                    double extraPerConsumer = remainingSupply / activeConsumers.size();
-                    for (int idx : activeConsumers) {
-                        allocation[idx] += extraPerConsumer;
+            } else if (numActive > 0) {
+                // If no unsatisfied demand, distribute remaining capacity equally among active consumers
+                double extraPerConsumer = remainingSupply / numActive;
+                for (int i = 0; i < numConsumers; i++) {
+                    if (demands[i] > 0) {
+                        allocation[i] += extraPerConsumer;
                     }
                 }
-            } else {
-                // Distribute remaining supply proportionally to unsatisfied demand
-                double totalUnsatisfiedDemand = 0;
-                for (int idx : unsatisfiedConsumers) {
-                    totalUnsatisfiedDemand += demands[idx] - allocation[idx];
-                }
-
-                for (int idx : unsatisfiedConsumers) {
-                    double unsatisfiedDemand = demands[idx] - allocation[idx];
-                    double proportion = unsatisfiedDemand / totalUnsatisfiedDemand;
-                    allocation[idx] += remainingSupply * proportion;
-                }
             }
         }
 
         // Update round-robin index for next allocation cycle
-        if (numConsumers > 0) {
-            currentRoundRobinIndex = (currentRoundRobinIndex + 1) % numConsumers;
+        currentRoundRobinIndex = (currentRoundRobinIndex + 1) % numConsumers;
+
+        return allocation;
+    }
+
+    /**
+     * Compute the average allocation over a full round-robin cycle of <code>numConsumers</code> slices.
+     *
+     * <p>
+     * In each slice, the consumers are served in order starting from the round-robin index until the supply runs out.
+     * A slice starting at an idle slot behaves as if it started at the next active consumer, so every active consumer
+     * is weighted by the number of slots between it and the preceding active consumer. This yields exactly the mean
+     * of the sliced allocations over a cycle, in O(k^2) for k active consumers and without any scheduled wake-ups.
+     */
+    private double[] distributeAveragedSupply(double[] demands, double totalSupply) {
+        int numConsumers = this.consumerEdges.length;
+        double[] allocation = this.allocation;
+        Arrays.fill(allocation, 0.0);
+
+        if (numConsumers == 0 || totalSupply <= 0) {
+            return allocation;
+        }
+
+        int[] active = this.activeConsumers;
+        int numActive = 0;
+        double totalDemand = 0.0;
+        for (int i = 0; i < numConsumers; i++) {
+            if (demands[i] > 0) {
+                active[numActive++] = i;
+                totalDemand += demands[i];
+            }
+        }
+
+        if (numActive == 0) {
+            return allocation;
+        }
+
+        // Every slice can satisfy all consumers, so there is nothing to average
+        if (totalDemand <= totalSupply) {
+            for (int k = 0; k < numActive; k++) {
+                allocation[active[k]] = demands[active[k]];
+            }
+            return allocation;
+        }
+
+        for (int k = 0; k < numActive; k++) {
+            int previous = active[(k + numActive - 1) % numActive];
+            int weight = numActive == 1 ? numConsumers : Math.floorMod(active[k] - previous, numConsumers);
+
+            double remainingSupply = totalSupply;
+            for (int j = 0; j < numActive && remainingSupply > 0; j++) {
+                int idx = active[(k + j) % numActive];
+                double toAllocate = Math.min(demands[idx], remainingSupply);
+
+                allocation[idx] += weight * toAllocate;
+                remainingSupply -= toAllocate;
+            }
+        }
+
+        for (int k = 0; k < numActive; k++) {
+            allocation[active[k]] /= numConsumers;
         }
 
         return allocation;
@@ -246,9 +341,27 @@ public class BestEffortFlowDistributor extends FlowDistributor {
      * Enhanced onUpdate method that implements time-sliced round-robin scheduling.
      * This method ensures the round-robin index advances at regular intervals,
      * creating true time-sliced behavior for best-effort scheduling.
+     *
+     * <p>
+     * When time-averaged, the supplies only change with the demand or supply, so the distributor does not schedule
+     * any future update.
      */
     @Override
     public long onUpdate(long now) {
+        if (this.timeAveraged) {
+            boolean demandChanged = this.outgoingDemandUpdateNeeded;
+            if (demandChanged) {
+                this.updateOutgoingDemand();
+            }
+
+            // A change in demand alters the average share even when the suppliers do not respond with a new supply
+            if (demandChanged || this.outgoingSupplyUpdateNeeded) {
+                this.updateOutgoingSupplies();
+            }
+
+            return Long.MAX_VALUE;
+        }
+
         long nextUpdate = Long.MAX_VALUE;
 
         boolean updateNeeded = false;
@@ -48,7 +48,8 @@ public class EqualShareFlowDistributor extends FlowDistributor {
     protected void updateOutgoingDemand() {
         double equalShare = this.capacity / this.numSuppliers;
 
-        for (int supplierIndex : this.usedSupplierIndices) {
+        for (int i = 0; i < this.usedSupplierIndices.size(); i++) {
+            int supplierIndex = this.usedSupplierIndices.get(i);
             this.pushOutgoingDemand(this.supplierEdges[supplierIndex], equalShare);
         }
 
@@ -64,13 +65,13 @@ public class EqualShareFlowDistributor extends FlowDistributor {
     protected void updateOutgoingSupplies() {
         double[] equalShare = distributeSupply(incomingDemands, this.incomingSupplies, this.capacity);
 
-        for (int consumerIndex : this.usedConsumerIndices) {
+        for (int i = 0; i < this.usedConsumerIndices.size(); i++) {
+            int consumerIndex = this.usedConsumerIndices.get(i);
             this.pushOutgoingSupply(
                     this.consumerEdges[consumerIndex], equalShare[consumerIndex], this.getConsumerResourceType());
         }
 
-        Arrays.fill(this.updatedDemands, false);
-        this.numUpdatedDemands = 0;
+        this.clearUpdatedDemands();
     }
 
     @Override
@@ -49,7 +49,8 @@ public class FirstFitPolicyFlowDistributor extends FlowDistributor {
         double remainingDemand = this.totalIncomingDemand;
 
         // Apply First Fit strategy: fill suppliers in order until demand is satisfied
-        for (int supplierIndex : this.usedSupplierIndices) {
+        for (int i = 0; i < this.usedSupplierIndices.size(); i++) {
+            int supplierIndex = this.usedSupplierIndices.get(i);
             FlowEdge supplierEdge = this.supplierEdges[supplierIndex];
             double supplierCapacity = supplierEdge.getCapacity();
 
@@ -89,7 +90,8 @@ public class FirstFitPolicyFlowDistributor extends FlowDistributor {
         //        double[] shares = distributeSupply(incomingDemands, currentPossibleSupplies, totalIncomingSupply);
         double[] shares = distributeSupply(this.incomingDemands, this.incomingSupplies, this.totalIncomingSupply);
 
-        for (int consumerIndex : this.usedConsumerIndices) {
+        for (int i = 0; i < this.usedConsumerIndices.size(); i++) {
+            int consumerIndex = this.usedConsumerIndices.get(i);
             this.pushOutgoingSupply(
                     this.consumerEdges[consumerIndex], shares[consumerIndex], this.getConsumerResourceType());
         }
@@ -116,7 +118,8 @@ public class FirstFitPolicyFlowDistributor extends FlowDistributor {
         System.arraycopy(currentSupply, 0, remainingSupply, 0, currentSupply.length);
 
         // For each demand, try to satisfy it using suppliers in order
-        for (int consumerIndex : this.usedConsumerIndices) {
+        for (int i = 0; i < this.usedConsumerIndices.size(); i++) {
+            int consumerIndex = this.usedConsumerIndices.get(i);
             double remainingDemand = demands[consumerIndex];
             double totalAllocated = 0.0;
 
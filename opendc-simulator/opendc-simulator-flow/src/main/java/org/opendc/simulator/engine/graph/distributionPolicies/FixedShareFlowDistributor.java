@@ -104,7 +104,8 @@ public class FixedShareFlowDistributor extends FlowDistributor {
 
         double[] supplies = distributeSupply(this.incomingDemands, this.incomingSupplies, this.totalIncomingSupply);
 
-        for (int consumerIndex : this.usedConsumerIndices) {
+        for (int i = 0; i < this.usedConsumerIndices.size(); i++) {
+            int consumerIndex = this.usedConsumerIndices.get(i);
             this.pushOutgoingSupply(
                     this.consumerEdges[consumerIndex], supplies[consumerIndex], this.getConsumerResourceType());
         }
@@ -115,7 +116,8 @@ public class FixedShareFlowDistributor extends FlowDistributor {
 
         if (this.numConsumers < this.supplierEdges.length && this.fixedShare * this.numConsumers <= totalSupply) {
 
-            for (int consumerIndex : this.usedConsumerIndices) {
+            for (int i = 0; i < this.usedConsumerIndices.size(); i++) {
+                int consumerIndex = this.usedConsumerIndices.get(i);
                 supplies[consumerIndex] = this.fixedShare;
             }
         } else {
@@ -133,7 +135,8 @@ public class FixedShareFlowDistributor extends FlowDistributor {
             }
 
             this.notSuppliedConsumers.clear();
-            for (int consumerIndex : this.usedConsumerIndices) {
+            for (int i = 0; i < this.usedConsumerIndices.size(); i++) {
+                int consumerIndex = this.usedConsumerIndices.get(i);
                 if (supplies[consumerIndex] == 0.0) {
                     if (consumersSupplied >= maxConsumersToSupply) {
                         this.notSuppliedConsumers.add(consumerIndex);
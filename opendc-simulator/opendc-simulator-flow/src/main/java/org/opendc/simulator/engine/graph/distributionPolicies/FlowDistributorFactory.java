@@ -60,11 +60,15 @@ public class FlowDistributorFactory {
             FlowEngine flowEngine, DistributionPolicy distributionPolicyType, int maxConsumers, int maxSuppliers) {
 
         return switch (distributionPolicyType) {
-            case BEST_EFFORT -> new BestEffortFlowDistributor(
-                    flowEngine,
-                    distributionPolicyType.getProperty("updateIntervalLength", Long.class),
-                    maxConsumers,
-                    maxSuppliers);
+            case BEST_EFFORT -> {
+                Boolean timeAveraged = distributionPolicyType.getProperty("timeAveraged", Boolean.class);
+                yield new BestEffortFlowDistributor(
+                        flowEngine,
+                        distributionPolicyType.getProperty("updateIntervalLength", Long.class),
+                        timeAveraged != null && timeAveraged,
+                        maxConsumers,
+                        maxSuppliers);
+            }
             case EQUAL_SHARE -> new EqualShareFlowDistributor(flowEngine, maxConsumers, maxSuppliers);
             case FIRST_FIT -> new FirstFitPolicyFlowDistributor(flowEngine, maxConsumers, maxSuppliers);
             case FIXED_SHARE -> {
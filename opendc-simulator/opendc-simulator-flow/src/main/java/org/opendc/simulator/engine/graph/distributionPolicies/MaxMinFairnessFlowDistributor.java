@@ -49,7 +49,8 @@ public class MaxMinFairnessFlowDistributor extends FlowDistributor {
 
         double demandPerSupplier = this.totalIncomingDemand / this.numSuppliers;
 
-        for (int supplierIndex : this.usedSupplierIndices) {
+        for (int i = 0; i < this.usedSupplierIndices.size(); i++) {
+            int supplierIndex = this.usedSupplierIndices.get(i);
             this.pushOutgoingDemand(this.supplierEdges[supplierIndex], demandPerSupplier);
         }
 
@@ -72,7 +73,8 @@ public class MaxMinFairnessFlowDistributor extends FlowDistributor {
             double[] supplies =
                     this.distributeSupply(this.incomingDemands, this.incomingSupplies, this.totalIncomingSupply);
 
-            for (int consumerIndex : this.usedConsumerIndices) {
+            for (int i = 0; i < this.usedConsumerIndices.size(); i++) {
+                int consumerIndex = this.usedConsumerIndices.get(i);
                 this.pushOutgoingSupply(
                         this.consumerEdges[consumerIndex], supplies[consumerIndex], this.getConsumerResourceType());
             }
@@ -82,7 +84,8 @@ public class MaxMinFairnessFlowDistributor extends FlowDistributor {
             // If the distributor was overloaded before, but is not anymore:
             //      provide all consumers with their demand
             if (this.overloaded) {
-                for (int consumerIndex : this.usedConsumerIndices) {
+                for (int i = 0; i < this.usedConsumerIndices.size(); i++) {
+                    int consumerIndex = this.usedConsumerIndices.get(i);
                     // TODO: I think we can remove this check
                     if (this.outgoingSupplies[consumerIndex] != this.incomingDemands[consumerIndex]) {
                         this.pushOutgoingSupply(
@@ -96,20 +99,11 @@ public class MaxMinFairnessFlowDistributor extends FlowDistributor {
 
             // Update the supplies of the consumers that changed their demand in the current cycle
             else {
-                for (int consumerIndex : this.usedConsumerIndices) {
-                    if (!this.updatedDemands[consumerIndex]) {
-                        continue;
-                    }
-                    this.pushOutgoingSupply(
-                            this.consumerEdges[consumerIndex],
-                            this.incomingDemands[consumerIndex],
-                            this.getConsumerResourceType());
-                }
+                this.pushUpdatedDemands();
             }
         }
 
-        Arrays.fill(this.updatedDemands, false);
-        this.numUpdatedDemands = 0;
+        this.clearUpdatedDemands();
     }
 
     private record Demand(int idx, double value) {}
@@ -124,11 +118,7 @@ public class MaxMinFairnessFlowDistributor extends FlowDistributor {
             tempDemands[i] = new Demand(i, demands[i]);
         }
 
-        Arrays.sort(tempDemands, (o1, o2) -> {
-            Double i1 = o1.value;
-            Double i2 = o2.value;
-            return i1.compareTo(i2);
-        });
+        Arrays.sort(tempDemands, (o1, o2) -> Double.compare(o1.value, o2.value));
 
         double availableCapacity = totalSupply;
 
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2026 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.simulator.engine.engine
+
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertAll
+import org.opendc.simulator.engine.graph.FlowConsumer
+import org.opendc.simulator.engine.graph.FlowEdge
+import org.opendc.simulator.engine.graph.FlowNode
+import org.opendc.simulator.engine.graph.FlowSupplier
+import org.opendc.simulator.kotlin.runSimulation
+import java.util.TreeMap
+
+/**
+ * Test suite for the [FlowEngine] class.
+ */
+class FlowEngineTest {
+    /**
+     * In coalescing mode, a supplier whose deadline is aligned with those of its consumers should be updated once per
+     * timestep, while the resulting flows should be the same as without coalescing.
+     */
+    @Test
+    fun testCoalescing() {
+        val plain = simulate(coalescing = false)
+        val coalesced = simulate(coalescing = true)
+
+        assertAll(
+            { assertEquals(plain.supplied, coalesced.supplied) { "The supplied flows are not the same" } },
+            { assertEquals(plain.usage, coalesced.usage, 1e-9) { "The total usage is not the same" } },
+            { assertTrue(coalesced.updates < plain.updates) { "Coalescing did not reduce the number of updates" } },
+            { assertTrue(coalesced.redundantUpdates < plain.redundantUpdates) { "Coalescing did not remove redundant updates" } },
+            { assertTrue(coalesced.coalescedInvalidations > 0) { "No invalidations were coalesced" } },
+        )
+    }
+
+    /**
+     * The outcome of a simulation.
+     */
+    private data class Outcome(
+        val supplied: List<Map<Long, Double>>,
+        val usage: Double,
+        val updates: Long,
+        val redundantUpdates: Long,
+        val coalescedInvalidations: Long,
+    )
+
+    /**
+     * Simulate three consumers that change their demand every second on a shared, overloaded supplier.
+     */
+    private fun simulate(coalescing: Boolean): Outcome {
+        lateinit var engine: FlowEngine
+        lateinit var supplier: TestSupplier
+        lateinit var consumers: List<TestConsumer>
+
+        runSimulation {
+            engine = FlowEngine.create(dispatcher, coalescing)
+            supplier = TestSupplier(engine, 1000.0)
+            consumers =
+                listOf(
+                    TestConsumer(engine, listOf(200.0, 500.0, 100.0, 700.0)),
+                    TestConsumer(engine, listOf(500.0, 100.0, 700.0, 200.0)),
+                    TestConsumer(engine, listOf(100.0, 700.0, 200.0, 500.0)),
+                )
+
+            for (consumer in consumers) {
+                FlowEdge(consumer, supplier)
+            }
+        }
+
+        return Outcome(
+            consumers.map { it.supplied },
+            supplier.usage,
+            engine.updateCount,
+            engine.redundantUpdateCount,
+            engine.coalescedInvalidationCount,
+        )
+    }
+
+    /**
+     * A supplier that shares its capacity proportionally over its consumers and samples its usage every second, like
+     * the power supplies of the simulated machines.
+     */
+    private class TestSupplier(engine: FlowEngine, private val capacity: Double) : FlowNode(engine), FlowSupplier {
+        private val consumerEdges = mutableListOf<FlowEdge>()
+        private val demands = mutableMapOf<FlowEdge, Double>()
+        private var lastUsageUpdate = 0L
+        private var totalSupply = 0.0
+
+        /**
+         * The total supply (in units times milliseconds) delivered by the supplier.
+         */
+        var usage = 0.0
+
+        override fun onUpdate(now: Long): Long {
+            usage += totalSupply * (now - lastUsageUpdate)
+            lastUsageUpdate = now
+
+            val totalDemand = demands.values.sum()
+            val scale = if (totalDemand > capacity) capacity / totalDemand else 1.0
+
+            totalSupply = 0.0
+            for (edge in consumerEdges) {
+                val supply = (demands[edge] ?: 0.0) * scale
+                totalSupply += supply
+                pushOutgoingSupply(edge, supply)
+            }
+
+            return if (totalDemand > 0.0) now + 1000 else Long.MAX_VALUE
+        }
+
+        override fun handleIncomingDemand(
+            consumerEdge: FlowEdge,
+            newDemand: Double,
+        ) {
+            demands[consumerEdge] = newDemand
+            invalidate()
+        }
+
+        override fun pushOutgoingSupply(
+            consumerEdge: FlowEdge,
+            newSupply: Double,
+        ) {
+            consumerEdge.pushSupply(newSupply)
+        }
+
+        override fun addConsumerEdge(consumerEdge: FlowEdge) {
+            consumerEdges.add(consumerEdge)
+        }
+
+        override fun removeConsumerEdge(consumerEdge: FlowEdge) {
+            consumerEdges.remove(consumerEdge)
+            demands.remove(consumerEdge)
+        }
+
+        override fun getCapacity(): Double = capacity
+
+        override fun getConnectedEdges(): Map<FlowEdge.NodeType, List<FlowEdge>> = mapOf(FlowEdge.NodeType.CONSUMING to consumerEdges)
+    }
+
+    /**
+     * A consumer that changes its demand every second and records the supply it receives at every timestamp.
+     */
+    private class TestConsumer(engine: FlowEngine, private val demands: List<Double>) : FlowNode(engine), FlowConsumer {
+        private var supplierEdge: FlowEdge? = null
+
+        /**
+         * The supply at the end of every timestamp at which it changed.
+         */
+        val supplied = TreeMap<Long, Double>()
+
+        override fun onUpdate(now: Long): Long {
+            val index = (now / 1000).toInt()
+            pushOutgoingDemand(supplierEdge!!, demands.getOrElse(index) { 0.0 })
+            return if (index < demands.size) now + 1000 else Long.MAX_VALUE
+        }
+
+        override fun handleIncomingSupply(
+            supplierEdge: FlowEdge,
+            newSupply: Double,
+        ) {
+            supplied[clock.millis()] = newSupply
+        }
+
+        override fun pushOutgoingDemand(
+            supplierEdge: FlowEdge,
+            newDemand: Double,
+        ) {
+            supplierEdge.pushDemand(newDemand)
+        }
+
+        override fun addSupplierEdge(supplierEdge: FlowEdge) {
+            this.supplierEdge = supplierEdge
+        }
+
+        override fun removeSupplierEdge(supplierEdge: FlowEdge) {
+            this.supplierEdge = null
+        }
+
+        override fun getConnectedEdges(): Map<FlowEdge.NodeType, List<FlowEdge>> =
+            mapOf(FlowEdge.NodeType.SUPPLYING to listOfNotNull(supplierEdge))
+    }
+}
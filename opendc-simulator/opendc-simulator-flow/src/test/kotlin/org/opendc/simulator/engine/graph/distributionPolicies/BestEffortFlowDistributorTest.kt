@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2026 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.simulator.engine.graph.distributionPolicies
+
+import org.junit.jupiter.api.Assertions.assertArrayEquals
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Test
+import org.opendc.simulator.engine.engine.FlowEngine
+import org.opendc.simulator.engine.graph.FlowConsumer
+import org.opendc.simulator.engine.graph.FlowEdge
+import org.opendc.simulator.engine.graph.FlowNode
+import org.opendc.simulator.engine.graph.FlowSupplier
+import org.opendc.simulator.kotlin.runSimulation
+
+/**
+ * Test suite for the [BestEffortFlowDistributor] class.
+ */
+class BestEffortFlowDistributorTest {
+    /**
+     * The time-averaged share should equal the mean of the sliced allocations over a long horizon.
+     */
+    @Test
+    fun testAveragedMatchesSliced() =
+        runSimulation {
+            val engine = FlowEngine.create(dispatcher)
+            val sliced = BestEffortFlowDistributor(engine, 1000L, false, 5, 1)
+            val averaged = BestEffortFlowDistributor(engine, 1000L, true, 5, 1)
+
+            val demands = doubleArrayOf(300.0, 0.0, 500.0, 400.0, 0.0)
+            val supply = 800.0
+            val slices = 5 * 1000
+
+            val total = DoubleArray(demands.size)
+            repeat(slices) {
+                val allocation = sliced.distributeSupply(demands, DoubleArray(demands.size), supply)
+                for (i in demands.indices) {
+                    total[i] += allocation[i]
+                }
+            }
+
+            val expected = averaged.distributeSupply(demands, DoubleArray(demands.size), supply)
+            assertArrayEquals(total.map { it / slices }.toDoubleArray(), expected, 1e-6)
+            assertEquals(supply, expected.sum(), 1e-6)
+        }
+
+    /**
+     * Without overload, every consumer should receive its full demand.
+     */
+    @Test
+    fun testAveragedWithoutOverload() =
+        runSimulation {
+            val engine = FlowEngine.create(dispatcher)
+            val averaged = BestEffortFlowDistributor(engine, 1000L, true, 3, 1)
+
+            val demands = doubleArrayOf(100.0, 200.0, 0.0)
+            val allocation = averaged.distributeSupply(demands, DoubleArray(demands.size), 1000.0)
+
+            assertArrayEquals(demands, allocation, 1e-9)
+        }
+
+    /**
+     * A single active consumer should receive the full supply when it is overloaded.
+     */
+    @Test
+    fun testAveragedSingleConsumer() =
+        runSimulation {
+            val engine = FlowEngine.create(dispatcher)
+            val averaged = BestEffortFlowDistributor(engine, 1000L, true, 4, 1)
+
+            val demands = doubleArrayOf(0.0, 0.0, 1200.0, 0.0)
+            val allocation = averaged.distributeSupply(demands, DoubleArray(demands.size), 1000.0)
+
+            assertArrayEquals(doubleArrayOf(0.0, 0.0, 1000.0, 0.0), allocation, 1e-9)
+        }
+
+    /**
+     * Over a simulation of many slices in which the distributor enters and leaves overload, the default (sliced)
+     * distributor should deliver the same work to every consumer as the sliced distributor did before the time-averaged
+     * mode was added.
+     */
+    @Test
+    fun testSlicedMatchesBaseline() {
+        // The work received by each consumer with the original sliced distributor
+        val baseline = doubleArrayOf(1560000.0, 1480000.0, 760000.0)
+
+        assertArrayEquals(baseline, simulate(timeAveraged = false), 1e-6)
+    }
+
+    /**
+     * Simulate three consumers that change their demand every second on a distributor with a single supplier, which is
+     * overloaded in some of the seconds, and return the work (in units times milliseconds) received by each consumer.
+     */
+    private fun simulate(timeAveraged: Boolean): DoubleArray {
+        lateinit var consumers: List<TestConsumer>
+
+        runSimulation {
+            val engine = FlowEngine.create(dispatcher)
+            val distributor = BestEffortFlowDistributor(engine, 100L, timeAveraged, 3, 1)
+            FlowEdge(distributor, TestSupplier(engine, 1000.0))
+
+            consumers =
+                listOf(
+                    TestConsumer(engine, listOf(600.0, 300.0, 800.0, 100.0)),
+                    TestConsumer(engine, listOf(500.0, 200.0, 400.0, 700.0)),
+                    TestConsumer(engine, listOf(200.0, 100.0, 300.0, 600.0)),
+                )
+
+            for (consumer in consumers) {
+                FlowEdge(consumer, distributor)
+            }
+        }
+
+        return consumers.map { it.work }.toDoubleArray()
+    }
+
+    /**
+     * A supplier that supplies the demand on its edge up to its capacity.
+     */
+    private class TestSupplier(engine: FlowEngine, private val capacity: Double) : FlowNode(engine), FlowSupplier {
+        private var consumerEdge: FlowEdge? = null
+        private var demand = 0.0
+
+        override fun onUpdate(now: Long): Long {
+            consumerEdge?.pushSupply(minOf(demand, capacity))
+            return Long.MAX_VALUE
+        }
+
+        override fun handleIncomingDemand(
+            consumerEdge: FlowEdge,
+            newDemand: Double,
+        ) {
+            demand = newDemand
+            invalidate()
+        }
+
+        override fun pushOutgoingSupply(
+            consumerEdge: FlowEdge,
+            newSupply: Double,
+        ) {
+            consumerEdge.pushSupply(newSupply)
+        }
+
+        override fun addConsumerEdge(consumerEdge: FlowEdge) {
+            this.consumerEdge = consumerEdge
+        }
+
+        override fun removeConsumerEdge(consumerEdge: FlowEdge) {
+            this.consumerEdge = null
+        }
+
+        override fun getCapacity(): Double = capacity
+
+        override fun getConnectedEdges(): Map<FlowEdge.NodeType, List<FlowEdge>> =
+            mapOf(FlowEdge.NodeType.CONSUMING to listOfNotNull(consumerEdge))
+    }
+
+    /**
+     * A consumer that changes its demand every second, records the work it receives, and disconnects once its demands
+     * are exhausted.
+     */
+    private class TestConsumer(engine: FlowEngine, private val demands: List<Double>) : FlowNode(engine), FlowConsumer {
+        private var supplierEdge: FlowEdge? = null
+        private var supply = 0.0
+        private var lastSupplyUpdate = 0L
+
+        /**
+         * The work (in units times milliseconds) received by the consumer.
+         */
+        var work = 0.0
+
+        private fun updateWork(now: Long) {
+            work += supply * (now - lastSupplyUpdate)
+            lastSupplyUpdate = now
+        }
+
+        override fun onUpdate(now: Long): Long {
+            val index = (now / 1000).toInt()
+            if (index >= demands.size) {
+                updateWork(now)
+                supply = 0.0
+                supplierEdge?.close()
+                return Long.MAX_VALUE
+            }
+
+            pushOutgoingDemand(supplierEdge!!, demands[index])
+            return (index + 1) * 1000L
+        }
+
+        override fun handleIncomingSupply(
+            supplierEdge: FlowEdge,
+            newSupply: Double,
+        ) {
+            updateWork(clock.millis())
+            supply = newSupply
+        }
+
+        override fun pushOutgoingDemand(
+            supplierEdge: FlowEdge,
+            newDemand: Double,
+        ) {
+            supplierEdge.pushDemand(newDemand)
+        }
+
+        override fun addSupplierEdge(supplierEdge: FlowEdge) {
+            this.supplierEdge = supplierEdge
+        }
+
+        override fun removeSupplierEdge(supplierEdge: FlowEdge) {
+            this.supplierEdge = null
+        }
+
+        override fun getConnectedEdges(): Map<FlowEdge.NodeType, List<FlowEdge>> =
+            mapOf(FlowEdge.NodeType.SUPPLYING to listOfNotNull(supplierEdge))
+    }
+}
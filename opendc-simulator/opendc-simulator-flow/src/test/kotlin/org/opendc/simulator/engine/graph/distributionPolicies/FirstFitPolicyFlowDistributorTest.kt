@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.simulator.engine.graph.distributionPolicies
+
+import kotlinx.coroutines.delay
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertAll
+import org.opendc.simulator.engine.engine.FlowEngine
+import org.opendc.simulator.engine.graph.FlowConsumer
+import org.opendc.simulator.engine.graph.FlowEdge
+import org.opendc.simulator.engine.graph.FlowNode
+import org.opendc.simulator.engine.graph.FlowSupplier
+import org.opendc.simulator.kotlin.runSimulation
+
+/**
+ * Test suite for the [FirstFitPolicyFlowDistributor] class.
+ */
+class FirstFitPolicyFlowDistributorTest {
+    /**
+     * The suppliers should be filled in the order in which they were added, also after a supplier in the middle is
+     * removed and its slot is reused by a new supplier.
+     */
+    @Test
+    fun testFillOrderAfterRemoval() =
+        runSimulation {
+            val engine = FlowEngine.create(dispatcher)
+            val distributor = FirstFitPolicyFlowDistributor(engine, 1, 4)
+
+            val suppliers = List(4) { TestSupplier(engine, 100.0) }
+            val edges = suppliers.map { FlowEdge(distributor, it) }.toMutableList()
+
+            val consumer = TestConsumer(engine)
+            FlowEdge(consumer, distributor)
+            consumer.demand = 250.0
+            delay(1000)
+
+            // Remove the second supplier and add a new supplier, which reuses its slot
+            edges.removeAt(1).close()
+            edges.add(FlowEdge(distributor, TestSupplier(engine, 100.0)))
+            delay(1000)
+
+            assertAll(
+                { assertEquals(100.0, edges[0].demand) },
+                { assertEquals(100.0, edges[1].demand) },
+                { assertEquals(50.0, edges[2].demand) },
+                { assertEquals(0.0, edges[3].demand) },
+            )
+        }
+
+    /**
+     * A supplier with a fixed capacity that only records the demand on its edge.
+     */
+    private class TestSupplier(engine: FlowEngine, private val capacity: Double) : FlowNode(engine), FlowSupplier {
+        private var consumerEdge: FlowEdge? = null
+
+        override fun onUpdate(now: Long): Long = Long.MAX_VALUE
+
+        override fun handleIncomingDemand(
+            consumerEdge: FlowEdge,
+            newDemand: Double,
+        ) {}
+
+        override fun pushOutgoingSupply(
+            consumerEdge: FlowEdge,
+            newSupply: Double,
+        ) {
+            consumerEdge.pushSupply(newSupply)
+        }
+
+        override fun addConsumerEdge(consumerEdge: FlowEdge) {
+            this.consumerEdge = consumerEdge
+        }
+
+        override fun removeConsumerEdge(consumerEdge: FlowEdge) {
+            this.consumerEdge = null
+        }
+
+        override fun getCapacity(): Double = capacity
+
+        override fun getConnectedEdges(): Map<FlowEdge.NodeType, List<FlowEdge>> =
+            mapOf(FlowEdge.NodeType.CONSUMING to listOfNotNull(consumerEdge))
+    }
+
+    /**
+     * A consumer that pushes its demand to its supplier.
+     */
+    private class TestConsumer(engine: FlowEngine) : FlowNode(engine), FlowConsumer {
+        private var supplierEdge: FlowEdge? = null
+
+        var demand = 0.0
+            set(value) {
+                field = value
+                pushOutgoingDemand(supplierEdge!!, value)
+            }
+
+        override fun onUpdate(now: Long): Long = Long.MAX_VALUE
+
+        override fun handleIncomingSupply(
+            supplierEdge: FlowEdge,
+            newSupply: Double,
+        ) {}
+
+        override fun pushOutgoingDemand(
+            supplierEdge: FlowEdge,
+            newDemand: Double,
+        ) {
+            supplierEdge.pushDemand(newDemand)
+        }
+
+        override fun addSupplierEdge(supplierEdge: FlowEdge) {
+            this.supplierEdge = supplierEdge
+        }
+
+        override fun removeSupplierEdge(supplierEdge: FlowEdge) {
+            this.supplierEdge = null
+        }
+
+        override fun getConnectedEdges(): Map<FlowEdge.NodeType, List<FlowEdge>> =
+            mapOf(FlowEdge.NodeType.SUPPLYING to listOfNotNull(supplierEdge))
+    }
+}
@@ -161,6 +161,18 @@ public interface TableReader : AutoCloseable {
         elementType: Class<T>,
     ): Set<T>?
 
+    /**
+     * Obtain the value of the integer collection column with the specified [index] as [IntArray].
+     *
+     * In contrast to [getSet], implementations may return the primitive storage of the current row directly, which
+     * avoids boxing the individual elements. The returned array must not be modified by the caller.
+     *
+     * @param index The zero-based index of the column to obtain the value for.
+     * @throws IllegalArgumentException if the column index is not valid for this reader or this type.
+     * @return The value of the column as `IntArray` or `null` if the column is null.
+     */
+    public fun getIntArray(index: Int): IntArray? = getSet(index, Int::class.java)?.toIntArray()
+
     /**
      * Obtain the value of the column with the specified [index] as [Set].
      *
@@ -292,6 +304,15 @@ public interface TableReader : AutoCloseable {
         elementType: Class<T>,
     ): Set<T>? = getSet(resolve(name), elementType)
 
+    /**
+     * Obtain the value of the integer collection column named [name] as [IntArray].
+     *
+     * @param name The name of the column to get the value for.
+     * @throws IllegalArgumentException if the column index is not valid for this reader or this type.
+     * @return The value of the column as `IntArray` or `null` if the column is null.
+     */
+    public fun getIntArray(name: String): IntArray? = getIntArray(resolve(name))
+
     /**
      * Obtain the value of the column named [name] as [Set].
      *
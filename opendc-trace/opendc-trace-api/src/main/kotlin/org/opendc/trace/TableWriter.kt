@@ -180,6 +180,18 @@ public interface TableWriter : AutoCloseable {
         value: Set<T>,
     )
 
+    /**
+     * Set the integer collection column with index [index] to [IntArray] [value].
+     *
+     * @param index The zero-based index of the column to set the value for.
+     * @param value The [IntArray] value to set the column to.
+     * @throws IllegalArgumentException if the column is not valid for this method.
+     */
+    public fun setIntArray(
+        index: Int,
+        value: IntArray,
+    ): Unit = setSet(index, value.toSet())
+
     /**
      * Set the column with index [index] to [Map] [value].
      *
@@ -324,6 +336,18 @@ public interface TableWriter : AutoCloseable {
         value: Set<T>,
     ): Unit = setSet(resolve(name), value)
 
+    /**
+     * Set the integer collection column named [name] to [IntArray] [value].
+     *
+     * @param name The name of the column to set the value for.
+     * @param value The [IntArray] value to set the column to.
+     * @throws IllegalArgumentException if the column is not valid for this method.
+     */
+    public fun setIntArray(
+        name: String,
+        value: IntArray,
+    ): Unit = setIntArray(resolve(name), value)
+
     /**
      * Set the column named [name] to [Map] [value].
      *
@@ -58,11 +58,8 @@ internal class FragmentTableWriter(private val writer: ParquetWriter<FragmentPar
         check(localIsActive) { "No active row" }
         localIsActive = false
 
-        check(lastId != localID) { "Records need to be ordered by (id, timestamp)" }
-
+        // Fragments are written in the order of execution and must be grouped by task
         writer.write(FragmentParquetSchema(localID, localDuration, localCpuUsage, localGpuUsage))
-
-        lastId = localID
     }
 
     override fun resolve(name: String): Int {
@@ -181,11 +178,6 @@ internal class FragmentTableWriter(private val writer: ParquetWriter<FragmentPar
         writer.close()
     }
 
-    /**
-     * Last column values that are used to check for correct partitioning.
-     */
-    private var lastId: Int? = null
-
     private val colID = 0
     private val colDuration = 1
     private val colCpuUsage = 2
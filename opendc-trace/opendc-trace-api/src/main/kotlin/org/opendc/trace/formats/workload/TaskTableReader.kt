@@ -193,8 +193,17 @@ internal class TaskTableReader(private val reader: LocalParquetReader<TaskParque
     ): Set<T>? {
         val record = checkNotNull(record) { "Reader in invalid state" }
         return when (index) {
-            colParents -> typeParents.convertTo(record.parents, elementType)
-            colChildren -> typeChildren.convertTo(record.children, elementType)
+            colParents -> typeParents.convertTo(record.parents.toSet(), elementType)
+            colChildren -> typeChildren.convertTo(record.children.toSet(), elementType)
+            else -> throw IllegalArgumentException("Invalid column")
+        }
+    }
+
+    override fun getIntArray(index: Int): IntArray? {
+        val record = checkNotNull(record) { "Reader in invalid state" }
+        return when (index) {
+            colParents -> record.parents
+            colChildren -> record.children
             else -> throw IllegalArgumentException("Invalid column")
         }
     }
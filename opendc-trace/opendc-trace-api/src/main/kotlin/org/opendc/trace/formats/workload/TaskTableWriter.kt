@@ -37,6 +37,7 @@ import org.opendc.trace.conv.TASK_MEM_CAPACITY
 import org.opendc.trace.conv.TASK_NAME
 import org.opendc.trace.conv.TASK_PARENTS
 import org.opendc.trace.conv.TASK_SUBMISSION_TIME
+import org.opendc.trace.formats.workload.parquet.EMPTY_RELATIONS
 import org.opendc.trace.formats.workload.parquet.TaskParquetSchema
 import java.time.Duration
 import java.time.Instant
@@ -51,7 +52,7 @@ internal class TaskTableWriter(private val writer: ParquetWriter<TaskParquetSche
      */
     private var localIsActive = false
     private var localId: Int = -99
-    private var localName: String = ""
+    private var localName: String? = null
     private var localSubmissionTime: Instant = Instant.MIN
     private var localDuration: Long = 0L
     private var localCpuCount: Int = 0
@@ -59,15 +60,15 @@ internal class TaskTableWriter(private val writer: ParquetWriter<TaskParquetSche
     private var localMemCapacity: Double = Double.NaN
     private var localGpuCount: Int = 0
     private var localGpuCapacity: Double = Double.NaN
-    private var localParents = mutableSetOf<Int>()
-    private var localChildren = mutableSetOf<Int>()
+    private var localParents = EMPTY_RELATIONS
+    private var localChildren = EMPTY_RELATIONS
     private var localDeferrable: Boolean = false
     private var localDeadline: Long = -1
 
     override fun startRow() {
         localIsActive = true
         localId = -99
-        localName = ""
+        localName = null
         localSubmissionTime = Instant.MIN
         localDuration = 0L
         localCpuCount = 0
@@ -75,8 +76,8 @@ internal class TaskTableWriter(private val writer: ParquetWriter<TaskParquetSche
         localMemCapacity = Double.NaN
         localGpuCount = 0
         localGpuCapacity = Double.NaN
-        localParents.clear()
-        localChildren.clear()
+        localParents = EMPTY_RELATIONS
+        localChildren = EMPTY_RELATIONS
         localDeferrable = false
         localDeadline = -1L
     }
@@ -106,7 +107,7 @@ internal class TaskTableWriter(private val writer: ParquetWriter<TaskParquetSche
     override fun resolve(name: String): Int {
         return when (name) {
             TASK_ID -> colID
-            TASK_NAME -> colID
+            TASK_NAME -> colName
             TASK_SUBMISSION_TIME -> colSubmissionTime
             TASK_DURATION -> colDuration
             TASK_CPU_COUNT -> colCpuCount
@@ -224,7 +225,23 @@ internal class TaskTableWriter(private val writer: ParquetWriter<TaskParquetSche
         index: Int,
         value: Set<T>,
     ) {
-        throw IllegalArgumentException("Invalid column or type [index $index]")
+        check(localIsActive) { "No active row" }
+        when (index) {
+            colParents, colChildren -> setIntArray(index, value.map { it as Int }.toIntArray())
+            else -> throw IllegalArgumentException("Invalid column or type [index $index]")
+        }
+    }
+
+    override fun setIntArray(
+        index: Int,
+        value: IntArray,
+    ) {
+        check(localIsActive) { "No active row" }
+        when (index) {
+            colParents -> localParents = value
+            colChildren -> localChildren = value
+            else -> throw IllegalArgumentException("Invalid column or type [index $index]")
+        }
     }
 
     override fun <K, V> setMap(
@@ -25,13 +25,9 @@ package org.opendc.trace.formats.workload.parquet
 import org.apache.hadoop.conf.Configuration
 import org.apache.parquet.hadoop.api.WriteSupport
 import org.apache.parquet.io.api.RecordConsumer
-import org.apache.parquet.schema.LogicalTypeAnnotation
-import org.apache.parquet.schema.MessageType
-import org.apache.parquet.schema.PrimitiveType
-import org.apache.parquet.schema.Types
 
 /**
- * Support for writing [TaskParquetSchema] instances to Parquet format.
+ * Support for writing [FragmentParquetSchema] instances to Parquet format.
  */
 internal class FragmentWriteSupport : WriteSupport<FragmentParquetSchema>() {
     /**
@@ -40,7 +36,7 @@ internal class FragmentWriteSupport : WriteSupport<FragmentParquetSchema>() {
     private lateinit var recordConsumer: RecordConsumer
 
     override fun init(configuration: Configuration): WriteContext {
-        return WriteContext(WRITE_SCHEMA, emptyMap())
+        return WriteContext(FRAGMENT_SCHEMA, emptyMap())
     }
 
     override fun prepareForWrite(recordConsumer: RecordConsumer) {
@@ -61,40 +57,20 @@ internal class FragmentWriteSupport : WriteSupport<FragmentParquetSchema>() {
         consumer.addInteger(record.id)
         consumer.endField("id", 0)
 
-        consumer.startField("duration", 2)
+        consumer.startField("duration", 1)
         consumer.addLong(record.duration.toMillis())
-        consumer.endField("duration", 2)
+        consumer.endField("duration", 1)
 
-        consumer.startField("cpu_usage", 4)
+        consumer.startField("cpu_usage", 2)
         consumer.addDouble(record.cpuUsage)
-        consumer.endField("cpu_usage", 4)
+        consumer.endField("cpu_usage", 2)
 
-        consumer.endMessage()
-    }
+        if (!record.gpuUsage.isNaN()) {
+            consumer.startField("gpu_usage", 3)
+            consumer.addDouble(record.gpuUsage)
+            consumer.endField("gpu_usage", 3)
+        }
 
-    companion object {
-        /**
-         * Parquet schema for the "resource states" table in the trace.
-         */
-        @JvmStatic
-        val WRITE_SCHEMA: MessageType =
-            Types.buildMessage()
-                .addFields(
-                    Types
-                        .required(PrimitiveType.PrimitiveTypeName.BINARY)
-                        .`as`(LogicalTypeAnnotation.stringType())
-                        .named("id"),
-                    Types
-                        .required(PrimitiveType.PrimitiveTypeName.INT64)
-                        .`as`(LogicalTypeAnnotation.timestampType(true, LogicalTypeAnnotation.TimeUnit.MILLIS))
-                        .named("timestamp"),
-                    Types
-                        .required(PrimitiveType.PrimitiveTypeName.INT64)
-                        .named("duration"),
-                    Types
-                        .required(PrimitiveType.PrimitiveTypeName.DOUBLE)
-                        .named("cpu_usage"),
-                )
-                .named("resource_state")
+        consumer.endMessage()
     }
 }
@@ -37,8 +37,13 @@ internal data class TaskParquetSchema(
     val memCapacity: Double,
     val gpuCount: Int = 0,
     val gpuCapacity: Double = 0.0,
-    val parents: MutableSet<Int> = mutableSetOf(),
-    val children: Set<Int> = emptySet(),
+    val parents: IntArray = EMPTY_RELATIONS,
+    val children: IntArray = EMPTY_RELATIONS,
     val deferrable: Boolean = false,
     val deadline: Long = -1,
 )
+
+/**
+ * Shared empty array for tasks without parent or child relations.
+ */
+internal val EMPTY_RELATIONS = IntArray(0)
@@ -46,8 +46,8 @@ internal class TaskRecordMaterializer(schema: MessageType) : RecordMaterializer<
     private var localMemCapacity = 0.0
     private var localGpuCount = 0
     private var localGpuCapacity = 0.0
-    private var localParents = mutableSetOf<Int>()
-    private var localChildren = mutableSetOf<Int>()
+    private val localParents = RelationBuffer()
+    private val localChildren = RelationBuffer()
     private var localDeferrable: Boolean = false
     private var localDeadline = -1L
 
@@ -170,18 +170,64 @@ internal class TaskRecordMaterializer(schema: MessageType) : RecordMaterializer<
             localMemCapacity,
             localGpuCount,
             localGpuCapacity,
-            localParents.toMutableSet(),
-            localChildren.toSet(),
+            localParents.toIntArray(),
+            localChildren.toIntArray(),
             localDeferrable,
             localDeadline,
         )
 
     override fun getRootConverter(): GroupConverter = root
 
+    /**
+     * A growable buffer of primitive task identifiers that is reused across records.
+     */
+    private class RelationBuffer {
+        private var values = IntArray(8)
+        private var size = 0
+
+        fun add(value: Int) {
+            if (size == values.size) {
+                values = values.copyOf(size * 2)
+            }
+            values[size++] = value
+        }
+
+        fun clear() {
+            size = 0
+        }
+
+        /**
+         * Copy the relations of the current record into an exact-size array, dropping duplicate identifiers while
+         * preserving the order in which they appear in the trace.
+         */
+        fun toIntArray(): IntArray {
+            if (size == 0) {
+                return EMPTY_RELATIONS
+            }
+
+            val result = values.copyOf(size)
+            if (size == 1) {
+                return result
+            }
+
+            val sorted = result.copyOf()
+            sorted.sort()
+            var hasDuplicates = false
+            for (i in 1 until sorted.size) {
+                if (sorted[i] == sorted[i - 1]) {
+                    hasDuplicates = true
+                    break
+                }
+            }
+
+            return if (hasDuplicates) result.distinct().toIntArray() else result
+        }
+    }
+
     /**
      * Helper class to convert parent and child relations and add them to [relations].
      */
-    private class RelationConverter(private val relations: MutableSet<Int>) : GroupConverter() {
+    private class RelationConverter(private val relations: RelationBuffer) : GroupConverter() {
         private val entryConverter =
             object : PrimitiveConverter() {
                 override fun addInt(value: Int) {
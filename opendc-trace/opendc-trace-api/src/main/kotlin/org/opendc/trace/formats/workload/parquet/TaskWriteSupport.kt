@@ -24,6 +24,7 @@ package org.opendc.trace.formats.workload.parquet
 
 import org.apache.hadoop.conf.Configuration
 import org.apache.parquet.hadoop.api.WriteSupport
+import org.apache.parquet.io.api.Binary
 import org.apache.parquet.io.api.RecordConsumer
 import kotlin.math.roundToLong
 
@@ -58,36 +59,84 @@ internal class TaskWriteSupport : WriteSupport<TaskParquetSchema>() {
         consumer.addInteger(record.id)
         consumer.endField("id", 0)
 
-        consumer.startField("submission_time", 1)
+        val name = record.name
+        if (name != null) {
+            consumer.startField("name", 1)
+            consumer.addBinary(Binary.fromString(name))
+            consumer.endField("name", 1)
+        }
+
+        consumer.startField("submission_time", 2)
         consumer.addLong(record.submissionTime.toEpochMilli())
-        consumer.endField("submission_time", 1)
+        consumer.endField("submission_time", 2)
 
-        consumer.startField("duration", 2)
+        consumer.startField("duration", 3)
         consumer.addLong(record.durationTime)
-        consumer.endField("duration", 2)
+        consumer.endField("duration", 3)
 
-        consumer.startField("cpu_count", 3)
+        consumer.startField("cpu_count", 4)
         consumer.addInteger(record.cpuCount)
-        consumer.endField("cpu_count", 3)
+        consumer.endField("cpu_count", 4)
 
-        consumer.startField("cpu_capacity", 4)
+        consumer.startField("cpu_capacity", 5)
         consumer.addDouble(record.cpuCapacity)
-        consumer.endField("cpu_capacity", 4)
+        consumer.endField("cpu_capacity", 5)
 
-        consumer.startField("mem_capacity", 5)
+        consumer.startField("mem_capacity", 6)
         consumer.addLong(record.memCapacity.roundToLong())
-        consumer.endField("mem_capacity", 5)
+        consumer.endField("mem_capacity", 6)
+
+        consumer.startField("gpu_count", 7)
+        consumer.addInteger(record.gpuCount)
+        consumer.endField("gpu_count", 7)
+
+        if (!record.gpuCapacity.isNaN()) {
+            consumer.startField("gpu_capacity", 8)
+            consumer.addDouble(record.gpuCapacity)
+            consumer.endField("gpu_capacity", 8)
+        }
+
+        writeRelations(consumer, "parents", 9, record.parents)
+        writeRelations(consumer, "children", 10, record.children)
 
-        consumer.startField("deferrable", 6)
+        consumer.startField("deferrable", 11)
         consumer.addBoolean(record.deferrable)
-        consumer.endField("deferrable", 6)
+        consumer.endField("deferrable", 11)
 
         if (record.deadline != -1L) {
-            consumer.startField("deadline", 7)
+            consumer.startField("deadline", 12)
             consumer.addLong(record.deadline)
-            consumer.endField("deadline", 7)
+            consumer.endField("deadline", 12)
         }
 
         consumer.endMessage()
     }
+
+    /**
+     * Write the task identifiers in [relations] as a Parquet list in the field named [field].
+     */
+    private fun writeRelations(
+        consumer: RecordConsumer,
+        field: String,
+        index: Int,
+        relations: IntArray,
+    ) {
+        if (relations.isEmpty()) {
+            return
+        }
+
+        consumer.startField(field, index)
+        consumer.startGroup()
+        consumer.startField("list", 0)
+        for (relation in relations) {
+            consumer.startGroup()
+            consumer.startField("element", 0)
+            consumer.addInteger(relation)
+            consumer.endField("element", 0)
+            consumer.endGroup()
+        }
+        consumer.endField("list", 0)
+        consumer.endGroup()
+        consumer.endField(field, index)
+    }
 }
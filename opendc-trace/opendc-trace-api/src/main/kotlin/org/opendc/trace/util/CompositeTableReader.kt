@@ -138,6 +138,11 @@ public abstract class CompositeTableReader : TableReader {
         return delegate.getSet(index, elementType)
     }
 
+    override fun getIntArray(index: Int): IntArray? {
+        val delegate = checkNotNull(delegate) { "Invalid reader state" }
+        return delegate.getIntArray(index)
+    }
+
     override fun <K, V> getMap(
         index: Int,
         keyType: Class<K>,
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.trace.util
+
+import org.opendc.trace.Trace
+import org.opendc.trace.conv.FRAGMENT_CPU_USAGE
+import org.opendc.trace.conv.FRAGMENT_DURATION
+import org.opendc.trace.conv.FRAGMENT_GPU_USAGE
+import org.opendc.trace.conv.TABLE_FRAGMENTS
+import org.opendc.trace.conv.TABLE_TASKS
+import org.opendc.trace.conv.TASK_ID
+import java.util.SplittableRandom
+
+/**
+ * A deterministic sampler that selects a subset of the tasks in a workload trace, such that the selected tasks
+ * account for (at least) a [fraction] of the total load of the trace.
+ *
+ * The sampler only keeps the identifier and the accumulated load of every task in memory. Fragments are streamed
+ * and never materialized, so the memory usage is independent of the number of fragments in the trace.
+ *
+ * @param fraction The fraction of the total load to select, in the range `(0, 1]`.
+ * @param seed The seed of the random number generator that determines the order in which tasks are considered.
+ */
+public class TaskLoadSampler(
+    private val fraction: Double,
+    private val seed: Long,
+) {
+    init {
+        require(fraction > 0.0 && fraction <= 1.0) { "Sample fraction must be in (0, 1]" }
+    }
+
+    /**
+     * Select the tasks to keep from the specified [trace].
+     *
+     * @return A sorted array containing the identifiers of the selected tasks.
+     */
+    public fun select(trace: Trace): IntArray {
+        val ids = readTaskIds(trace)
+        val loads = readTaskLoads(trace, ids)
+        return select(ids, loads)
+    }
+
+    /**
+     * Select the tasks to keep given their (sorted) identifiers [ids] and the corresponding [loads].
+     *
+     * Tasks are considered in a random order determined by [seed] and added until the target load is reached.
+     * Every task is selected at most once.
+     *
+     * @return A sorted array containing the identifiers of the selected tasks.
+     */
+    public fun select(
+        ids: IntArray,
+        loads: DoubleArray,
+    ): IntArray {
+        require(ids.size == loads.size) { "Every task requires a load" }
+
+        val target = loads.sum() * fraction
+        val order = IntArray(ids.size) { it }
+        val random = SplittableRandom(seed)
+
+        var selected = 0
+        var load = 0.0
+        while (selected < order.size && load < target) {
+            // Incremental Fisher-Yates shuffle: only the prefix we actually need is shuffled
+            val j = selected + random.nextInt(order.size - selected)
+            val index = order[j]
+            order[j] = order[selected]
+            order[selected] = index
+
+            load += loads[index]
+            selected++
+        }
+
+        val result = IntArray(selected) { ids[order[it]] }
+        result.sort()
+        return result
+    }
+
+    public companion object {
+        /**
+         * Read the sorted identifiers of the tasks in the [trace].
+         */
+        @JvmStatic
+        public fun readTaskIds(trace: Trace): IntArray {
+            val reader = checkNotNull(trace.getTable(TABLE_TASKS)).newReader()
+
+            var ids = IntArray(1024)
+            var size = 0
+
+            try {
+                val idCol = reader.resolve(TASK_ID)
+                while (reader.nextRow()) {
+                    if (size == ids.size) {
+                        ids = ids.copyOf(size * 2)
+                    }
+                    ids[size++] = reader.getInt(idCol)
+                }
+            } finally {
+                reader.close()
+            }
+
+            val result = ids.copyOf(size)
+            result.sort()
+            return result
+        }
+
+        /**
+         * Accumulate the load of each task in [ids] by streaming over the fragments of the [trace].
+         */
+        @JvmStatic
+        public fun readTaskLoads(
+            trace: Trace,
+            ids: IntArray,
+        ): DoubleArray {
+            val reader = checkNotNull(trace.getTable(TABLE_FRAGMENTS)).newReader()
+            val loads = DoubleArray(ids.size)
+
+            try {
+                val idCol = reader.resolve(TASK_ID)
+                val durationCol = reader.resolve(FRAGMENT_DURATION)
+                val cpuUsageCol = reader.resolve(FRAGMENT_CPU_USAGE)
+                val gpuUsageCol = reader.resolve(FRAGMENT_GPU_USAGE)
+
+                var lastId = Int.MIN_VALUE
+                var lastIndex = -1
+
+                while (reader.nextRow()) {
+                    val id = reader.getInt(idCol)
+
+                    // Fragments are grouped by task, so we only need to look up the task when it changes
+                    if (id != lastId) {
+                        lastId = id
+                        lastIndex = ids.binarySearch(id)
+                    }
+
+                    if (lastIndex < 0) {
+                        continue
+                    }
+
+                    val duration = reader.getDuration(durationCol)!!.toMillis()
+                    val cpuUsage = reader.getDouble(cpuUsageCol)
+                    val gpuUsage = reader.getDouble(gpuUsageCol).let { if (it.isNaN()) 0.0 else it }
+
+                    loads[lastIndex] += (cpuUsage + gpuUsage) * duration / 1000.0
+                }
+            } finally {
+                reader.close()
+            }
+
+            return loads
+        }
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2026 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.trace.tools
+
+import org.opendc.trace.TableWriter
+import org.opendc.trace.conv.FRAGMENT_CPU_USAGE
+import org.opendc.trace.conv.FRAGMENT_DURATION
+import org.opendc.trace.conv.FRAGMENT_GPU_USAGE
+import org.opendc.trace.conv.TASK_ID
+import java.time.Duration
+import java.util.concurrent.ArrayBlockingQueue
+import kotlin.concurrent.thread
+
+/**
+ * A writer that appends fragments to a [TableWriter] in batches on a dedicated thread.
+ *
+ * Fragments are buffered in a fixed pool of column-oriented batches that are recycled once written, so the memory
+ * used by the writer is bounded by `batchSize * batchCount` fragments regardless of the size of the trace.
+ *
+ * @param writer The [TableWriter] of the fragments table to write to.
+ * @param batchSize The number of fragments per batch.
+ * @param batchCount The number of batches that may be in flight at the same time.
+ */
+internal class FragmentBatchWriter(
+    private val writer: TableWriter,
+    batchSize: Int,
+    batchCount: Int,
+) : AutoCloseable {
+    init {
+        require(batchSize > 0) { "Batch size must be positive" }
+        require(batchCount > 1) { "At least two batches are required" }
+    }
+
+    /**
+     * The batches that are available to be filled.
+     */
+    private val free = ArrayBlockingQueue<FragmentBatch>(batchCount)
+
+    /**
+     * The batches that are ready to be written.
+     */
+    private val full = ArrayBlockingQueue<FragmentBatch>(batchCount)
+
+    /**
+     * The batch that is currently being filled.
+     */
+    private var current = FragmentBatch(batchSize)
+
+    /**
+     * An exception to be propagated to the thread appending the fragments.
+     */
+    @Volatile private var exception: Throwable? = null
+
+    /**
+     * The number of fragments that have been appended.
+     */
+    var count: Long = 0L
+        private set
+
+    private val colId = writer.resolve(TASK_ID)
+    private val colDuration = writer.resolve(FRAGMENT_DURATION)
+    private val colCpuUsage = writer.resolve(FRAGMENT_CPU_USAGE)
+    private val colGpuUsage = writer.resolve(FRAGMENT_GPU_USAGE)
+
+    /**
+     * The thread that is responsible for writing the batches.
+     */
+    private val writerThread =
+        thread(start = false, name = "fragment-batch-writer") {
+            while (true) {
+                val batch = full.take()
+
+                // After a failure, batches are still recycled so the appending thread never blocks indefinitely
+                if (exception == null) {
+                    try {
+                        write(batch)
+                    } catch (e: Throwable) {
+                        exception = e
+                    }
+                }
+
+                val isLast = batch.isLast
+                batch.clear()
+                free.put(batch)
+
+                if (isLast) {
+                    break
+                }
+            }
+        }
+
+    init {
+        repeat(batchCount - 1) { free.add(FragmentBatch(batchSize)) }
+        writerThread.start()
+    }
+
+    /**
+     * Append a fragment to the table.
+     *
+     * @param id The identifier of the task to which the fragment belongs.
+     * @param duration The duration of the fragment in milliseconds.
+     * @param cpuUsage The CPU usage of the fragment.
+     * @param gpuUsage The GPU usage of the fragment.
+     */
+    fun append(
+        id: Int,
+        duration: Long,
+        cpuUsage: Double,
+        gpuUsage: Double,
+    ) {
+        val batch = current
+        batch.add(id, duration, cpuUsage, gpuUsage)
+        count++
+
+        if (batch.isFull) {
+            checkException()
+            full.put(batch)
+            current = free.take()
+        }
+    }
+
+    override fun close() {
+        val batch = current
+        batch.isLast = true
+        full.put(batch)
+        writerThread.join()
+
+        writer.close()
+        checkException()
+    }
+
+    /**
+     * Write the fragments in [batch] to the underlying table.
+     */
+    private fun write(batch: FragmentBatch) {
+        val writer = writer
+        for (i in 0 until batch.size) {
+            writer.startRow()
+            writer.setInt(colId, batch.ids[i])
+            writer.setDuration(colDuration, Duration.ofMillis(batch.durations[i]))
+            writer.setDouble(colCpuUsage, batch.cpuUsages[i])
+            writer.setDouble(colGpuUsage, batch.gpuUsages[i])
+            writer.endRow()
+        }
+    }
+
+    private fun checkException() {
+        val exception = exception
+        if (exception != null) {
+            throw IllegalStateException("Fragment writer failed", exception)
+        }
+    }
+
+    /**
+     * A column-oriented batch of fragments.
+     */
+    private class FragmentBatch(capacity: Int) {
+        @JvmField val ids = IntArray(capacity)
+
+        @JvmField val durations = LongArray(capacity)
+
+        @JvmField val cpuUsages = DoubleArray(capacity)
+
+        @JvmField val gpuUsages = DoubleArray(capacity)
+
+        @JvmField var size = 0
+
+        @JvmField var isLast = false
+
+        val isFull: Boolean
+            get() = size == ids.size
+
+        fun add(
+            id: Int,
+            duration: Long,
+            cpuUsage: Double,
+            gpuUsage: Double,
+        ) {
+            val i = size++
+            ids[i] = id
+            durations[i] = duration
+            cpuUsages[i] = cpuUsage
+            gpuUsages[i] = gpuUsage
+        }
+
+        fun clear() {
+            size = 0
+            isLast = false
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+@file:JvmName("TraceTools")
+
+package org.opendc.trace.tools
+
+import com.github.ajalt.clikt.core.CliktCommand
+import com.github.ajalt.clikt.parameters.arguments.argument
+import com.github.ajalt.clikt.parameters.options.default
+import com.github.ajalt.clikt.parameters.options.option
+import com.github.ajalt.clikt.parameters.types.double
+import com.github.ajalt.clikt.parameters.types.file
+import com.github.ajalt.clikt.parameters.types.int
+import com.github.ajalt.clikt.parameters.types.long
+import com.github.ajalt.clikt.parameters.types.restrictTo
+import java.time.Duration
+
+/**
+ * Main entrypoint of the application.
+ */
+public fun main(args: Array<String>): Unit = ConvertCommand().main(args)
+
+/**
+ * A [CliktCommand] for converting and downsampling workload traces.
+ */
+internal class ConvertCommand : CliktCommand(name = "convert", help = "Convert and downsample a workload trace") {
+    /**
+     * The directory containing the input trace.
+     */
+    private val input by argument("input", help = "path to the input trace")
+        .file(mustExist = true, canBeFile = false)
+
+    /**
+     * The directory to write the output trace to.
+     */
+    private val output by argument("output", help = "path to the output trace")
+        .file(canBeFile = false)
+
+    /**
+     * The offset to apply to the submission times of the tasks.
+     */
+    private val timeShift by option("--time-shift", help = "offset in milliseconds to add to the submission times")
+        .long()
+        .default(0L)
+
+    /**
+     * The relative tolerance for coalescing fragments.
+     */
+    private val coalesceTolerance by option("--coalesce-tolerance", help = "relative tolerance for merging fragments")
+        .double()
+        .restrictTo(min = 0.0)
+        .default(0.0)
+
+    /**
+     * The fraction of the load to keep.
+     */
+    private val sampleFraction by option("--sample-fraction", help = "fraction of the total load to keep")
+        .double()
+        .restrictTo(min = 0.0, max = 1.0)
+        .default(1.0)
+
+    /**
+     * The seed for sampling the tasks.
+     */
+    private val seed by option("--seed", help = "seed for sampling the tasks")
+        .long()
+        .default(0L)
+
+    /**
+     * The number of fragments per batch handed to the writer thread.
+     */
+    private val batchSize by option("--batch-size", help = "number of fragments per write batch")
+        .int()
+        .restrictTo(min = 1)
+        .default(4096)
+
+    override fun run() {
+        val converter =
+            WorkloadTraceConverter(
+                timeShift = Duration.ofMillis(timeShift),
+                coalesceTolerance = coalesceTolerance,
+                sampleFraction = sampleFraction,
+                seed = seed,
+                batchSize = batchSize,
+            )
+
+        val summary = converter.convert(input.toPath(), output.toPath())
+        echo(
+            "Wrote ${summary.tasksWritten}/${summary.tasksRead} tasks and " +
+                "${summary.fragmentsWritten}/${summary.fragmentsRead} fragments",
+        )
+    }
+}
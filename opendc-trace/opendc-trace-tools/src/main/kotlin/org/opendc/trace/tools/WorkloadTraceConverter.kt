@@ -0,0 +1,303 @@
+/*
+ * Copyright (c) 2026 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.trace.tools
+
+import mu.KotlinLogging
+import org.opendc.common.util.UsageCoalescer
+import org.opendc.trace.Trace
+import org.opendc.trace.conv.FRAGMENT_CPU_USAGE
+import org.opendc.trace.conv.FRAGMENT_DURATION
+import org.opendc.trace.conv.FRAGMENT_GPU_USAGE
+import org.opendc.trace.conv.TABLE_FRAGMENTS
+import org.opendc.trace.conv.TABLE_TASKS
+import org.opendc.trace.conv.TASK_CHILDREN
+import org.opendc.trace.conv.TASK_CPU_CAPACITY
+import org.opendc.trace.conv.TASK_CPU_COUNT
+import org.opendc.trace.conv.TASK_DEADLINE
+import org.opendc.trace.conv.TASK_DEFERRABLE
+import org.opendc.trace.conv.TASK_DURATION
+import org.opendc.trace.conv.TASK_GPU_CAPACITY
+import org.opendc.trace.conv.TASK_GPU_COUNT
+import org.opendc.trace.conv.TASK_ID
+import org.opendc.trace.conv.TASK_MEM_CAPACITY
+import org.opendc.trace.conv.TASK_NAME
+import org.opendc.trace.conv.TASK_PARENTS
+import org.opendc.trace.conv.TASK_SUBMISSION_TIME
+import org.opendc.trace.util.TaskLoadSampler
+import java.nio.file.Path
+import java.time.Duration
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.Executors
+
+/**
+ * A streaming converter for workload traces in the OpenDC workload format.
+ *
+ * The converter reads the tasks and fragments of a trace, applies the configured transformations and writes the
+ * result as a new trace. Both tables are converted concurrently and fragments are handed to the Parquet writer in
+ * bounded batches on a separate thread, so the heap usage does not grow with the size of the trace.
+ *
+ * The following transformations are supported:
+ * - **Time-shifting**: the submission time and deadline of every task are moved by [timeShift].
+ * - **Fragment coalescing**: consecutive fragments of a task whose usage stays within [coalesceTolerance] are merged
+ *   into a single fragment with the duration-weighted average usage, preserving the total work of the task. The
+ *   rule is shared with the load-time coalescing of the simulator, see [UsageCoalescer].
+ * - **Load-based sampling**: only a subset of tasks that accounts for [sampleFraction] of the total load is kept,
+ *   selected deterministically using [seed].
+ *
+ * Fragments of a task are expected to be stored consecutively in the fragments table.
+ *
+ * @param timeShift The offset to apply to the submission time of all tasks.
+ * @param coalesceTolerance The maximum spread of the usage within a merged fragment, relative to its highest usage.
+ * With a tolerance of `0`, only consecutive fragments with identical usage are merged.
+ * @param sampleFraction The fraction of the total load to keep.
+ * @param seed The seed used for sampling tasks.
+ * @param batchSize The number of fragments that are handed to the writer thread at once.
+ * @param batchCount The number of fragment batches that may be in flight at the same time.
+ */
+public class WorkloadTraceConverter(
+    private val timeShift: Duration = Duration.ZERO,
+    private val coalesceTolerance: Double = 0.0,
+    private val sampleFraction: Double = 1.0,
+    private val seed: Long = 0L,
+    private val batchSize: Int = 4096,
+    private val batchCount: Int = 4,
+) {
+    init {
+        require(coalesceTolerance >= 0.0) { "Coalesce tolerance must be non-negative" }
+        require(sampleFraction > 0.0 && sampleFraction <= 1.0) { "Sample fraction must be in (0, 1]" }
+    }
+
+    /**
+     * The logging instance of this converter.
+     */
+    private val logger = KotlinLogging.logger {}
+
+    /**
+     * Convert the workload trace at [input] and write the result to [output].
+     *
+     * @return A [ConversionSummary] describing the number of records read and written.
+     */
+    public fun convert(
+        input: Path,
+        output: Path,
+    ): ConversionSummary {
+        val source = Trace.open(input, "workload")
+        val target = Trace.create(output, "workload")
+
+        val selection =
+            if (sampleFraction < 1.0) {
+                TaskLoadSampler(sampleFraction, seed).select(source)
+            } else {
+                null
+            }
+
+        val executor = Executors.newFixedThreadPool(2)
+        try {
+            val tasks = executor.submit(Callable { convertTasks(source, target, selection) })
+            val fragments = executor.submit(Callable { convertFragments(source, target, selection) })
+
+            val (tasksRead, tasksWritten) = tasks.get()
+            val (fragmentsRead, fragmentsWritten) = fragments.get()
+
+            val summary = ConversionSummary(tasksRead, tasksWritten, fragmentsRead, fragmentsWritten)
+            logger.info { "Converted trace $input to $output: $summary" }
+            return summary
+        } catch (e: ExecutionException) {
+            throw e.cause ?: e
+        } finally {
+            executor.shutdownNow()
+        }
+    }
+
+    /**
+     * Copy the tasks table from [source] to [target].
+     *
+     * @return A pair of the number of tasks read and written.
+     */
+    private fun convertTasks(
+        source: Trace,
+        target: Trace,
+        selection: IntArray?,
+    ): Pair<Long, Long> {
+        val reader = checkNotNull(source.getTable(TABLE_TASKS)).newReader()
+        val writer = checkNotNull(target.getTable(TABLE_TASKS)).newWriter()
+
+        var read = 0L
+        var written = 0L
+
+        try {
+            val idCol = reader.resolve(TASK_ID)
+            val nameCol = reader.resolve(TASK_NAME)
+            val submissionTimeCol = reader.resolve(TASK_SUBMISSION_TIME)
+            val durationCol = reader.resolve(TASK_DURATION)
+            val cpuCountCol = reader.resolve(TASK_CPU_COUNT)
+            val cpuCapacityCol = reader.resolve(TASK_CPU_CAPACITY)
+            val memCapacityCol = reader.resolve(TASK_MEM_CAPACITY)
+            val gpuCountCol = reader.resolve(TASK_GPU_COUNT)
+            val gpuCapacityCol = reader.resolve(TASK_GPU_CAPACITY)
+            val parentsCol = reader.resolve(TASK_PARENTS)
+            val childrenCol = reader.resolve(TASK_CHILDREN)
+            val deferrableCol = reader.resolve(TASK_DEFERRABLE)
+            val deadlineCol = reader.resolve(TASK_DEADLINE)
+
+            val shift = timeShift.toMillis()
+
+            while (reader.nextRow()) {
+                read++
+
+                val id = reader.getInt(idCol)
+                if (selection != null && selection.binarySearch(id) < 0) {
+                    continue
+                }
+
+                writer.startRow()
+                writer.setInt(TASK_ID, id)
+                reader.getString(nameCol)?.let { writer.setString(TASK_NAME, it) }
+                writer.setInstant(TASK_SUBMISSION_TIME, reader.getInstant(submissionTimeCol)!!.plusMillis(shift))
+                writer.setLong(TASK_DURATION, reader.getLong(durationCol))
+                writer.setInt(TASK_CPU_COUNT, reader.getInt(cpuCountCol))
+                writer.setDouble(TASK_CPU_CAPACITY, reader.getDouble(cpuCapacityCol))
+                writer.setDouble(TASK_MEM_CAPACITY, reader.getDouble(memCapacityCol))
+                writer.setInt(TASK_GPU_COUNT, reader.getInt(gpuCountCol))
+                writer.setDouble(TASK_GPU_CAPACITY, reader.getDouble(gpuCapacityCol))
+                writer.setIntArray(TASK_PARENTS, filterRelations(reader.getIntArray(parentsCol), selection))
+                writer.setIntArray(TASK_CHILDREN, filterRelations(reader.getIntArray(childrenCol), selection))
+                writer.setBoolean(TASK_DEFERRABLE, reader.getBoolean(deferrableCol))
+                if (!reader.isNull(deadlineCol)) {
+                    writer.setLong(TASK_DEADLINE, reader.getLong(deadlineCol) + shift)
+                }
+                writer.endRow()
+
+                written++
+            }
+        } finally {
+            reader.close()
+            writer.close()
+        }
+
+        return Pair(read, written)
+    }
+
+    /**
+     * Stream the fragments table from [source] to [target], coalescing fragments where possible.
+     *
+     * @return A pair of the number of fragments read and written.
+     */
+    private fun convertFragments(
+        source: Trace,
+        target: Trace,
+        selection: IntArray?,
+    ): Pair<Long, Long> {
+        val reader = checkNotNull(source.getTable(TABLE_FRAGMENTS)).newReader()
+        val writer = FragmentBatchWriter(checkNotNull(target.getTable(TABLE_FRAGMENTS)).newWriter(), batchSize, batchCount)
+
+        var read = 0L
+
+        try {
+            val idCol = reader.resolve(TASK_ID)
+            val durationCol = reader.resolve(FRAGMENT_DURATION)
+            val cpuUsageCol = reader.resolve(FRAGMENT_CPU_USAGE)
+            val gpuUsageCol = reader.resolve(FRAGMENT_GPU_USAGE)
+
+            var lastId = Int.MIN_VALUE
+            var isSelected = true
+
+            // The group of fragments that is currently being coalesced
+            val cpuCoalescer = UsageCoalescer(coalesceTolerance)
+            val gpuCoalescer = UsageCoalescer(coalesceTolerance)
+            var pendingId = 0
+
+            fun flush() {
+                if (!cpuCoalescer.isEmpty) {
+                    writer.append(pendingId, cpuCoalescer.duration, cpuCoalescer.usage, gpuCoalescer.usage)
+                    cpuCoalescer.reset()
+                    gpuCoalescer.reset()
+                }
+            }
+
+            while (reader.nextRow()) {
+                read++
+
+                val id = reader.getInt(idCol)
+                if (id != lastId) {
+                    lastId = id
+                    isSelected = selection == null || selection.binarySearch(id) >= 0
+                }
+
+                if (!isSelected) {
+                    continue
+                }
+
+                val duration = reader.getDuration(durationCol)!!.toMillis()
+                val cpuUsage = reader.getDouble(cpuUsageCol)
+                val gpuUsage = reader.getDouble(gpuUsageCol).let { if (it.isNaN()) 0.0 else it }
+
+                if (id != pendingId || !cpuCoalescer.fits(cpuUsage) || !gpuCoalescer.fits(gpuUsage)) {
+                    flush()
+                }
+
+                pendingId = id
+                cpuCoalescer.add(duration, cpuUsage)
+                gpuCoalescer.add(duration, gpuUsage)
+            }
+
+            flush()
+        } finally {
+            reader.close()
+            writer.close()
+        }
+
+        return Pair(read, writer.count)
+    }
+
+    /**
+     * Remove the relations from [relations] that refer to tasks that are not part of the [selection].
+     */
+    private fun filterRelations(
+        relations: IntArray?,
+        selection: IntArray?,
+    ): IntArray {
+        if (relations == null) {
+            return IntArray(0)
+        } else if (selection == null) {
+            return relations
+        }
+        return relations.filter { selection.binarySearch(it) >= 0 }.toIntArray()
+    }
+}
+
+/**
+ * A summary of a trace conversion performed by [WorkloadTraceConverter].
+ *
+ * @property tasksRead The number of tasks read from the input trace.
+ * @property tasksWritten The number of tasks written to the output trace.
+ * @property fragmentsRead The number of fragments read from the input trace.
+ * @property fragmentsWritten The number of fragments written to the output trace.
+ */
+public data class ConversionSummary(
+    val tasksRead: Long,
+    val tasksWritten: Long,
+    val fragmentsRead: Long,
+    val fragmentsWritten: Long,
+)
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.trace.tools
+
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Assertions.assertArrayEquals
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import org.opendc.trace.Trace
+import org.opendc.trace.conv.FRAGMENT_CPU_USAGE
+import org.opendc.trace.conv.FRAGMENT_DURATION
+import org.opendc.trace.conv.FRAGMENT_GPU_USAGE
+import org.opendc.trace.conv.TABLE_FRAGMENTS
+import org.opendc.trace.conv.TABLE_TASKS
+import org.opendc.trace.conv.TASK_CHILDREN
+import org.opendc.trace.conv.TASK_CPU_CAPACITY
+import org.opendc.trace.conv.TASK_CPU_COUNT
+import org.opendc.trace.conv.TASK_DURATION
+import org.opendc.trace.conv.TASK_ID
+import org.opendc.trace.conv.TASK_MEM_CAPACITY
+import org.opendc.trace.conv.TASK_PARENTS
+import org.opendc.trace.conv.TASK_SUBMISSION_TIME
+import java.io.File
+import java.nio.file.Files
+import java.nio.file.Path
+import java.time.Duration
+import java.time.Instant
+
+/**
+ * Test suite for the [WorkloadTraceConverter].
+ */
+internal class WorkloadTraceConverterTest {
+    private lateinit var input: Path
+    private lateinit var output: Path
+
+    @BeforeEach
+    fun setUp() {
+        input = Files.createTempDirectory("opendc-trace-input")
+        output = Files.createTempDirectory("opendc-trace-output")
+
+        val trace = Trace.create(input, "workload")
+
+        val tasks = checkNotNull(trace.getTable(TABLE_TASKS)).newWriter()
+        tasks.use { writer ->
+            for (id in 0 until 4) {
+                writer.startRow()
+                writer.setInt(TASK_ID, id)
+                writer.setInstant(TASK_SUBMISSION_TIME, Instant.ofEpochMilli(id * 1000L))
+                writer.setLong(TASK_DURATION, 4 * 60_000L)
+                writer.setInt(TASK_CPU_COUNT, 1)
+                writer.setDouble(TASK_CPU_CAPACITY, 1000.0)
+                writer.setDouble(TASK_MEM_CAPACITY, 1000.0)
+                writer.setIntArray(TASK_PARENTS, if (id > 0) intArrayOf(id - 1) else IntArray(0))
+                writer.setIntArray(TASK_CHILDREN, if (id < 3) intArrayOf(id + 1) else IntArray(0))
+                writer.endRow()
+            }
+        }
+
+        val fragments = checkNotNull(trace.getTable(TABLE_FRAGMENTS)).newWriter()
+        fragments.use { writer ->
+            for (id in 0 until 4) {
+                for (usage in doubleArrayOf(1000.0, 1005.0, 2000.0, 2010.0)) {
+                    writer.startRow()
+                    writer.setInt(TASK_ID, id)
+                    writer.setDuration(FRAGMENT_DURATION, Duration.ofMinutes(1))
+                    writer.setDouble(FRAGMENT_CPU_USAGE, usage)
+                    writer.setDouble(FRAGMENT_GPU_USAGE, 0.0)
+                    writer.endRow()
+                }
+            }
+        }
+    }
+
+    @AfterEach
+    fun tearDown() {
+        input.toFile().deleteRecursively()
+        output.toFile().deleteRecursively()
+    }
+
+    @Test
+    fun testIdentity() {
+        val summary = WorkloadTraceConverter().convert(input, output)
+
+        assertEquals(ConversionSummary(4, 4, 16, 16), summary)
+    }
+
+    @Test
+    fun testTimeShift() {
+        WorkloadTraceConverter(timeShift = Duration.ofHours(1)).convert(input, output)
+
+        val reader = checkNotNull(Trace.open(output, "workload").getTable(TABLE_TASKS)).newReader()
+        reader.use {
+            assertTrue(reader.nextRow())
+            assertEquals(Instant.ofEpochMilli(3_600_000L), reader.getInstant(TASK_SUBMISSION_TIME))
+            assertArrayEquals(intArrayOf(1), reader.getIntArray(TASK_CHILDREN))
+        }
+    }
+
+    @Test
+    fun testCoalescingPreservesWork() {
+        val summary = WorkloadTraceConverter(coalesceTolerance = 0.01).convert(input, output)
+        assertEquals(8, summary.fragmentsWritten)
+
+        val reader = checkNotNull(Trace.open(output, "workload").getTable(TABLE_FRAGMENTS)).newReader()
+        var work = 0.0
+        reader.use {
+            while (reader.nextRow()) {
+                work += reader.getDouble(FRAGMENT_CPU_USAGE) * reader.getDuration(FRAGMENT_DURATION)!!.toMillis()
+            }
+        }
+
+        assertEquals(4 * (1000.0 + 1005.0 + 2000.0 + 2010.0) * 60_000, work, 1e-6)
+    }
+
+    @Test
+    fun testSamplingIsDeterministic() {
+        val other = Files.createTempDirectory("opendc-trace-output")
+        try {
+            val first = WorkloadTraceConverter(sampleFraction = 0.5, seed = 42).convert(input, output)
+            val second = WorkloadTraceConverter(sampleFraction = 0.5, seed = 42).convert(input, other)
+
+            assertEquals(2, first.tasksWritten)
+            assertEquals(8, first.fragmentsWritten)
+            assertEquals(first, second)
+            assertEquals(readTaskIds(output.toFile()), readTaskIds(other.toFile()))
+        } finally {
+            other.toFile().deleteRecursively()
+        }
+    }
+
+    private fun readTaskIds(path: File): List<Int> {
+        val reader = checkNotNull(Trace.open(path, "workload").getTable(TABLE_TASKS)).newReader()
+        val ids = mutableListOf<Int>()
+        reader.use {
+            while (reader.nextRow()) {
+                ids.add(reader.getInt(TASK_ID))
+            }
+        }
+        return ids
+    }
+}
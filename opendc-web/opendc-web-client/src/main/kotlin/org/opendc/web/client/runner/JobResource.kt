@@ -26,6 +26,7 @@ import org.opendc.web.client.internal.get
 import org.opendc.web.client.internal.post
 import org.opendc.web.client.transport.TransportClient
 import org.opendc.web.proto.runner.Job
+import java.time.Duration
 
 /**
  * A resource representing the available simulation jobs for the runner.
@@ -36,6 +37,14 @@ public class JobResource internal constructor(private val client: TransportClien
      */
     public fun queryPending(): List<Job> = client.get("jobs") ?: emptyList()
 
+    /**
+     * Atomically claim up to [limit] pending jobs, waiting at most [wait] for a job if none are pending.
+     */
+    public fun claim(
+        limit: Int,
+        wait: Duration,
+    ): List<Job> = client.post("jobs/claim", Job.Claim(limit, wait.seconds.toInt())) ?: emptyList()
+
     /**
      * Obtain the job with [id].
      */
@@ -48,4 +57,12 @@ public class JobResource internal constructor(private val client: TransportClien
         id: Long,
         update: Job.Update,
     ): Job? = client.post("jobs/$id", update)
+
+    /**
+     * Append the [progress] snapshots to the running job with [id].
+     */
+    public fun progress(
+        id: Long,
+        progress: List<Job.Progress>,
+    ): Job? = client.post("jobs/$id/progress", progress)
 }
@@ -22,6 +22,8 @@
 
 package org.opendc.web.proto.runner;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import java.time.Instant;
 import java.util.Map;
 import org.eclipse.microprofile.openapi.annotations.media.Schema;
@@ -50,4 +52,32 @@ public record Job(
      */
     @Schema(name = "Runner.Job.Update")
     public record Update(JobState state, int runtime, Map<String, ?> results, Report report) {}
+
+    /**
+     * A request to atomically claim the next pending jobs.
+     *
+     * @param limit The maximum number of jobs to claim.
+     * @param wait The maximum duration (in seconds) to wait for a pending job if none is available.
+     */
+    @Schema(name = "Runner.Job.Claim")
+    public record Claim(@Min(1) @Max(100) int limit, @Min(0) @Max(60) int wait) {}
+
+    /**
+     * A snapshot of the progress of a single repeat of a running job.
+     *
+     * @param repeat The repeat of the job that the snapshot belongs to.
+     * @param simulationTime The simulated time that the repeat has reached.
+     * @param tasksTotal The number of tasks submitted so far.
+     * @param tasksCompleted The number of tasks that have finished so far.
+     * @param energyUsage The energy (in J) used by the hosts so far.
+     * @param cpuUtilization The mean CPU utilization of the hosts so far.
+     */
+    @Schema(name = "Runner.Job.Progress")
+    public record Progress(
+            @Min(0) int repeat,
+            Instant simulationTime,
+            int tasksTotal,
+            int tasksCompleted,
+            double energyUsage,
+            double cpuUtilization) {}
 }
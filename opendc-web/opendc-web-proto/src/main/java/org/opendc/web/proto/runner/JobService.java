@@ -43,6 +43,14 @@ public interface JobService {
     @GET
     List<Job> queryPending();
 
+    /**
+     * Atomically claim the next pending simulation jobs, waiting for new jobs if none are pending.
+     */
+    @POST
+    @Path("claim")
+    @Consumes("application/json")
+    List<Job> claim(@Valid Job.Claim claim);
+
     /**
      * Get a job by identifier.
      */
@@ -57,4 +65,12 @@ public interface JobService {
     @Path("{job}")
     @Consumes("application/json")
     Job update(@PathParam("job") long id, @Valid Job.Update update);
+
+    /**
+     * Append progress snapshots to a running job.
+     */
+    @POST
+    @Path("{job}/progress")
+    @Consumes("application/json")
+    Job progress(@PathParam("job") long id, @Valid List<Job.Progress> progress);
 }
@@ -31,4 +31,24 @@ import org.opendc.web.proto.JobState;
  * <p>
  * This entity is exposed in the runner-facing API via {@link Job}.
  */
-public record Job(long id, JobState state, Instant createdAt, Instant updatedAt, Map<String, ?> results) {}
+public record Job(long id, JobState state, Instant createdAt, Instant updatedAt, Map<String, ?> results) {
+    /**
+     * The partial results of a single repeat of a running job.
+     *
+     * @param repeat The repeat of the job that the snapshot belongs to.
+     * @param updatedAt The instant at which the snapshot was reported.
+     * @param simulationTime The simulated time that the repeat has reached.
+     * @param tasksTotal The number of tasks submitted so far.
+     * @param tasksCompleted The number of tasks that have finished so far.
+     * @param energyUsage The energy (in J) used by the hosts so far.
+     * @param cpuUtilization The mean CPU utilization of the hosts so far.
+     */
+    public record Progress(
+            int repeat,
+            Instant updatedAt,
+            Instant simulationTime,
+            int tasksTotal,
+            int tasksCompleted,
+            double energyUsage,
+            double cpuUtilization) {}
+}
@@ -56,7 +56,9 @@ public class OpenDCRunnerRecorder {
                 parallelism,
                 config.jobTimeout,
                 config.pollInterval,
-                config.heartbeatInterval);
+                config.heartbeatInterval,
+                config.traceCacheSize,
+                config.progressInterval);
 
         return new RuntimeValue<>(runner);
     }
@@ -67,7 +69,7 @@ public class OpenDCRunnerRecorder {
     public void startRunner(
             RuntimeValue<OpenDCRunner> runner, OpenDCRunnerRuntimeConfig config, ShutdownContext shutdownContext) {
         if (config.enable) {
-            LOGGER.info("Starting OpenDC Runner in background (polling every " + config.pollInterval + ")");
+            LOGGER.info("Starting OpenDC Runner in background (waiting up to " + config.pollInterval + " for jobs)");
 
             Thread thread = new Thread(runner.getValue());
             thread.setName("opendc-runner");
@@ -57,7 +57,7 @@ public class OpenDCRunnerRuntimeConfig {
     public Duration jobTimeout;
 
     /**
-     * The interval between successive polls to the API.
+     * The maximum duration to wait for new jobs in a single request to the API.
      */
     @ConfigItem(defaultValue = "30s")
     public Duration pollInterval;
@@ -67,4 +67,16 @@ public class OpenDCRunnerRuntimeConfig {
      */
     @ConfigItem(defaultValue = "1m")
     public Duration heartbeatInterval;
+
+    /**
+     * The maximum number of parsed traces that are shared between jobs.
+     */
+    @ConfigItem(defaultValue = "4")
+    public int traceCacheSize;
+
+    /**
+     * The interval between successive reports of the partial results of running jobs to the API.
+     */
+    @ConfigItem(defaultValue = "10s")
+    public Duration progressInterval;
 }
@@ -131,11 +131,11 @@ class RunnerCli : CliktCommand(name = "opendc-runner") {
         .default(10)
 
     /**
-     * The interval to poll the API for new jobs in seconds.
+     * The maximum duration to wait for new jobs in a single request to the API in seconds.
      */
     private val pollInterval by option(
         "--poll-interval",
-        help = "interval to poll the API for new jobs in seconds",
+        help = "maximum duration to wait for new jobs in a single request to the API in seconds",
         envvar = "OPENDC_POLL_INTERVAL",
     )
         .int()
@@ -152,6 +152,28 @@ class RunnerCli : CliktCommand(name = "opendc-runner") {
         .int()
         .default(60)
 
+    /**
+     * The maximum number of parsed traces that are shared between jobs.
+     */
+    private val traceCacheSize by option(
+        "--trace-cache-size",
+        help = "maximum number of parsed traces that are shared between jobs",
+        envvar = "OPENDC_TRACE_CACHE_SIZE",
+    )
+        .int()
+        .default(4)
+
+    /**
+     * The interval to stream the partial results of running jobs to the API server in seconds.
+     */
+    private val progressInterval by option(
+        "--progress-interval",
+        help = "interval to stream the partial results of running jobs to the API server in seconds",
+        envvar = "OPENDC_PROGRESS_INTERVAL",
+    )
+        .int()
+        .default(10)
+
     override fun run() {
         logger.info { "Starting OpenDC web runner" }
 
@@ -189,6 +211,8 @@ class RunnerCli : CliktCommand(name = "opendc-runner") {
                 jobTimeout = java.time.Duration.ofMinutes(jobTimeout.toLong()),
                 pollInterval = java.time.Duration.ofSeconds(pollInterval.toLong()),
                 heartbeatInterval = java.time.Duration.ofSeconds(heartbeatInterval.toLong()),
+                traceCacheSize = traceCacheSize,
+                progressInterval = java.time.Duration.ofSeconds(progressInterval.toLong()),
             )
 
         logger.info { "Watching for queued scenarios" }
@@ -26,6 +26,7 @@ import org.opendc.web.client.runner.OpenDCRunnerClient
 import org.opendc.web.proto.runner.Job
 import org.opendc.web.proto.runner.Report
 import org.opendc.web.runner.internal.JobManagerImpl
+import java.time.Duration
 
 /**
  * Interface used by the [OpenDCRunner] to manage the available jobs to be processed.
@@ -36,6 +37,19 @@ public interface JobManager {
      */
     public fun findNext(): Job?
 
+    /**
+     * Atomically claim up to [limit] of the next jobs that the simulator needs to process.
+     *
+     * @param limit The maximum number of jobs to claim.
+     * @param wait The maximum duration to wait for a job to become available if none are pending.
+     * @return The claimed jobs, which is empty if no job became available in time.
+     */
+    @Throws(InterruptedException::class)
+    public fun claimNext(
+        limit: Int,
+        wait: Duration,
+    ): List<Job>
+
     /**
      * Claim the simulation job with the specified id.
      */
@@ -53,6 +67,18 @@ public interface JobManager {
         runtime: Int,
     ): Boolean
 
+    /**
+     * Report the partial results of the repeats of the specified job while it is running.
+     *
+     * @param id The identifier of the job.
+     * @param progress The progress snapshots of the repeats that advanced since the last report.
+     * @return `true` if the job can continue, `false` if the job is no longer running.
+     */
+    public fun progress(
+        id: Long,
+        progress: List<Job.Progress>,
+    ): Boolean
+
     /**
      * Mark the job as failed.
      */
@@ -34,7 +34,6 @@ import org.opendc.compute.simulator.service.ComputeService
 import org.opendc.compute.topology.specs.ClusterSpec
 import org.opendc.compute.topology.specs.HostSpec
 import org.opendc.compute.topology.specs.PowerSourceSpec
-import org.opendc.compute.workload.ComputeWorkloadLoader
 import org.opendc.experiments.base.runner.replay
 import org.opendc.simulator.compute.models.CpuModel
 import org.opendc.simulator.compute.models.MachineModel
@@ -47,6 +46,7 @@ import org.opendc.web.proto.runner.Scenario
 import org.opendc.web.proto.runner.Topology
 import org.opendc.web.runner.internal.ReportCollector
 import org.opendc.web.runner.internal.WebComputeMonitor
+import org.opendc.web.runner.internal.WorkloadCache
 import java.io.File
 import java.time.Duration
 import java.time.Instant
@@ -59,6 +59,8 @@ import java.util.concurrent.ForkJoinWorkerThread
 import java.util.concurrent.RecursiveAction
 import java.util.concurrent.RecursiveTask
 import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.ScheduledFuture
+import java.util.concurrent.Semaphore
 import java.util.concurrent.TimeUnit
 
 /**
@@ -67,16 +69,20 @@ import java.util.concurrent.TimeUnit
  * @param manager The underlying [JobManager] to manage the available jobs.
  * @param tracePath The directory where the traces are located.
  * @param jobTimeout The maximum duration of a simulation job.
- * @param pollInterval The interval to poll the API with.
+ * @param pollInterval The maximum duration to wait for new jobs in a single request to the API.
  * @param heartbeatInterval The interval to send a heartbeat to the API server.
+ * @param traceCacheSize The maximum number of parsed traces that are shared between jobs.
+ * @param progressInterval The interval to stream the partial results of running jobs to the API server.
  */
 public class OpenDCRunner(
     private val manager: JobManager,
-    private val tracePath: File,
+    tracePath: File,
     parallelism: Int = Runtime.getRuntime().availableProcessors(),
     private val jobTimeout: Duration = Duration.ofMinutes(10),
     private val pollInterval: Duration = Duration.ofSeconds(30),
     private val heartbeatInterval: Duration = Duration.ofMinutes(1),
+    traceCacheSize: Int = 4,
+    private val progressInterval: Duration = Duration.ofSeconds(10),
 ) : Runnable {
     /**
      * Logging instance for this runner.
@@ -84,9 +90,9 @@ public class OpenDCRunner(
     private val logger = KotlinLogging.logger {}
 
     /**
-     * Helper class to load the workloads.
+     * The parsed traces, which are shared by all repeats of all jobs.
      */
-    private val workloadLoader = ComputeWorkloadLoader(tracePath)
+    private val workloadCache = WorkloadCache(tracePath, traceCacheSize)
 
     /**
      * The [ForkJoinPool] that is used to execute the simulation jobs.
@@ -94,6 +100,12 @@ public class OpenDCRunner(
     private val pool =
         ForkJoinPool(parallelism, RunnerThreadFactory(Thread.currentThread().contextClassLoader), null, false)
 
+    /**
+     * The window of jobs that may be claimed ahead of execution, sized to the parallelism of [pool]. A permit is held
+     * for every claimed job until it finishes.
+     */
+    private val window = Semaphore(parallelism)
+
     /**
      * A [ScheduledExecutorService] to manage the heartbeat of simulation jobs as well as tracking the deadline of
      * individual simulations.
@@ -103,32 +115,29 @@ public class OpenDCRunner(
     /**
      * Start the runner process.
      *
-     * This method will block until interrupted and poll the OpenDC API for new jobs to execute.
+     * This method will block until interrupted and claim new jobs to execute from the OpenDC API whenever the runner
+     * has capacity left. Requests for new jobs are held open by the API until a job is available, so idle runners pick
+     * up new jobs immediately.
      */
     override fun run() {
         try {
             while (true) {
-                val job = manager.findNext()
-                if (job == null) {
-                    Thread.sleep(pollInterval.toMillis())
-                    continue
-                }
-
-                val id = job.id
+                // Wait until at least one job can be executed and claim as many jobs as there is capacity for
+                window.acquire()
+                val capacity = 1 + window.drainPermits()
 
-                logger.info { "Found queued job $id: attempting to claim" }
+                val jobs = manager.claimNext(capacity, pollInterval)
+                window.release(capacity - jobs.size)
 
-                if (!manager.claim(id)) {
-                    logger.info { "Failed to claim scenario" }
-                    continue
+                for (job in jobs) {
+                    logger.info { "Claimed queued job ${job.id}" }
+                    pool.submit(JobAction(job))
                 }
-
-                pool.submit(JobAction(job))
             }
         } catch (_: InterruptedException) {
             // Gracefully exit when the thread is interrupted
         } finally {
-            workloadLoader.reset()
+            workloadCache.clear()
 
             pool.shutdown()
             scheduler.shutdown()
@@ -144,6 +153,14 @@ public class OpenDCRunner(
      */
     private inner class JobAction(private val job: Job) : RecursiveAction() {
         override fun compute() {
+            try {
+                simulate()
+            } finally {
+                window.release()
+            }
+        }
+
+        private fun simulate() {
             val id = job.id
             val scenario = job.scenario
             val startTime = Instant.now()
@@ -164,6 +181,8 @@ public class OpenDCRunner(
             val reportCollector = ReportCollector()
             reportCollector.attach()
 
+            var progress: ScheduledFuture<*>? = null
+
             try {
                 val topology = convertTopology(scenario.topology)
                 val jobs =
@@ -174,8 +193,40 @@ public class OpenDCRunner(
                             topology,
                         )
                     }
+
+                // Stream the partial results of the repeats that advanced since the previous report
+                val reported = arrayOfNulls<Job.Progress>(jobs.size)
+                progress =
+                    scheduler.scheduleWithFixedDelay(
+                        {
+                            val snapshots =
+                                jobs.mapNotNull { task ->
+                                    val snapshot = task.monitor.progress
+                                    if (snapshot != null && snapshot != reported[task.repeat]) {
+                                        reported[task.repeat] = snapshot
+                                        snapshot
+                                    } else {
+                                        null
+                                    }
+                                }
+
+                            // Cancellation is detected by the heartbeat, so a rejected report is only logged
+                            try {
+                                if (snapshots.isNotEmpty() && !manager.progress(id, snapshots)) {
+                                    logger.debug { "Progress of job $id was rejected" }
+                                }
+                            } catch (e: Exception) {
+                                logger.warn(e) { "Failed to report progress of job $id" }
+                            }
+                        },
+                        progressInterval.toMillis(),
+                        progressInterval.toMillis(),
+                        TimeUnit.MILLISECONDS,
+                    )
+
                 val results = invokeAll(jobs).map { it.rawResult }
 
+                progress.cancel(false)
                 heartbeat.cancel(true)
 
                 val duration = startTime.secondsSince()
@@ -203,6 +254,8 @@ public class OpenDCRunner(
                         "mean_cpu_demand" to results.map { it.meanCpuDemand },
                         "mean_num_deployed_images" to results.map { it.meanNumDeployedImages },
                         "max_num_deployed_images" to results.map { it.maxNumDeployedImages },
+                        "p95_cpu_usage" to results.map { it.p95CpuUsage },
+                        "p99_cpu_usage" to results.map { it.p99CpuUsage },
                         "total_power_draw" to results.map { it.totalPowerDraw },
                         "total_failure_slices" to results.map { it.totalFailureSlices },
                         "total_failure_vm_slices" to results.map { it.totalFailureVmSlices },
@@ -236,6 +289,7 @@ public class OpenDCRunner(
                 val report = reportCollector.collect(duration, waitTime, job.createdAt, job.startedAt, errorInfo)
 
                 try {
+                    progress?.cancel(false)
                     heartbeat.cancel(true)
                     manager.fail(id, duration, report)
                 } catch (e: Throwable) {
@@ -261,19 +315,22 @@ public class OpenDCRunner(
      */
     private inner class SimulationTask(
         private val scenario: Scenario,
-        private val repeat: Int,
+        val repeat: Int,
         private val topologyHosts: List<HostSpec>,
     ) : RecursiveTask<WebComputeMonitor.Results>() {
-        override fun compute(): WebComputeMonitor.Results {
-            val monitor = WebComputeMonitor()
+        /**
+         * The monitor that aggregates the metrics of the simulation, which publishes the progress of the repeat.
+         */
+        val monitor = WebComputeMonitor(repeat)
 
+        override fun compute(): WebComputeMonitor.Results {
             // Schedule task that interrupts the simulation if it runs for too long.
             val currentThread = Thread.currentThread()
             val interruptTask =
                 scheduler.schedule({ currentThread.interrupt() }, jobTimeout.toMillis(), TimeUnit.MILLISECONDS)
 
             try {
-                runSimulation(monitor)
+                runSimulation()
             } finally {
                 interruptTask.cancel(false)
             }
@@ -284,7 +341,7 @@ public class OpenDCRunner(
         /**
          * Run a single simulation of the scenario.
          */
-        private fun runSimulation(monitor: WebComputeMonitor) =
+        private fun runSimulation() =
             runSimulation {
                 val serviceDomain = "compute.opendc.org"
                 val seed = repeat.toLong()
@@ -298,12 +355,9 @@ public class OpenDCRunner(
                 val topology = listOf(ClusterSpec("cluster", topologyHosts, powerSourceSpec))
 
                 Provisioner(dispatcher, seed).use { provisioner ->
-                    // Create a trace-specific workload loader
-                    val traceId = scenario.workload.trace.id
-                    val traceSpecificPath = tracePath.resolve(traceId)
-                    val traceLoader = ComputeWorkloadLoader(traceSpecificPath)
-
-                    val vms = traceLoader.sampleByLoad(scenario.workload.samplingFraction)
+                    // The trace is parsed once and shared, so every repeat only copies the tasks it samples
+                    val trace = workloadCache.get(scenario.workload.trace.id)
+                    val vms = trace.sampleByLoad(scenario.workload.samplingFraction, seed)
                     val startTime = vms.minOf { it.submittedAt }
 
                     logger.debug { "Using scheduler: '${scenario.schedulerName}' for scenario ${scenario.id}" }
@@ -27,6 +27,7 @@ import org.opendc.web.proto.JobState
 import org.opendc.web.proto.runner.Job
 import org.opendc.web.proto.runner.Report
 import org.opendc.web.runner.JobManager
+import java.time.Duration
 
 /**
  * Default implementation of [JobManager] that uses the OpenDC client to receive jobs.
@@ -36,6 +37,13 @@ internal class JobManagerImpl(private val client: OpenDCRunnerClient) : JobManag
         return client.jobs.queryPending().firstOrNull()
     }
 
+    override fun claimNext(
+        limit: Int,
+        wait: Duration,
+    ): List<Job> {
+        return client.jobs.claim(limit.coerceIn(1, MAX_CLAIM), wait.coerceAtMost(MAX_WAIT))
+    }
+
     override fun claim(id: Long): Boolean {
         return try {
             client.jobs.update(id, Job.Update(JobState.CLAIMED, 0, null, null))
@@ -53,6 +61,18 @@ internal class JobManagerImpl(private val client: OpenDCRunnerClient) : JobManag
         return res?.state != JobState.FAILED
     }
 
+    override fun progress(
+        id: Long,
+        progress: List<Job.Progress>,
+    ): Boolean {
+        return try {
+            val res = client.jobs.progress(id, progress)
+            res?.state != JobState.FAILED
+        } catch (e: IllegalStateException) {
+            false
+        }
+    }
+
     override fun fail(
         id: Long,
         runtime: Int,
@@ -69,4 +89,16 @@ internal class JobManagerImpl(private val client: OpenDCRunnerClient) : JobManag
     ) {
         client.jobs.update(id, Job.Update(JobState.FINISHED, runtime, results, report))
     }
+
+    private companion object {
+        /**
+         * The maximum number of jobs the server allows to claim at once.
+         */
+        const val MAX_CLAIM = 100
+
+        /**
+         * The maximum duration the server allows a claim to wait for pending jobs.
+         */
+        val MAX_WAIT: Duration = Duration.ofSeconds(60)
+    }
 }
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.web.runner.internal
+
+import kotlin.math.ceil
+import kotlin.math.ln
+import kotlin.math.pow
+
+/**
+ * A fixed-size sketch for estimating the quantiles of a stream of non-negative values.
+ *
+ * Values are counted in logarithmically sized buckets, such that every estimate lies within [relativeAccuracy] of the
+ * true value. The sketch uses the same amount of memory regardless of the number of values, and recording a value
+ * takes constant time. Values below [minValue] are counted as zero and values above [maxValue] are clamped.
+ *
+ * @param relativeAccuracy The maximum relative error of the estimated quantiles.
+ * @param minValue The smallest positive value that is distinguished from zero.
+ * @param maxValue The largest value that is represented accurately.
+ */
+internal class QuantileSketch(
+    relativeAccuracy: Double = 0.01,
+    private val minValue: Double = 1e-3,
+    maxValue: Double = 1e9,
+) {
+    init {
+        require(relativeAccuracy > 0 && relativeAccuracy < 1) { "Relative accuracy must be in (0, 1)" }
+        require(minValue > 0 && maxValue > minValue) { "Invalid value range" }
+    }
+
+    private val gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy)
+    private val logGamma = ln(gamma)
+    private val offset = ceil(ln(minValue) / logGamma).toInt()
+    private val buckets = LongArray(ceil(ln(maxValue) / logGamma).toInt() - offset + 1)
+    private var zeroCount = 0L
+
+    /**
+     * The number of values recorded in the sketch.
+     */
+    var count: Long = 0L
+        private set
+
+    /**
+     * Record the specified [value] in the sketch.
+     */
+    fun add(value: Double) {
+        count++
+
+        if (value < minValue) {
+            zeroCount++
+            return
+        }
+
+        val index = ceil(ln(value) / logGamma).toInt() - offset
+        buckets[index.coerceIn(0, buckets.size - 1)]++
+    }
+
+    /**
+     * Estimate the [q]-quantile of the recorded values, or return `0.0` if the sketch is empty.
+     */
+    fun quantile(q: Double): Double {
+        require(q in 0.0..1.0) { "Quantile must be in [0, 1]" }
+
+        if (count == 0L) {
+            return 0.0
+        }
+
+        val rank = (q * (count - 1)).toLong()
+        var seen = zeroCount
+        if (rank < seen) {
+            return 0.0
+        }
+
+        for (i in buckets.indices) {
+            seen += buckets[i]
+            if (rank < seen) {
+                // The bucket covers (gamma^(k - 1), gamma^k]; return the value with the smallest relative error
+                return 2 * gamma.pow(i + offset) / (gamma + 1)
+            }
+        }
+
+        return 2 * gamma.pow(buckets.size - 1 + offset) / (gamma + 1)
+    }
+}
@@ -27,83 +27,147 @@ import org.opendc.compute.simulator.telemetry.table.host.HostTableReader
 import org.opendc.compute.simulator.telemetry.table.service.ServiceData
 import org.opendc.compute.simulator.telemetry.table.service.ServiceTableReader
 import org.opendc.compute.simulator.telemetry.table.service.toServiceData
+import org.opendc.web.proto.runner.Job
 import kotlin.math.roundToLong
 
 /**
  * A [ComputeMonitor] that tracks the aggregate metrics for each repeat.
+ *
+ * Host samples are aggregated into primitive arrays indexed by the dense identifier of each host, and the distribution
+ * of the CPU usage is tracked by a fixed-size [QuantileSketch], so recording a sample does not allocate.
+ *
+ * After every export tick, a [Job.Progress] snapshot of the running aggregates is published, which may be read by
+ * other threads via [progress] while the simulation is running.
+ *
+ * @param repeat The repeat of the job that this monitor tracks.
  */
-internal class WebComputeMonitor : ComputeMonitor {
+internal class WebComputeMonitor(private val repeat: Int = 0) : ComputeMonitor {
     override fun record(reader: HostTableReader) {
         val slices = reader.downtime / sliceLength
 
-        hostAggregateMetrics =
-            AggregateHostMetrics(
-                hostAggregateMetrics.totalActiveTime + reader.cpuActiveTime,
-                hostAggregateMetrics.totalIdleTime + reader.cpuIdleTime,
-                hostAggregateMetrics.totalStealTime + reader.cpuStealTime,
-                hostAggregateMetrics.totalLostTime + reader.cpuLostTime,
-                hostAggregateMetrics.totalPowerDraw + reader.energyUsage,
-                hostAggregateMetrics.totalFailureSlices + slices,
-                hostAggregateMetrics.totalFailureVmSlices + reader.tasksActive * slices,
-            )
+        totalActiveTime += reader.cpuActiveTime
+        totalIdleTime += reader.cpuIdleTime
+        totalStealTime += reader.cpuStealTime
+        totalLostTime += reader.cpuLostTime
+        totalPowerDraw += reader.energyUsage
+        totalFailureSlices += slices
+        totalFailureVmSlices += reader.tasksActive * slices
 
-        hostMetrics.compute(reader.hostInfo.name) { _, prev ->
-            HostMetrics(
-                reader.cpuUsage + (prev?.cpuUsage ?: 0.0),
-                reader.cpuDemand + (prev?.cpuDemand ?: 0.0),
-                reader.tasksActive + (prev?.instanceCount ?: 0),
-                1 + (prev?.count ?: 0),
-            )
-        }
+        val id = reader.hostInfo.id
+        require(id >= 0) { "Host ${reader.hostInfo.name} has no identifier" }
+        ensureCapacity(id + 1)
+
+        hostCpuUsage[id] += reader.cpuUsage
+        hostCpuDemand[id] += reader.cpuDemand
+        hostInstanceCount[id] += reader.tasksActive.toLong()
+        hostCount[id]++
+
+        cpuUsageSketch.add(reader.cpuUsage)
+
+        totalCpuUtilization += reader.cpuUtilization
+        cpuUtilizationSamples++
     }
 
-    private var hostAggregateMetrics: AggregateHostMetrics = AggregateHostMetrics()
-    private val hostMetrics: MutableMap<String, HostMetrics> = mutableMapOf()
+    private var totalActiveTime = 0L
+    private var totalIdleTime = 0L
+    private var totalStealTime = 0L
+    private var totalLostTime = 0L
+    private var totalPowerDraw = 0.0
+    private var totalFailureSlices = 0.0
+    private var totalFailureVmSlices = 0.0
+    private var totalCpuUtilization = 0.0
+    private var cpuUtilizationSamples = 0L
+
+    private var hostCpuUsage = DoubleArray(16)
+    private var hostCpuDemand = DoubleArray(16)
+    private var hostInstanceCount = LongArray(16)
+    private var hostCount = LongArray(16)
+    private val cpuUsageSketch = QuantileSketch()
     private val sliceLength: Long = 5 * 60L
 
-    private data class AggregateHostMetrics(
-        val totalActiveTime: Long = 0L,
-        val totalIdleTime: Long = 0L,
-        val totalStealTime: Long = 0L,
-        val totalLostTime: Long = 0L,
-        val totalPowerDraw: Double = 0.0,
-        val totalFailureSlices: Double = 0.0,
-        val totalFailureVmSlices: Double = 0.0,
-    )
+    /**
+     * Grow the per-host arrays to hold at least [size] hosts. This only happens when a host is first seen.
+     */
+    private fun ensureCapacity(size: Int) {
+        if (size <= hostCount.size) {
+            return
+        }
 
-    private data class HostMetrics(
-        val cpuUsage: Double,
-        val cpuDemand: Double,
-        val instanceCount: Long,
-        val count: Long,
-    )
+        val newSize = maxOf(size, hostCount.size * 2)
+        hostCpuUsage = hostCpuUsage.copyOf(newSize)
+        hostCpuDemand = hostCpuDemand.copyOf(newSize)
+        hostInstanceCount = hostInstanceCount.copyOf(newSize)
+        hostCount = hostCount.copyOf(newSize)
+    }
 
     private lateinit var serviceData: ServiceData
 
     override fun record(reader: ServiceTableReader) {
         serviceData = reader.toServiceData()
+        progress =
+            Job.Progress(
+                repeat,
+                reader.timestampAbsolute,
+                reader.tasksTotal,
+                reader.tasksTotal - reader.tasksPending - reader.tasksActive,
+                totalPowerDraw,
+                if (cpuUtilizationSamples > 0) totalCpuUtilization / cpuUtilizationSamples else 0.0,
+            )
     }
 
+    /**
+     * The latest snapshot of the progress of the simulation, or `null` if no export tick has happened yet.
+     */
+    @Volatile
+    var progress: Job.Progress? = null
+        private set
+
     /**
      * Collect the results of the simulation.
      */
     fun collectResults(): Results {
-        val hostAggregateMetrics = hostAggregateMetrics
-        val hostMetrics = hostMetrics
         val serviceData = serviceData
 
+        var hosts = 0
+        var meanCpuUsage = 0.0
+        var meanCpuDemand = 0.0
+        var meanNumDeployedImages = 0.0
+        var maxNumDeployedImages = 0.0
+
+        for (id in hostCount.indices) {
+            val count = hostCount[id]
+            if (count == 0L) {
+                continue
+            }
+
+            val deployedImages = hostInstanceCount[id].toDouble() / count
+            hosts++
+            meanCpuUsage += hostCpuUsage[id] / count
+            meanCpuDemand += hostCpuDemand[id] / count
+            meanNumDeployedImages += deployedImages
+            maxNumDeployedImages = maxOf(maxNumDeployedImages, deployedImages)
+        }
+
+        if (hosts > 0) {
+            meanCpuUsage /= hosts
+            meanCpuDemand /= hosts
+            meanNumDeployedImages /= hosts
+        }
+
         return Results(
-            hostAggregateMetrics.totalActiveTime,
-            hostAggregateMetrics.totalIdleTime,
-            hostAggregateMetrics.totalStealTime,
-            hostAggregateMetrics.totalLostTime,
-            hostMetrics.map { it.value.cpuUsage / it.value.count }.average().let { if (it.isNaN()) 0.0 else it },
-            hostMetrics.map { it.value.cpuDemand / it.value.count }.average().let { if (it.isNaN()) 0.0 else it },
-            hostMetrics.map { it.value.instanceCount.toDouble() / it.value.count }.average().let { if (it.isNaN()) 0.0 else it },
-            hostMetrics.map { it.value.instanceCount.toDouble() / it.value.count }.maxOrNull() ?: 0.0,
-            hostAggregateMetrics.totalPowerDraw,
-            hostAggregateMetrics.totalFailureSlices.roundToLong(),
-            hostAggregateMetrics.totalFailureVmSlices.roundToLong(),
+            totalActiveTime,
+            totalIdleTime,
+            totalStealTime,
+            totalLostTime,
+            meanCpuUsage,
+            meanCpuDemand,
+            meanNumDeployedImages,
+            maxNumDeployedImages,
+            cpuUsageSketch.quantile(0.95),
+            cpuUsageSketch.quantile(0.99),
+            totalPowerDraw,
+            totalFailureSlices.roundToLong(),
+            totalFailureVmSlices.roundToLong(),
             serviceData.tasksTotal,
             serviceData.tasksPending,
             serviceData.tasksTotal - serviceData.tasksPending - serviceData.tasksActive,
@@ -123,6 +187,8 @@ internal class WebComputeMonitor : ComputeMonitor {
         val meanCpuDemand: Double,
         val meanNumDeployedImages: Double,
         val maxNumDeployedImages: Double,
+        val p95CpuUsage: Double,
+        val p99CpuUsage: Double,
         val totalPowerDraw: Double,
         val totalFailureSlices: Long,
         val totalFailureVmSlices: Long,
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.web.runner.internal
+
+import org.opendc.compute.workload.CachedWorkload
+import org.opendc.compute.workload.ComputeWorkloadLoader
+import java.io.File
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.FutureTask
+
+/**
+ * A size-bounded cache of the parsed workload traces that is shared by all jobs of a runner.
+ *
+ * Every trace is parsed at most once while it is cached, even if multiple simulations request it concurrently. When
+ * the cache is full, the least recently used trace is evicted. A trace is keyed on its identifier together with the
+ * last modification time of its files, such that a trace that is replaced on disk is parsed again.
+ *
+ * @param tracePath The directory where the traces are located.
+ * @param maxSize The maximum number of traces to keep in memory.
+ */
+internal class WorkloadCache(private val tracePath: File, private val maxSize: Int) {
+    /**
+     * A cached trace, as a future so that concurrent requests for a trace wait for a single parse.
+     */
+    private class Entry(val lastModified: Long, val future: FutureTask<CachedWorkload>)
+
+    /**
+     * The cached traces in access order.
+     */
+    private val entries =
+        object : LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            override fun removeEldestEntry(eldest: MutableMap.MutableEntry<String, Entry>): Boolean {
+                return size > maxSize
+            }
+        }
+
+    init {
+        require(maxSize > 0) { "The workload cache should hold at least one trace" }
+    }
+
+    /**
+     * Obtain the trace with the specified [id], parsing it if it is not cached or changed on disk since it was parsed.
+     */
+    fun get(id: String): CachedWorkload {
+        val path = tracePath.resolve(id)
+        val lastModified = lastModified(path)
+
+        var created = false
+        val entry =
+            synchronized(entries) {
+                val cached = entries[id]
+                if (cached != null && cached.lastModified == lastModified) {
+                    cached
+                } else {
+                    created = true
+                    Entry(lastModified, FutureTask { ComputeWorkloadLoader(path).loadCached() }).also { entries[id] = it }
+                }
+            }
+
+        if (created) {
+            entry.future.run()
+        }
+
+        return try {
+            entry.future.get()
+        } catch (e: ExecutionException) {
+            // Do not cache failures, so that the trace is parsed again on the next request
+            synchronized(entries) { entries.remove(id, entry) }
+            throw e.cause ?: e
+        }
+    }
+
+    /**
+     * Remove all traces from the cache.
+     */
+    fun clear() {
+        synchronized(entries) { entries.clear() }
+    }
+
+    /**
+     * Return the latest modification time of the trace at [path] and the files it contains.
+     */
+    private fun lastModified(path: File): Long {
+        return path.walk().maxOfOrNull { it.lastModified() } ?: 0L
+    }
+}
@@ -36,6 +36,8 @@ import org.opendc.web.client.runner.OpenDCRunnerClient
 import org.opendc.web.proto.JobState
 import org.opendc.web.proto.runner.Job
 import org.opendc.web.proto.runner.Report
+import java.time.Duration
+import java.time.Instant
 
 /**
  * Test suite for [JobManagerImpl].
@@ -78,6 +80,22 @@ class JobManagerImplTest {
         assertEquals(job, result)
     }
 
+    @Test
+    fun testClaimNext() {
+        val jobs = listOf(makeJob(1L, JobState.CLAIMED), makeJob(2L, JobState.CLAIMED))
+        every { jobResource.claim(4, Duration.ofSeconds(30)) } returns jobs
+
+        assertEquals(jobs, manager.claimNext(4, Duration.ofSeconds(30)))
+    }
+
+    @Test
+    fun testClaimNextLimitsWait() {
+        every { jobResource.claim(1, Duration.ofSeconds(60)) } returns emptyList()
+
+        assertTrue(manager.claimNext(1, Duration.ofMinutes(5)).isEmpty())
+        verify { jobResource.claim(1, Duration.ofSeconds(60)) }
+    }
+
     @Test
     fun testClaimSuccess() {
         every { jobResource.update(1L, Job.Update(JobState.CLAIMED, 0, null, null)) } returns makeJob(1L, JobState.CLAIMED)
@@ -116,6 +134,23 @@ class JobManagerImplTest {
         assertTrue(manager.heartbeat(1L, 30))
     }
 
+    @Test
+    fun testProgress() {
+        val progress = listOf(Job.Progress(0, Instant.EPOCH, 10, 4, 1000.0, 0.5))
+        every { jobResource.progress(1L, progress) } returns makeJob(1L, JobState.RUNNING)
+
+        assertTrue(manager.progress(1L, progress))
+        verify { jobResource.progress(1L, progress) }
+    }
+
+    @Test
+    fun testProgressReturnsFalseOnConflict() {
+        val progress = listOf(Job.Progress(0, Instant.EPOCH, 10, 4, 1000.0, 0.5))
+        every { jobResource.progress(1L, progress) } throws IllegalStateException("Invalid response 409")
+
+        assertFalse(manager.progress(1L, progress))
+    }
+
     @Test
     fun testFail() {
         val report =
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.web.runner.internal
+
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Test
+
+/**
+ * Test suite for [QuantileSketch].
+ */
+class QuantileSketchTest {
+    @Test
+    fun testEmpty() {
+        val sketch = QuantileSketch()
+
+        assertEquals(0L, sketch.count)
+        assertEquals(0.0, sketch.quantile(0.5))
+    }
+
+    @Test
+    fun testRelativeAccuracy() {
+        val sketch = QuantileSketch(relativeAccuracy = 0.01)
+        for (i in 1..10_000) {
+            sketch.add(i.toDouble())
+        }
+
+        assertEquals(10_000L, sketch.count)
+        assertEquals(5000.0, sketch.quantile(0.5), 5000.0 * 0.01)
+        assertEquals(9500.0, sketch.quantile(0.95), 9500.0 * 0.01)
+        assertEquals(9900.0, sketch.quantile(0.99), 9900.0 * 0.01)
+    }
+
+    @Test
+    fun testZeroValues() {
+        val sketch = QuantileSketch()
+        repeat(90) { sketch.add(0.0) }
+        repeat(10) { sketch.add(100.0) }
+
+        assertEquals(0.0, sketch.quantile(0.5))
+        assertEquals(100.0, sketch.quantile(0.99), 1.0)
+    }
+
+    @Test
+    fun testClampsLargeValues() {
+        val sketch = QuantileSketch(maxValue = 1000.0)
+        sketch.add(1e6)
+
+        assertEquals(1000.0, sketch.quantile(1.0), 1000.0 * 0.01)
+    }
+}
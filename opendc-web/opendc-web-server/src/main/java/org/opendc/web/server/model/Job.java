@@ -27,6 +27,7 @@ import io.quarkus.hibernate.orm.panache.Panache;
 import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
 import io.quarkus.hibernate.orm.panache.PanacheQuery;
 import jakarta.persistence.*;
+import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -35,9 +36,13 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.ForeignKey;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import org.hibernate.LockOptions;
 import org.hibernate.annotations.Type;
 import org.opendc.web.proto.JobState;
 
@@ -48,11 +53,11 @@ import org.opendc.web.proto.JobState;
 @Table
 public class Job extends PanacheEntityBase {
     /**
-     * The main ID of a project.
-     * The value starts at 6 to account for the other 5 projects already made by the loading script.
+     * The main ID of a job.
+     * The value starts at 8 to account for the other 7 jobs already made by the loading script.
      */
     @Id
-    @SequenceGenerator(name = "jobSeq", sequenceName = "job_id_seq", allocationSize = 1, initialValue = 3)
+    @SequenceGenerator(name = "jobSeq", sequenceName = "job_id_seq", allocationSize = 1, initialValue = 8)
     @GeneratedValue(generator = "jobSeq")
     public Long id;
 
@@ -111,6 +116,15 @@ public class Job extends PanacheEntityBase {
     @Type(JsonType.class)
     public Map<String, Object> report = null;
 
+    /**
+     * The progress snapshots reported by the runner while the job is running.
+     */
+    @OneToMany(
+            cascade = {CascadeType.ALL},
+            mappedBy = "job",
+            orphanRemoval = true)
+    public List<JobProgress> progress = new ArrayList<>();
+
     /**
      * Construct a {@link Job} instance.
      */
@@ -137,6 +151,21 @@ public class Job extends PanacheEntityBase {
         return find("state", state);
     }
 
+    /**
+     * Lock the oldest pending {@link Job}s for update. Jobs that are locked by concurrent transactions are skipped
+     * instead of waited for, such that concurrent runners never block on or claim the same job.
+     *
+     * @param limit The maximum number of jobs to lock.
+     * @return The pending jobs that are locked by the current transaction.
+     */
+    public static List<Job> lockPending(int limit) {
+        return find("state = ?1 order by createdAt, id", JobState.PENDING)
+                .withLock(LockModeType.PESSIMISTIC_WRITE)
+                .withHint("jakarta.persistence.lock.timeout", LockOptions.SKIP_LOCKED)
+                .page(0, limit)
+                .list();
+    }
+
     /**
      * Atomically update this job.
      *
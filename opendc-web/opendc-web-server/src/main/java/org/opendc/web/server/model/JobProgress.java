@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.web.server.model;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
+import io.quarkus.hibernate.orm.panache.PanacheQuery;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.time.Instant;
+
+/**
+ * A snapshot of the progress of a single repeat of a {@link Job}, as reported by a runner while the job is running.
+ * Snapshots are only ever appended, such that the history of a job can be inspected while it is still running.
+ */
+@Entity
+@Table(name = "job_progress", indexes = {@Index(name = "ix_job_progress_job", columnList = "job_id, id")})
+public class JobProgress extends PanacheEntityBase {
+    /**
+     * The main ID of a progress snapshot.
+     *
+     * The value starts at 4 to account for the other 3 snapshots already made by the loading script.
+     */
+    @Id
+    @SequenceGenerator(
+            name = "jobProgressSeq",
+            sequenceName = "job_progress_id_seq",
+            allocationSize = 50,
+            initialValue = 4)
+    @GeneratedValue(generator = "jobProgressSeq")
+    public Long id;
+
+    /**
+     * The {@link Job} to which this snapshot belongs.
+     */
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    @JoinColumn(name = "job_id", foreignKey = @ForeignKey(name = "fk_job_progress_job"), nullable = false)
+    public Job job;
+
+    /**
+     * The instant at which the snapshot was received.
+     */
+    @Column(name = "created_at", nullable = false, updatable = false)
+    public Instant createdAt;
+
+    /**
+     * The repeat of the job that the snapshot belongs to.
+     */
+    @Column(name = "repeat_index", nullable = false, updatable = false)
+    public int repeat;
+
+    /**
+     * The simulated time that the repeat has reached.
+     */
+    @Column(name = "simulation_time", updatable = false)
+    public Instant simulationTime;
+
+    /**
+     * The number of tasks submitted so far.
+     */
+    @Column(name = "tasks_total", nullable = false, updatable = false)
+    public int tasksTotal;
+
+    /**
+     * The number of tasks that have finished so far.
+     */
+    @Column(name = "tasks_completed", nullable = false, updatable = false)
+    public int tasksCompleted;
+
+    /**
+     * The energy (in J) used by the hosts so far.
+     */
+    @Column(name = "energy_usage", nullable = false, updatable = false)
+    public double energyUsage;
+
+    /**
+     * The mean CPU utilization of the hosts so far.
+     */
+    @Column(name = "cpu_utilization", nullable = false, updatable = false)
+    public double cpuUtilization;
+
+    /**
+     * Construct a {@link JobProgress} instance.
+     */
+    public JobProgress(
+            Job job,
+            Instant createdAt,
+            int repeat,
+            Instant simulationTime,
+            int tasksTotal,
+            int tasksCompleted,
+            double energyUsage,
+            double cpuUtilization) {
+        this.job = job;
+        this.createdAt = createdAt;
+        this.repeat = repeat;
+        this.simulationTime = simulationTime;
+        this.tasksTotal = tasksTotal;
+        this.tasksCompleted = tasksCompleted;
+        this.energyUsage = energyUsage;
+        this.cpuUtilization = cpuUtilization;
+    }
+
+    /**
+     * JPA constructor
+     */
+    protected JobProgress() {}
+
+    /**
+     * Find all progress snapshots of the specified job in the order in which they were received.
+     *
+     * @param jobId The unique identifier of the job.
+     * @return A query for the progress snapshots of the job.
+     */
+    public static PanacheQuery<JobProgress> findByJob(long jobId) {
+        return find("job.id = ?1 order by id", jobId);
+    }
+
+    /**
+     * Find the most recent progress snapshot of every repeat of the specified job.
+     *
+     * @param jobId The unique identifier of the job.
+     * @return A query for the latest progress snapshots of the job, ordered by repeat.
+     */
+    public static PanacheQuery<JobProgress> findLatestByJob(long jobId) {
+        return find(
+                """
+                FROM JobProgress j
+                WHERE j.job.id = ?1
+                AND j.id = (SELECT max(p.id) FROM JobProgress p WHERE p.job.id = ?1 AND p.repeat = j.repeat)
+                ORDER BY j.repeat
+                """,
+                jobId);
+    }
+}
@@ -76,10 +76,10 @@ import org.opendc.web.proto.OperationalPhenomena;
 public class Scenario extends PanacheEntityBase {
     /**
      * The main ID of a Scenario.
-     * The value starts at 3 to account for the other 2 scenarios already made by the loading script.
+     * The value starts at 5 to account for the other 4 scenarios already made by the loading script.
      */
     @Id
-    @SequenceGenerator(name = "scenarioSeq", sequenceName = "scenario_id_seq", allocationSize = 1, initialValue = 3)
+    @SequenceGenerator(name = "scenarioSeq", sequenceName = "scenario_id_seq", allocationSize = 1, initialValue = 5)
     @GeneratedValue(generator = "scenarioSeq")
     public Long id;
 
@@ -23,6 +23,7 @@
 package org.opendc.web.server.rest.runner;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.quarkus.narayana.jta.QuarkusTransaction;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
@@ -33,11 +34,13 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.WebApplicationException;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import org.opendc.web.proto.JobState;
 import org.opendc.web.server.model.Job;
 import org.opendc.web.server.service.JobService;
+import org.opendc.web.server.service.PendingJobNotifier;
 
 /**
  * A resource representing the available simulation jobs.
@@ -51,16 +54,23 @@ public final class JobResource {
      */
     private final JobService jobService;
 
+    /**
+     * The {@link PendingJobNotifier} for waiting on new pending jobs.
+     */
+    private final PendingJobNotifier notifier;
+
     private final ObjectMapper objectMapper;
 
     /**
      * Construct a {@link JobResource} instance.
      *
      * @param jobService The {@link JobService} for managing the job lifecycle.
+     * @param notifier The {@link PendingJobNotifier} for waiting on new pending jobs.
      * @param objectMapper The {@link ObjectMapper} for JSON conversions.
      */
-    public JobResource(JobService jobService, ObjectMapper objectMapper) {
+    public JobResource(JobService jobService, PendingJobNotifier notifier, ObjectMapper objectMapper) {
         this.jobService = jobService;
+        this.notifier = notifier;
         this.objectMapper = objectMapper;
     }
 
@@ -74,6 +84,29 @@ public final class JobResource {
                 .toList();
     }
 
+    /**
+     * Atomically claim the next pending simulation jobs.
+     *
+     * <p>Concurrent runners skip the jobs that are being claimed by others instead of racing for them. If no job is
+     * pending, the request is held open until a job is submitted or the requested wait time expires, in which case an
+     * empty list is returned.
+     */
+    @POST
+    @Path("claim")
+    @Consumes("application/json")
+    public List<org.opendc.web.proto.runner.Job> claim(@Valid org.opendc.web.proto.runner.Job.Claim claim) {
+        try {
+            return notifier.awaitPending(
+                    () -> QuarkusTransaction.requiringNew().call(() -> jobService.claimJobs(claim.limit()).stream()
+                            .map(RunnerProtocol::toDto)
+                            .toList()),
+                    Duration.ofSeconds(claim.wait()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return List.of();
+        }
+    }
+
     /**
      * Get a job by identifier.
      */
@@ -117,6 +150,34 @@ public final class JobResource {
         return RunnerProtocol.toDto(job);
     }
 
+    /**
+     * Append the progress snapshots streamed by the runner to a running job.
+     *
+     * <p>Runners report partial aggregates in batches while the job is running, which are persisted immediately so
+     * that users can follow the job before it finishes.
+     */
+    @POST
+    @Path("{job}/progress")
+    @Consumes("application/json")
+    @Transactional
+    public org.opendc.web.proto.runner.Job progress(
+            @PathParam("job") long id, @Valid List<org.opendc.web.proto.runner.Job.Progress> progress) {
+        Job job = Job.findById(id);
+        if (job == null) {
+            throw new WebApplicationException("Job not found", 404);
+        }
+
+        try {
+            jobService.recordProgress(job, progress);
+        } catch (IllegalArgumentException e) {
+            throw new WebApplicationException(e, 400);
+        } catch (IllegalStateException e) {
+            throw new WebApplicationException(e, 409);
+        }
+
+        return RunnerProtocol.toDto(job);
+    }
+
     /**
      * Get the report for a job.
      */
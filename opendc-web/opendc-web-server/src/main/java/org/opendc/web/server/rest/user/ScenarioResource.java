@@ -31,7 +31,10 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.WebApplicationException;
+import java.util.Comparator;
 import java.util.List;
+import org.opendc.web.server.model.Job;
+import org.opendc.web.server.model.JobProgress;
 import org.opendc.web.server.model.ProjectAuthorization;
 import org.opendc.web.server.model.Scenario;
 
@@ -98,6 +101,35 @@ public final class ScenarioResource {
         return UserProtocol.toDto(scenario, auth);
     }
 
+    /**
+     * Obtain the latest progress of each repeat of the most recent job of a scenario.
+     */
+    @GET
+    @Path("{scenario}/progress")
+    public List<org.opendc.web.proto.user.Job.Progress> getProgress(
+            @PathParam("project") long projectId, @PathParam("scenario") int number) {
+        // User must have access to project
+        ProjectAuthorization auth =
+                ProjectAuthorization.findByUser(identity.getPrincipal().getName(), projectId);
+
+        if (auth == null) {
+            throw new WebApplicationException("Project not found", 404);
+        }
+
+        Scenario scenario = Scenario.findByProject(projectId, number);
+
+        if (scenario == null) {
+            throw new WebApplicationException("Scenario not found", 404);
+        }
+
+        return scenario.jobs.stream()
+                .max(Comparator.comparing((Job job) -> job.id))
+                .map((job) -> JobProgress.findLatestByJob(job.id).list().stream()
+                        .map(UserProtocol::toDto)
+                        .toList())
+                .orElse(List.of());
+    }
+
     /**
      * Delete a scenario.
      */
@@ -23,6 +23,7 @@
 package org.opendc.web.server.rest.user;
 
 import org.opendc.web.server.model.Job;
+import org.opendc.web.server.model.JobProgress;
 import org.opendc.web.server.model.Portfolio;
 import org.opendc.web.server.model.Project;
 import org.opendc.web.server.model.ProjectAuthorization;
@@ -144,4 +145,18 @@ public final class UserProtocol {
     public static org.opendc.web.proto.user.Job toDto(Job job) {
         return new org.opendc.web.proto.user.Job(job.id, job.state, job.createdAt, job.updatedAt, job.results);
     }
+
+    /**
+     * Convert a {@link JobProgress} entity into a {@link org.opendc.web.proto.user.Job.Progress} DTO.
+     */
+    public static org.opendc.web.proto.user.Job.Progress toDto(JobProgress progress) {
+        return new org.opendc.web.proto.user.Job.Progress(
+                progress.repeat,
+                progress.createdAt,
+                progress.simulationTime,
+                progress.tasksTotal,
+                progress.tasksCompleted,
+                progress.energyUsage,
+                progress.cpuUtilization);
+    }
 }
@@ -24,9 +24,13 @@ package org.opendc.web.server.service;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import org.jboss.logging.Logger;
 import org.opendc.web.proto.JobState;
 import org.opendc.web.server.model.Job;
+import org.opendc.web.server.model.JobProgress;
 
 /**
  * A service for managing the lifecycle of a job and ensuring that the user does not consume
@@ -34,6 +38,8 @@ import org.opendc.web.server.model.Job;
  */
 @ApplicationScoped
 public final class JobService {
+    private static final Logger LOGGER = Logger.getLogger(JobService.class.getName());
+
     /**
      * The {@link UserAccountingService} responsible for accounting the simulation time of users.
      */
@@ -48,6 +54,29 @@ public final class JobService {
         this.accountingService = accountingService;
     }
 
+    /**
+     * Atomically claim the oldest pending jobs. This method must be called within a transaction, which holds the locks
+     * on the claimed jobs until it commits.
+     *
+     * @param limit The maximum number of jobs to claim.
+     * @return The jobs that have been claimed.
+     */
+    public List<Job> claimJobs(int limit) {
+        List<Job> claimed = new ArrayList<>();
+
+        for (Job job : Job.lockPending(limit)) {
+            try {
+                updateJob(job, JobState.CLAIMED, 0, null, null);
+                claimed.add(job);
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                // The job cannot be claimed; leave it pending for the next claim instead of failing the whole batch
+                LOGGER.warnf(e, "Skipping job %d while claiming pending jobs", job.id);
+            }
+        }
+
+        return claimed;
+    }
+
     /**
      * Update the job state.
      *
@@ -85,4 +114,35 @@ public final class JobService {
             throw new IllegalStateException("Conflicting update");
         }
     }
+
+    /**
+     * Append the progress snapshots reported by a runner to the job.
+     *
+     * @param job The {@link Job} to which the progress belongs.
+     * @param progress The progress snapshots to append.
+     * @throws IllegalArgumentException if a snapshot refers to a repeat that the job does not have.
+     * @throws IllegalStateException if the job is not running.
+     */
+    public void recordProgress(Job job, List<org.opendc.web.proto.runner.Job.Progress> progress) {
+        if (job.state != JobState.CLAIMED && job.state != JobState.RUNNING) {
+            throw new IllegalStateException("Job is %s".formatted(job.state));
+        }
+
+        Instant now = Instant.now();
+        for (var p : progress) {
+            if (p.repeat() >= job.repeats) {
+                throw new IllegalArgumentException("Invalid repeat %d".formatted(p.repeat()));
+            }
+
+            job.progress.add(new JobProgress(
+                    job,
+                    now,
+                    p.repeat(),
+                    p.simulationTime(),
+                    p.tasksTotal(),
+                    p.tasksCompleted(),
+                    p.energyUsage(),
+                    p.cpuUtilization()));
+        }
+    }
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.web.server.service;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * A service for waking up runners that are waiting for pending jobs, so that idle runners do not have to poll the
+ * server for new jobs.
+ */
+@ApplicationScoped
+public class PendingJobNotifier {
+    /**
+     * The {@link TransactionSynchronizationRegistry} used to defer notifications until the transaction commits.
+     */
+    private final TransactionSynchronizationRegistry registry;
+
+    /**
+     * A counter that is incremented whenever new jobs become pending.
+     */
+    private long generation;
+
+    /**
+     * Construct a {@link PendingJobNotifier} instance.
+     *
+     * @param registry The {@link TransactionSynchronizationRegistry} of the current transaction manager.
+     */
+    public PendingJobNotifier(TransactionSynchronizationRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Repeatedly perform <code>attempt</code> until it returns a non-empty list, waiting for new pending jobs between
+     * the attempts, or until the timeout expires.
+     *
+     * @param attempt The attempt to obtain pending jobs, for instance by claiming them.
+     * @param timeout The maximum duration to wait.
+     * @return The result of the last attempt, which is empty if the timeout expired.
+     * @throws InterruptedException if the thread was interrupted while waiting.
+     */
+    public <T> List<T> awaitPending(Supplier<List<T>> attempt, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+
+        while (true) {
+            long generation = generation();
+            List<T> result = attempt.get();
+
+            long remaining = deadline - System.nanoTime();
+            if (!result.isEmpty() || remaining <= 0) {
+                return result;
+            }
+
+            await(generation, Duration.ofNanos(remaining));
+        }
+    }
+
+    /**
+     * Notify the waiting runners that new jobs are pending. If a transaction is active, the runners are only notified
+     * after it commits, such that the jobs are visible to them.
+     */
+    public void notifyPending() {
+        if (registry.getTransactionKey() == null) {
+            signal();
+            return;
+        }
+
+        registry.registerInterposedSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {}
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == Status.STATUS_COMMITTED) {
+                    signal();
+                }
+            }
+        });
+    }
+
+    private synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * Wait until new jobs become pending after the specified generation, or until the timeout expires.
+     */
+    private synchronized boolean await(long generation, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+
+        while (this.generation == generation) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+
+            long millis = Math.max(1, remaining / 1_000_000);
+            wait(millis);
+        }
+
+        return true;
+    }
+
+    private synchronized void signal() {
+        generation++;
+        notifyAll();
+    }
+}
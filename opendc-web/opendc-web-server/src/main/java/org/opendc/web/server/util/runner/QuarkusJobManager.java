@@ -23,8 +23,11 @@
 package org.opendc.web.server.util.runner;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.quarkus.narayana.jta.QuarkusTransaction;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.transaction.Transactional;
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -34,6 +37,7 @@ import org.opendc.web.runner.JobManager;
 import org.opendc.web.server.model.Job;
 import org.opendc.web.server.rest.runner.RunnerProtocol;
 import org.opendc.web.server.service.JobService;
+import org.opendc.web.server.service.PendingJobNotifier;
 
 /**
  * Implementation of {@link JobManager} that interfaces directly with the database without overhead of the REST API.
@@ -45,16 +49,23 @@ public class QuarkusJobManager implements JobManager {
      */
     private final JobService jobService;
 
+    /**
+     * The {@link PendingJobNotifier} used to wait for new pending jobs.
+     */
+    private final PendingJobNotifier notifier;
+
     private final ObjectMapper objectMapper;
 
     /**
      * Construct a {@link QuarkusJobManager}.
      *
      * @param jobService The {@link JobService} for managing the job's lifecycle.
+     * @param notifier The {@link PendingJobNotifier} for waiting on new pending jobs.
      * @param objectMapper The {@link ObjectMapper} for JSON conversions.
      */
-    public QuarkusJobManager(JobService jobService, ObjectMapper objectMapper) {
+    public QuarkusJobManager(JobService jobService, PendingJobNotifier notifier, ObjectMapper objectMapper) {
         this.jobService = jobService;
+        this.notifier = notifier;
         this.objectMapper = objectMapper;
     }
 
@@ -70,6 +81,17 @@ public class QuarkusJobManager implements JobManager {
         return RunnerProtocol.toDto(job);
     }
 
+    @NotNull
+    @Override
+    public List<org.opendc.web.proto.runner.Job> claimNext(int limit, @NotNull Duration wait)
+            throws InterruptedException {
+        return notifier.awaitPending(
+                () -> QuarkusTransaction.requiringNew().call(() -> jobService.claimJobs(limit).stream()
+                        .map(RunnerProtocol::toDto)
+                        .toList()),
+                wait);
+    }
+
     @Transactional
     @Override
     public boolean claim(long id) {
@@ -82,6 +104,23 @@ public class QuarkusJobManager implements JobManager {
         return updateState(id, JobState.RUNNING, runtime, null, null);
     }
 
+    @Transactional
+    @Override
+    public boolean progress(long id, @NotNull List<org.opendc.web.proto.runner.Job.Progress> progress) {
+        Job job = Job.findById(id);
+
+        if (job == null) {
+            return false;
+        }
+
+        try {
+            jobService.recordProgress(job, progress);
+            return true;
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return false;
+        }
+    }
+
     @Transactional
     @Override
     public void fail(long id, int runtime, @Nullable Report report) {
@@ -0,0 +1,15 @@
+-- Add table to store the partial results that runners stream while a job is running
+CREATE SEQUENCE IF NOT EXISTS job_progress_id_seq START WITH 4 INCREMENT BY 50;
+CREATE TABLE IF NOT EXISTS job_progress (
+    id BIGINT NOT NULL PRIMARY KEY,
+    job_id BIGINT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    repeat_index INTEGER NOT NULL,
+    simulation_time TIMESTAMP,
+    tasks_total INTEGER NOT NULL,
+    tasks_completed INTEGER NOT NULL,
+    energy_usage DOUBLE PRECISION NOT NULL,
+    cpu_utilization DOUBLE PRECISION NOT NULL,
+    CONSTRAINT fk_job_progress_job FOREIGN KEY (job_id) REFERENCES job (id)
+);
+CREATE INDEX IF NOT EXISTS ix_job_progress_job ON job_progress (job_id, id);
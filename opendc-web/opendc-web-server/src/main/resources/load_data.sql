@@ -108,9 +108,15 @@ VALUES ('Test Scenario testDelete', 1, '{"failures": false, "interference": fals
 INSERT INTO scenarios (name, number, phenomena, portfolio_id, project_id, scheduler_name, topology_id, sampling_fraction, trace_id, id)
 VALUES ('Test Scenario testDeleteUsed', 2, '{"failures": false, "interference": false}' FORMAT JSON, 1, 1, 'Random', 4, 1.0, 'bitbrains-small', 2);
 
+INSERT INTO scenarios (name, number, phenomena, portfolio_id, project_id, scheduler_name, topology_id, sampling_fraction, trace_id, id)
+VALUES ('Test Scenario testJobs', 3, '{"failures": false, "interference": false}' FORMAT JSON, 1, 1, 'Mem', 1, 1.0, 'bitbrains-small', 3);
+
+INSERT INTO scenarios (name, number, phenomena, portfolio_id, project_id, scheduler_name, topology_id, sampling_fraction, trace_id, id)
+VALUES ('Test Scenario testProgress', 4, '{"failures": false, "interference": false}' FORMAT JSON, 1, 1, 'Mem', 1, 1.0, 'bitbrains-small', 4);
+
 
 UPDATE projects p
-SET p.scenarios_created = 2, p.updated_at = '2024-03-01T15:31:41.579969Z'
+SET p.scenarios_created = 4, p.updated_at = '2024-03-01T15:31:41.579969Z'
 WHERE p.id = 1;
 
 -- --------------------------------------------------------------------------------
@@ -122,3 +128,37 @@ VALUES (1, 'test_user_1', '2024-03-01T15:31:41.579969Z', 1, '2024-03-01T15:31:41
 
 INSERT INTO job (scenario_id, created_by, created_at, repeats, updated_at, state, runtime, results, report, started_at, id)
 VALUES (1, 'test_user_1', '2024-03-01T15:31:41.579969Z', 1, '2024-03-01T15:31:41.579969Z', 'PENDING', 1, '{}' FORMAT JSON, NULL, NULL, 2);
+
+-- Pending jobs that are older than the jobs above, such that they are claimed first by testClaim
+
+INSERT INTO job (scenario_id, created_by, created_at, repeats, updated_at, state, runtime, results, report, started_at, id)
+VALUES (3, 'test_user_1', '2024-02-29T15:31:41.579969Z', 1, '2024-02-29T15:31:41.579969Z', 'PENDING', 1, '{}' FORMAT JSON, NULL, NULL, 3);
+
+INSERT INTO job (scenario_id, created_by, created_at, repeats, updated_at, state, runtime, results, report, started_at, id)
+VALUES (3, 'test_user_1', '2024-02-29T15:31:41.579969Z', 1, '2024-02-29T15:31:41.579969Z', 'PENDING', 1, '{}' FORMAT JSON, NULL, NULL, 4);
+
+-- Running and finished jobs to which runners report progress
+
+INSERT INTO job (scenario_id, created_by, created_at, repeats, updated_at, state, runtime, results, report, started_at, id)
+VALUES (3, 'test_user_1', '2024-03-01T15:31:41.579969Z', 2, '2024-03-01T15:31:41.579969Z', 'RUNNING', 1, '{}' FORMAT JSON, NULL, '2024-03-01T15:31:41.579969Z', 5);
+
+INSERT INTO job (scenario_id, created_by, created_at, repeats, updated_at, state, runtime, results, report, started_at, id)
+VALUES (3, 'test_user_1', '2024-03-01T15:31:41.579969Z', 1, '2024-03-01T15:31:41.579969Z', 'FINISHED', 1, '{}' FORMAT JSON, NULL, '2024-03-01T15:31:41.579969Z', 6);
+
+INSERT INTO job (scenario_id, created_by, created_at, repeats, updated_at, state, runtime, results, report, started_at, id)
+VALUES (4, 'test_user_1', '2024-03-01T15:31:41.579969Z', 2, '2024-03-01T15:31:41.579969Z', 'RUNNING', 1, '{}' FORMAT JSON, NULL, '2024-03-01T15:31:41.579969Z', 7);
+
+-- --------------------------------------------------------------------------------
+--  Job progress
+-- --------------------------------------------------------------------------------
+
+-- Repeat 0 of job 7 reports twice, such that only the second snapshot is the latest
+
+INSERT INTO job_progress (job_id, created_at, repeat_index, simulation_time, tasks_total, tasks_completed, energy_usage, cpu_utilization, id)
+VALUES (7, '2024-03-01T15:32:41.579969Z', 0, '2024-03-01T00:00:00Z', 10, 1, 100.0, 0.5, 1);
+
+INSERT INTO job_progress (job_id, created_at, repeat_index, simulation_time, tasks_total, tasks_completed, energy_usage, cpu_utilization, id)
+VALUES (7, '2024-03-01T15:32:41.579969Z', 1, '2024-03-01T00:00:00Z', 10, 2, 200.0, 0.5, 2);
+
+INSERT INTO job_progress (job_id, created_at, repeat_index, simulation_time, tasks_total, tasks_completed, energy_usage, cpu_utilization, id)
+VALUES (7, '2024-03-01T15:33:41.579969Z', 0, '2024-03-02T00:00:00Z', 10, 3, 300.0, 0.5, 3);
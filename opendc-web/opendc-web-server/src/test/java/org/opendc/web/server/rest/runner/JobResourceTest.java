@@ -24,13 +24,20 @@ package org.opendc.web.server.rest.runner;
 
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import io.quarkus.narayana.jta.QuarkusTransaction;
 import io.quarkus.test.common.http.TestHTTPEndpoint;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.security.TestSecurity;
 import io.restassured.http.ContentType;
+import java.time.Instant;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.opendc.web.proto.JobState;
+import org.opendc.web.server.model.JobProgress;
 
 /**
  * Test suite for {@link JobResource}.
@@ -68,6 +75,68 @@ public final class JobResourceTest {
         given().get().then().statusCode(200).contentType(ContentType.JSON).body("get(0).state", equalTo("PENDING"));
     }
 
+    /**
+     * Test that tries to claim jobs without token.
+     */
+    @Test
+    public void testClaimWithoutToken() {
+        given().body(new org.opendc.web.proto.runner.Job.Claim(1, 0))
+                .contentType(ContentType.JSON)
+                .when()
+                .post("/claim")
+                .then()
+                .statusCode(401);
+    }
+
+    /**
+     * Test that tries to claim an invalid number of jobs.
+     */
+    @Test
+    @TestSecurity(
+            user = "test_user_1",
+            roles = {"runner"})
+    public void testClaimInvalidLimit() {
+        given().body(new org.opendc.web.proto.runner.Job.Claim(0, 0))
+                .contentType(ContentType.JSON)
+                .when()
+                .post("/claim")
+                .then()
+                .statusCode(400);
+    }
+
+    /**
+     * Test that claims the oldest pending job and verifies that it is not handed out again.
+     */
+    @Test
+    @TestSecurity(
+            user = "test_user_1",
+            roles = {"runner"})
+    public void testClaim() {
+        int id = given().body(new org.opendc.web.proto.runner.Job.Claim(1, 0))
+                .contentType(ContentType.JSON)
+                .when()
+                .post("/claim")
+                .then()
+                .statusCode(200)
+                .contentType(ContentType.JSON)
+                .body("size()", equalTo(1))
+                .body("get(0).id", equalTo(3))
+                .body("get(0).state", equalTo(JobState.CLAIMED.toString()))
+                .extract()
+                .path("get(0).id");
+
+        given().body(new org.opendc.web.proto.runner.Job.Claim(1, 0))
+                .contentType(ContentType.JSON)
+                .when()
+                .post("/claim")
+                .then()
+                .statusCode(200)
+                .contentType(ContentType.JSON)
+                .body("id", not(hasItem(id)));
+
+        given().get("/" + id).then().statusCode(200).body("state", equalTo(JobState.CLAIMED.toString()));
+    }
+
     /**
      * Test that tries to obtain a non-existent job.
      */
@@ -107,6 +176,87 @@ public final class JobResourceTest {
                 .contentType(ContentType.JSON);
     }
 
+    /**
+     * Test that tries to report the progress of a non-existent job.
+     */
+    @Test
+    @TestSecurity(
+            user = "test_user_1",
+            roles = {"runner"})
+    public void testProgressNonExistent() {
+        given().body(List.of(new org.opendc.web.proto.runner.Job.Progress(0, Instant.EPOCH, 1, 0, 0.0, 0.0)))
+                .contentType(ContentType.JSON)
+                .when()
+                .post("/0/progress")
+                .then()
+                .statusCode(404)
+                .contentType(ContentType.JSON);
+    }
+
+    /**
+     * Test that reports the progress of a running job.
+     */
+    @Test
+    @TestSecurity(
+            user = "test_user_1",
+            roles = {"runner"})
+    public void testProgress() {
+        long before = countProgress(5);
+
+        given().body(List.of(
+                        new org.opendc.web.proto.runner.Job.Progress(0, Instant.EPOCH, 10, 1, 100.0, 0.5),
+                        new org.opendc.web.proto.runner.Job.Progress(1, Instant.EPOCH, 10, 2, 200.0, 0.5)))
+                .contentType(ContentType.JSON)
+                .when()
+                .post("/5/progress")
+                .then()
+                .statusCode(200)
+                .contentType(ContentType.JSON)
+                .body("id", equalTo(5));
+
+        assertEquals(before + 2, countProgress(5));
+    }
+
+    /**
+     * Test that tries to report the progress of a finished job.
+     */
+    @Test
+    @TestSecurity(
+            user = "test_user_1",
+            roles = {"runner"})
+    public void testProgressFinished() {
+        given().body(List.of(new org.opendc.web.proto.runner.Job.Progress(0, Instant.EPOCH, 1, 0, 0.0, 0.0)))
+                .contentType(ContentType.JSON)
+                .when()
+                .post("/6/progress")
+                .then()
+                .statusCode(409)
+                .contentType(ContentType.JSON);
+
+        assertEquals(0, countProgress(6));
+    }
+
+    /**
+     * Test that tries to report the progress of a repeat that the job does not have.
+     */
+    @Test
+    @TestSecurity(
+            user = "test_user_1",
+            roles = {"runner"})
+    public void testProgressInvalidRepeat() {
+        long before = countProgress(5);
+
+        given().body(List.of(new org.opendc.web.proto.runner.Job.Progress(2, Instant.EPOCH, 1, 0, 0.0, 0.0)))
+                .contentType(ContentType.JSON)
+                .when()
+                .post("/5/progress")
+                .then()
+                .statusCode(400)
+                .contentType(ContentType.JSON);
+
+        assertEquals(before, countProgress(5));
+    }
+
     /**
      * Test that tries to update a job.
      */
@@ -163,4 +313,11 @@ public final class JobResourceTest {
     public void testGetReportEmpty() {
         given().get("/1/report").then().statusCode(200).contentType(ContentType.JSON);
     }
+
+    /**
+     * Count the progress snapshots that have been persisted for the specified job.
+     */
+    private static long countProgress(long jobId) {
+        return QuarkusTransaction.requiringNew().call(() -> JobProgress.findByJob(jobId).count());
+    }
 }
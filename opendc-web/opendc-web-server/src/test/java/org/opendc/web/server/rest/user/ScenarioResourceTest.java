@@ -127,6 +127,38 @@ public final class ScenarioResourceTest {
                 .body("id", equalTo(1));
     }
 
+    /**
+     * Test that obtains the latest progress of every repeat of a scenario.
+     */
+    @Test
+    @TestSecurity(
+            user = "test_user_1",
+            roles = {"openid"})
+    public void testGetProgress() {
+        given().pathParam("project", "1")
+                .when()
+                .get("/4/progress")
+                .then()
+                .statusCode(200)
+                .contentType(ContentType.JSON)
+                .body("size()", equalTo(2))
+                .body("get(0).repeat", equalTo(0))
+                .body("get(0).tasksCompleted", equalTo(3))
+                .body("get(1).repeat", equalTo(1))
+                .body("get(1).tasksCompleted", equalTo(2));
+    }
+
+    /**
+     * Test that tries to obtain the progress of a non-existent scenario.
+     */
+    @Test
+    @TestSecurity(
+            user = "test_user_1",
+            roles = {"openid"})
+    public void testGetProgressNonExisting() {
+        given().pathParam("project", "1").when().get("/0/progress").then().statusCode(404);
+    }
+
     /**
      * Test to delete a non-existent scenario.
      */